@@ -0,0 +1,132 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.ItemServiceApplication;
+import hello.itemservice.reactive.ReactiveItemServiceApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 등록 API 동시 요청 비교 (두 API 모두 검증하고 저장한다.)
+ * - mvc: /validation/api/items/batch 에 상품 하나 (Tomcat, 요청마다 쓰레드)
+ *   /validation/api/items/add 는 검증만 하고 저장하지 않으므로 비교하지 않는다.
+ *   (요소가 하나면 BatchValidator는 요청 쓰레드에서 바로 검증한다.)
+ * - reactive: /validation/reactive/items/add (Netty, 이벤트 루프)
+ * - 한 번의 측정은 concurrency 개의 요청을 동시에 보내고 모두 응답받을 때까지의 시간이다.
+ * - valid=false 는 검증 오류를 돌려주는 요청이다. (저장하지 않는다. mvc는 index 별 오류, reactive는 첫 번째 오류 하나)
+ *
+ * 두 앱을 같은 JVM에서 차례로 띄운다. (MVC 앱은 reactive 패키지를 스캔하지 않는다.)
+ * (연결 수만큼 파일 디스크립터가 필요하다. ulimit -n 을 충분히 늘린다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReactiveApiBenchmark {
+
+    @Param({"mvc", "reactive"})
+    String api;
+
+    @Param({"1000", "5000"})
+    int concurrency;
+
+    @Param({"true", "false"})
+    boolean valid;
+
+    ConfigurableApplicationContext context;
+    HttpClient client;
+    HttpRequest request;
+
+    @Setup
+    public void setup() {
+        String path;
+        if ("reactive".equals(api)) {
+            context = ReactiveItemServiceApplication.application().run("--server.port=0", "--logging.level.root=warn");
+            path = "/validation/reactive/items/add";
+        } else {
+            SpringApplication application = new SpringApplication(ItemServiceApplication.class);
+            application.setWebApplicationType(WebApplicationType.SERVLET);
+            application.addInitializers(context -> context.getBeanFactory()
+                    .registerSingleton("reactivePackageExcludeFilter", new ReactivePackageExcludeFilter()));
+            context = application.run("--server.port=0", "--logging.level.root=warn",
+                    "--server.tomcat.max-connections=20000", "--server.tomcat.accept-count=1000");
+            path = "/validation/api/items/batch";
+        }
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        String item = valid
+                ? "{\"itemName\":\"itemA\", \"price\":10000, \"quantity\":10}"
+                : "{\"itemName\":\" \", \"price\":1000, \"quantity\":9}";
+        String body = "reactive".equals(api) ? item : "[" + item + "]";
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("status=" + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    /**
+     * MVC 앱(hello.itemservice)의 컴포넌트 스캔에서 WebFlux 앱 클래스를 뺀다.
+     */
+    static final class ReactivePackageExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getClassMetadata().getClassName().startsWith("hello.itemservice.reactive.");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && getClass() == obj.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
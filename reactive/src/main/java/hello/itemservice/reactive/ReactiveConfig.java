@@ -0,0 +1,63 @@
+package hello.itemservice.reactive;
+
+import hello.itemservice.ItemStoreConfig;
+import hello.itemservice.MessageSourceConfig;
+import hello.itemservice.RuleConfig;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemStore;
+import hello.itemservice.reactive.domain.ReactiveItemRepository;
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.ErrorCountingMessageCodesResolver;
+import hello.itemservice.validation.MeteredValidator;
+import hello.itemservice.web.validation.ApiErrorResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 앱 설정 (MVC 앱과 같은 저장소, 메시지, 검증기를 사용한다.)
+ * - 저장소: item.store.* 설정은 MVC 앱과 같다. (ItemStoreConfig)
+ * - 검증 규칙: validation.rules.* 설정은 MVC 앱과 같다. (RuleConfig, @RuleAssert(name = ...)가 참조하는 규칙을 읽는다.)
+ * - 검증기: MVC API(@FailFast)와 같이 첫 번째 오류에서 멈추는 검증기 (필드 제약 + @TotalPriceMin)
+ * - 변경 로그를 남기는 저장소(item.store.durable=true)는 파일에 쓰는 동안 막히므로 이벤트 루프가 아닌 boundedElastic에서 호출한다.
+ */
+@Configuration
+@Import({ItemStoreConfig.class, MessageSourceConfig.class, RuleConfig.class})
+public class ReactiveConfig {
+
+    @Bean
+    public ItemRepository itemRepository(ItemStore itemStore) {
+        return new ItemRepository(itemStore);
+    }
+
+    @Bean
+    public ReactiveItemRepository reactiveItemRepository(ItemRepository itemRepository,
+                                                         @Value("${item.store.durable:false}") boolean durable) {
+        Scheduler scheduler = durable ? Schedulers.boundedElastic() : Schedulers.immediate();
+        return new ReactiveItemRepository(itemRepository, scheduler, ReactiveItemRepository.DEFAULT_BATCH_SIZE);
+    }
+
+    @Bean
+    public SmartValidator failFastValidator(LocalValidatorFactoryBean validatorFactory, MeterRegistry meterRegistry) {
+        return new MeteredValidator(CompiledValidatorAdapter.failFast(validatorFactory), meterRegistry);
+    }
+
+    @Bean
+    public MessageCodesResolver messageCodesResolver(MeterRegistry meterRegistry) {
+        return new ErrorCountingMessageCodesResolver(new CachingMessageCodesResolver(), meterRegistry);
+    }
+
+    @Bean
+    public ApiErrorResolver apiErrorResolver(MessageSource messageSource) {
+        return new ApiErrorResolver(messageSource);
+    }
+}
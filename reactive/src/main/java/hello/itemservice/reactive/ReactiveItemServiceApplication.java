@@ -0,0 +1,26 @@
+package hello.itemservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+import java.util.Map;
+
+/**
+ * 상품 등록 API의 WebFlux 버전 (/validation/reactive/items/add)
+ * - 설정 파일은 reactive.properties 를 읽는다. (MVC 앱의 application.properties와 같은 클래스패스에 있어도 섞이지 않는다.)
+ */
+@SpringBootApplication
+public class ReactiveItemServiceApplication {
+
+	public static void main(String[] args) {
+		application().run(args);
+	}
+
+	public static SpringApplication application() {
+		SpringApplication application = new SpringApplication(ReactiveItemServiceApplication.class);
+		application.setWebApplicationType(WebApplicationType.REACTIVE);
+		application.setDefaultProperties(Map.of("spring.config.name", "reactive"));
+		return application;
+	}
+}
@@ -0,0 +1,64 @@
+package hello.itemservice.reactive.domain;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+/**
+ * ItemRepository를 Mono / Flux로 감싼 저장소
+ * - 저장소 호출은 scheduler에서 실행한다. (막히는 저장소라면 boundedElastic, 메모리 저장소라면 immediate)
+ * - 여러 건을 읽고 쓸 때 구독자가 요청(request(n))한 만큼만 진행한다. (backpressure)
+ *   findAll: 요청한 만큼만 저장소에서 읽는다. (전체 목록을 만들지 않는다.)
+ *   saveAll: batchSize 개씩 모아 한 번에 저장한다. 저장한 상품을 구독자가 모두 받아 가기 전에는 다음 묶음을 저장하지 않는다.
+ *            (입력은 다음 한 묶음까지만 미리 받는다.)
+ */
+public class ReactiveItemRepository {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ItemRepository itemRepository;
+    private final Scheduler scheduler;
+    private final int batchSize;
+
+    public ReactiveItemRepository(ItemRepository itemRepository, Scheduler scheduler, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다. batchSize=" + batchSize);
+        }
+        this.itemRepository = itemRepository;
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+    }
+
+    public Mono<Item> save(Item item) {
+        return Mono.fromCallable(() -> itemRepository.save(item)).subscribeOn(scheduler);
+    }
+
+    /**
+     * @return 상품이 없으면 빈 Mono
+     */
+    public Mono<Item> findById(long id) {
+        return Mono.fromCallable(() -> itemRepository.findById(id)).subscribeOn(scheduler);
+    }
+
+    public Flux<Item> findAll(ItemSearchCond cond) {
+        return Flux.fromStream(() -> itemRepository.stream(cond)).subscribeOn(scheduler);
+    }
+
+    public Flux<Item> saveAll(Publisher<Item> items) {
+        return Flux.from(items)
+                .buffer(batchSize)
+                .concatMap(this::saveBatch, 1);
+    }
+
+    private Flux<Item> saveBatch(List<Item> items) {
+        return Mono.fromCallable(() -> itemRepository.saveAll(items))
+                .subscribeOn(scheduler)
+                .flatMapIterable(saved -> saved);
+    }
+}
@@ -0,0 +1,89 @@
+package hello.itemservice.reactive.web;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.reactive.domain.ReactiveItemRepository;
+import hello.itemservice.web.validation.ApiErrorResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+/**
+ * ValidationItemApiController.addItem의 WebFlux 버전
+ * - 본문은 이벤트 루프에서 받은 만큼 모았다가 Jackson으로 읽는다. (요청을 기다리는 동안 쓰레드를 붙잡지 않는다.)
+ * - 검증과 응답 모양은 MVC API와 같다. (첫 번째 오류 하나, ApiError 목록 / 성공하면 form)
+ * - 본문이 spring.codec.max-in-memory-size 보다 크면 413, JSON이 올바르지 않으면 400
+ */
+@Slf4j
+@RestController
+@RequestMapping("/validation/reactive/items")
+public class ReactiveItemApiController {
+
+    private final ReactiveItemRepository itemRepository;
+    private final SmartValidator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ApiErrorResolver apiErrorResolver;
+    private final long maxBodySize;
+
+    public ReactiveItemApiController(ReactiveItemRepository itemRepository,
+                                     SmartValidator failFastValidator,
+                                     MessageCodesResolver messageCodesResolver,
+                                     ApiErrorResolver apiErrorResolver,
+                                     @Value("${spring.codec.max-in-memory-size:4KB}") DataSize maxBodySize) {
+        this.itemRepository = itemRepository;
+        this.validator = failFastValidator;
+        this.messageCodesResolver = messageCodesResolver;
+        this.apiErrorResolver = apiErrorResolver;
+        this.maxBodySize = maxBodySize.toBytes();
+    }
+
+    @PostMapping("/add")
+    public Mono<Object> addItem(@RequestBody Mono<ItemSaveForm> body, ServerWebExchange exchange) {
+        if (exchange.getRequest().getHeaders().getContentLength() > maxBodySize) {
+            return Mono.error(tooLarge()); // 본문을 읽기 전에 거절한다.
+        }
+        return body
+                .onErrorMap(DataBufferLimitException.class, e -> tooLarge())
+                .flatMap(form -> {
+                    BindingResult bindingResult = validate(form);
+                    if (bindingResult.hasErrors()) {
+                        log.debug("검증 오류 발생 errors = {}", bindingResult);
+                        return Mono.<Object>just(apiErrorResolver.resolve(bindingResult.getAllErrors(), locale(exchange)));
+                    }
+                    return itemRepository.save(new Item(form.getItemName(), form.getPrice(), form.getQuantity()))
+                            .<Object>thenReturn(form);
+                });
+    }
+
+    private BindingResult validate(ItemSaveForm form) {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        validator.validate(form, bindingResult);
+        return bindingResult;
+    }
+
+    private static Locale locale(ServerWebExchange exchange) {
+        Locale locale = exchange.getLocaleContext().getLocale();
+        return locale != null ? locale : Locale.getDefault();
+    }
+
+    private ResponseStatusException tooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "요청 본문은 최대 " + maxBodySize + " byte 까지 허용합니다.");
+    }
+}
@@ -0,0 +1,68 @@
+package hello.itemservice.reactive.domain;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
+import hello.itemservice.domain.item.MapItemStore;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveItemRepositoryTest {
+
+    ItemRepository itemRepository = new ItemRepository(new MapItemStore());
+    ReactiveItemRepository reactiveItemRepository =
+            new ReactiveItemRepository(itemRepository, Schedulers.immediate(), 10);
+
+    @Test
+    void saveAndFind() {
+        Item item = reactiveItemRepository.save(new Item("itemA", 10000, 10)).block();
+
+        StepVerifier.create(reactiveItemRepository.findById(item.getId()))
+                .expectNextMatches(found -> found.getItemName().equals("itemA"))
+                .verifyComplete();
+        StepVerifier.create(reactiveItemRepository.findById(item.getId() + 1000))
+                .verifyComplete();
+    }
+
+    @Test
+    void saveAllRequestsOneBatchAtATime() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Flux<Item> items = Flux.range(0, 35)
+                .map(i -> new Item("item" + i, 10000, 10))
+                .doOnRequest(requests::add);
+
+        StepVerifier.create(reactiveItemRepository.saveAll(items), 0)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .then(() -> assertThat(itemRepository.findAll()).hasSize(10)) // 한 묶음만 저장했다.
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(34)
+                .verifyComplete();
+
+        assertThat(itemRepository.findAll()).hasSize(35);
+        assertThat(requests).allMatch(n -> n <= 10);
+    }
+
+    @Test
+    void findAllReadsOnlyWhatIsRequested() {
+        for (int i = 0; i < 100; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        StepVerifier.create(reactiveItemRepository.findAll(new ItemSearchCond()), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(reactiveItemRepository.findAll(new ItemSearchCond()))
+                .expectNextCount(100)
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,90 @@
+package hello.itemservice.reactive.web;
+
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.validation.rule.RuleRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * WebFlux 상품 등록 API (/validation/reactive/items/add)
+ * - 응답 모양과 상태 코드는 MVC API(FailFastApiTest)와 같다.
+ */
+@SpringBootTest(properties = {"spring.config.name=reactive",
+        "validation.rules.location=classpath:validation-rules-test.properties"})
+@AutoConfigureWebTestClient
+class ReactiveItemApiControllerTest {
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void success() {
+        int before = itemRepository.findAll().size();
+
+        post("{\"itemName\":\"hello\", \"price\":1000, \"quantity\":10}")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.itemName").isEqualTo("hello");
+
+        assertThat(itemRepository.findAll()).hasSize(before + 1);
+    }
+
+    @Test
+    void onlyFirstError() {
+        post("{\"itemName\":\" \", \"quantity\":10000}")
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].field").isEqualTo("price")
+                .jsonPath("$[0].code").isEqualTo("NotNull");
+    }
+
+    @Test
+    void totalPriceMin() {
+        webTestClient.post().uri("/validation/reactive/items/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "ko")
+                .bodyValue("{\"itemName\":\"hello\", \"price\":1000, \"quantity\":9}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].field").doesNotExist()
+                .jsonPath("$[0].code").isEqualTo("totalPriceMin")
+                .jsonPath("$[0].message").value(message -> assertThat((String) message).startsWith("전체 가격은 10,000원 이상"));
+    }
+
+    @Test
+    void rulesAreLoaded() {
+        assertThat(RuleRegistry.global().getRules().names()).contains("itemTotalPrice");
+    }
+
+    @Test
+    void tooLargeBody() {
+        post("{\"itemName\":\"" + "a".repeat(8 * 1024) + "\", \"price\":1000, \"quantity\":10}")
+                .expectStatus().isEqualTo(413);
+    }
+
+    @Test
+    void malformedBody() {
+        for (String body : new String[]{"[1, 2, 3]", "{\"itemName\":\"a\"", "{\"itemName\":\"a\"}}", "hello"}) {
+            post(body).expectStatus().isBadRequest();
+        }
+    }
+
+    private WebTestClient.ResponseSpec post(String body) {
+        return webTestClient.post().uri("/validation/reactive/items/add")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+}
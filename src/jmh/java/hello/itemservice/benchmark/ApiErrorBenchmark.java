@@ -0,0 +1,75 @@
+package hello.itemservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.message.PrecompiledMessageSource;
+import hello.itemservice.web.validation.ApiErrorResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 오류 응답 직렬화
+ * - objectErrors: 기존 방식. ObjectError / FieldError를 그대로 직렬화한다.
+ * - apiErrors: 메시지를 해석해서 ApiError(field, code, message, rejectedValue)로 직렬화한다.
+ * 응답 크기는 setup에서 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiErrorBenchmark {
+
+    ObjectMapper objectMapper;
+    ApiErrorResolver apiErrorResolver;
+    List<ObjectError> errors;
+
+    @Setup
+    public void setup() throws IOException {
+        LocaleContextHolder.setDefaultLocale(Locale.KOREA);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        PrecompiledMessageSource messageSource = new PrecompiledMessageSource(new String[]{"messages", "errors"},
+                StandardCharsets.UTF_8, false);
+        messageSource.precompile(Locale.KOREA);
+        apiErrorResolver = new ApiErrorResolver(messageSource);
+
+        LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(10000);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 0}, null);
+        errors = bindingResult.getAllErrors();
+        validator.destroy();
+
+        System.out.printf("%nobjectErrors=%,d bytes, apiErrors=%,d bytes%n", objectErrors().length, apiErrors().length);
+    }
+
+    @Benchmark
+    public byte[] objectErrors() throws IOException {
+        return objectMapper.writeValueAsBytes(errors);
+    }
+
+    @Benchmark
+    public byte[] apiErrors() throws IOException {
+        return objectMapper.writeValueAsBytes(apiErrorResolver.resolve(errors));
+    }
+}
@@ -0,0 +1,78 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.validation.BatchValidator;
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchValidator 병렬 처리 확장성
+ * - 상품 100만 건(10건 중 1건은 검증 실패)을 parallelism 별로 검증한다.
+ * - parallelism=0 은 CPU 코어 수. 코어 수까지는 parallelism에 거의 비례해서 빨라져야 한다.
+ *   (요소 별 BindingResult를 만들므로 gc 프로파일러의 할당량도 함께 본다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class BatchValidatorBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"1", "2", "4", "8", "0"})
+    int parallelism;
+
+    LocalValidatorFactoryBean beanValidator;
+    ForkJoinPool pool;
+    BatchValidator batchValidator;
+    List<ItemSaveForm> forms;
+
+    @Setup
+    public void setup() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        batchValidator = new BatchValidator(new CompiledValidatorAdapter(beanValidator),
+                new CachingMessageCodesResolver(), pool);
+
+        forms = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            ItemSaveForm form = new ItemSaveForm();
+            boolean valid = i % 10 != 0;
+            form.setItemName(valid ? "item" + i : " ");
+            form.setPrice(valid ? 10000 + i % 1000 : 10);
+            form.setQuantity(1 + i % 100);
+            forms.add(form);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+        beanValidator.destroy();
+    }
+
+    @Benchmark
+    public List<Errors> validate() {
+        return batchValidator.validate(forms, "itemSaveForm");
+    }
+}
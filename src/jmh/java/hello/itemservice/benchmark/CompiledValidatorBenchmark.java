@@ -0,0 +1,89 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 검증기(CompiledValidatorAdapter)와 기본 경로(LocalValidatorFactoryBean)를 요청 하나 단위로 비교한다.
+ * 요청마다 새 BindingResult를 만드는 것까지 포함한다. (gc 프로파일러의 gc.alloc.rate.norm 으로 할당량을 비교한다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompiledValidatorBenchmark {
+
+    @Param({"true", "false"})
+    boolean valid;
+
+    LocalValidatorFactoryBean beanValidator;
+    CompiledValidatorAdapter compiledValidator;
+
+    ItemSaveForm saveForm;
+    ItemUpdateForm updateForm;
+
+    @Setup
+    public void setup() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        compiledValidator = new CompiledValidatorAdapter(beanValidator);
+
+        saveForm = new ItemSaveForm();
+        saveForm.setItemName(valid ? "itemA" : " ");
+        saveForm.setPrice(valid ? 10000 : 0);
+        saveForm.setQuantity(valid ? 10 : 10000);
+
+        updateForm = new ItemUpdateForm();
+        updateForm.setId(valid ? 1L : null);
+        updateForm.setItemName(saveForm.getItemName());
+        updateForm.setPrice(saveForm.getPrice());
+        updateForm.setQuantity(saveForm.getQuantity());
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.destroy();
+    }
+
+    @Benchmark
+    public BindingResult beanValidationSaveForm() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(saveForm, "item");
+        beanValidator.validate(saveForm, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult compiledSaveForm() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(saveForm, "item");
+        compiledValidator.validate(saveForm, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult beanValidationUpdateForm() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(updateForm, "item");
+        beanValidator.validate(updateForm, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult compiledUpdateForm() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(updateForm, "item");
+        compiledValidator.validate(updateForm, bindingResult);
+        return bindingResult;
+    }
+}
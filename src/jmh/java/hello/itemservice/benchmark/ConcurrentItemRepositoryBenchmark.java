@@ -0,0 +1,63 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드에서 동시에 저장/수정할 때의 처리량 (ItemRepositoryTest에서 옮겨 왔다.)
+ * - saveSingleThread / saveAllThreads: 스레드 수에 비례해서 처리량이 늘어야 한다. (id 발급, 인덱스 갱신 경합)
+ * - updateContended: 모든 스레드가 같은 상품을 버전 조건부로 수정한다. (충돌하면 다시 읽는다.)
+ * 저장 연산으로 상품 수가 계속 늘어나지 않도록 측정 회차(iteration)마다 저장소를 다시 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConcurrentItemRepositoryBenchmark {
+
+    ItemRepository itemRepository;
+    Long counterId;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        itemRepository = new ItemRepository();
+        counterId = itemRepository.save(new Item("counter", 10000, 0)).getId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Item saveSingleThread() {
+        return itemRepository.save(new Item("item", 10000, 10));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Item saveAllThreads() {
+        return itemRepository.save(new Item("item", 10000, 10));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int updateContended() {
+        int conflicts = 0;
+        while (true) {
+            Item current = itemRepository.findById(counterId);
+            Item updateParam = new Item(current.getItemName(), current.getPrice(), current.getQuantity() + 1);
+            updateParam.setVersion(current.getVersion());
+            if (itemRepository.update(counterId, updateParam)) {
+                return conflicts;
+            }
+            conflicts++;
+        }
+    }
+}
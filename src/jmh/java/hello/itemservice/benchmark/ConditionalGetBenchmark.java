@@ -0,0 +1,83 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.ItemServiceApplication;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 화면을 다시 요청하는 사용자 (조건부 GET)
+ * - full: If-None-Match 없이 요청한다. (조회 + Thymeleaf 렌더링)
+ * - revalidate: 처음 받은 ETag로 요청한다. (304, 조회/렌더링 없음)
+ * - page=list 는 상품 목록 첫 페이지, page=item 은 상품 상세
+ *
+ * 실제 서버(임의 포트)에 HTTP로 요청하므로 요청 당 CPU 사용량은 -prof gc, -prof stack 등으로 함께 본다.
+ * (-t 옵션으로 동시 사용자 수를 늘려 처리량을 비교한다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConditionalGetBenchmark {
+
+    @Param({"list", "item"})
+    String page;
+
+    ConfigurableApplicationContext context;
+    HttpClient client;
+    HttpRequest fullRequest;
+    HttpRequest revalidateRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        context = SpringApplication.run(ItemServiceApplication.class, "--server.port=0", "--logging.level.root=warn");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        ItemRepository itemRepository = context.getBean(ItemRepository.class);
+        Item item = null;
+        for (int i = 0; i < 20; i++) {
+            item = itemRepository.save(new Item("item" + i, 10000 + i, 10));
+        }
+
+        URI uri = URI.create("http://localhost:" + port + "/validation/v4/items"
+                + ("item".equals(page) ? "/" + item.getId() : ""));
+        client = HttpClient.newHttpClient();
+        fullRequest = HttpRequest.newBuilder(uri).build();
+        HttpResponse<Void> first = client.send(fullRequest, HttpResponse.BodyHandlers.discarding());
+        String etag = first.headers().firstValue("ETag")
+                .orElseThrow(() -> new IllegalStateException("ETag가 없습니다. uri=" + uri));
+        revalidateRequest = HttpRequest.newBuilder(uri).header("If-None-Match", etag).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int full() throws IOException, InterruptedException {
+        return client.send(fullRequest, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+
+    @Benchmark
+    public int revalidate() throws IOException, InterruptedException {
+        return client.send(revalidateRequest, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+    }
+}
@@ -0,0 +1,74 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.DurableItemStore;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.MapItemStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재시작 복구 시간 (스냅숏 + 그 뒤의 로그 10%)
+ * - 저장소 복구(DurableItemStore)와 보조 인덱스 재구성(ItemRepository 생성자)을 합친 시작 시간이다.
+ * - 목표: 100만 건에서 1초보다 충분히 짧아야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class DurableRecoveryBenchmark {
+
+    @Param({"1000000"})
+    int items;
+
+    Path directory;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("durable-recovery");
+        try (DurableItemStore store = new DurableItemStore(new MapItemStore(), directory)) {
+            for (int i = 1; i <= items; i++) {
+                store.put(item(i, "item" + (i % 1000), 1000 + i % 1000, i % 9999));
+            }
+            store.snapshot();
+            for (int i = 1; i <= items / 10; i++) {
+                store.put(item(i, "updated", 2000, 1));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public ItemRepository recover() throws IOException {
+        try (DurableItemStore store = new DurableItemStore(new MapItemStore(), directory)) {
+            return new ItemRepository(store);
+        }
+    }
+
+    private static Item item(long id, String itemName, Integer price, Integer quantity) {
+        Item item = new Item(itemName, price, quantity);
+        item.setId(id);
+        item.setVersion(1L);
+        return item;
+    }
+}
@@ -0,0 +1,111 @@
+package hello.itemservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.web.validation.JsonShape;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 요청이 몰릴 때 /validation/api/items/add 한 요청의 처리량 (바인딩 -> 검증 -> 오류 응답 직렬화)
+ * - exhaustive: 기존 방식. 본문을 끝까지 바인딩하고 모든 오류를 모아서 돌려준다.
+ * - failFast: @MaxBodySize + @FailFast 방식. 크기/JSON 모양을 먼저 확인하고, 검증은 첫 오류에서 멈춘다.
+ *
+ * payload
+ * - invalid: 올바른 JSON이지만 모든 필드가 잘못된 값 (긴 공백 상품명 포함)
+ * - malformed: 깊게 중첩된 배열로 채운 JSON
+ * - oversized: 64KB 본문
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FailFastBenchmark {
+
+    private static final int MAX_BODY_SIZE = 4 * 1024;
+    private static final int MAX_DEPTH = 8;
+    private static final byte[] REJECTED = "{\"status\":400}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"invalid", "malformed", "oversized"})
+    String payload;
+
+    LocalValidatorFactoryBean validatorFactory;
+    SmartValidator validator;
+    SmartValidator failFastValidator;
+    ObjectMapper objectMapper;
+    ObjectReader reader;
+    byte[] body;
+
+    @Setup
+    public void setup() {
+        validatorFactory = new LocalValidatorFactoryBean();
+        validatorFactory.afterPropertiesSet();
+        validator = new CompiledValidatorAdapter(validatorFactory);
+        failFastValidator = CompiledValidatorAdapter.failFast(validatorFactory);
+
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(ItemSaveForm.class);
+        body = body(payload).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.destroy();
+    }
+
+    @Benchmark
+    public byte[] exhaustive() throws IOException {
+        return bindAndValidate(validator);
+    }
+
+    @Benchmark
+    public byte[] failFast() throws IOException {
+        if (body.length > MAX_BODY_SIZE || !JsonShape.isWellFormed(body, false, MAX_DEPTH)) {
+            return REJECTED;
+        }
+        return bindAndValidate(failFastValidator);
+    }
+
+    private byte[] bindAndValidate(SmartValidator validator) throws IOException {
+        ItemSaveForm form;
+        try {
+            form = reader.readValue(body);
+        } catch (JsonProcessingException e) {
+            return REJECTED;
+        }
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+        return objectMapper.writeValueAsBytes(bindingResult.getAllErrors());
+    }
+
+    private static String body(String payload) {
+        switch (payload) {
+            case "invalid":
+                return "{\"itemName\":\"" + " ".repeat(2000) + "\", \"quantity\":10000}";
+            case "malformed":
+                return "{\"itemName\":\"itemA\", \"price\":" + "[".repeat(2000) + "}";
+            case "oversized":
+                return "{\"itemName\":\"" + "a".repeat(64 * 1024) + "\", \"price\":1000, \"quantity\":10}";
+            default:
+                throw new IllegalArgumentException(payload);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.web.validation.FormArgumentResolver;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormBinder;
+import hello.itemservice.web.validation.form.ItemUpdateFormBinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 등록 폼 바인딩 + 검증 (@Validated @ModelAttribute ItemSaveForm, BindingResult)
+ * - defaultBinder: ServletModelAttributeMethodProcessor (WebDataBinder, BeanWrapper, ConversionService)
+ * - formBinder: FormArgumentResolver (폼 전용 바인더, 오류가 없으면 BindingResult 내부를 만들지 않는다.)
+ * - valid=false 는 price=abc (typeMismatch) + 상품명 공백 (NotBlank)
+ *
+ * 요청 당 할당량은 -prof gc 로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormBinderBenchmark {
+
+    @Param({"true", "false"})
+    boolean valid;
+
+    LocalValidatorFactoryBean beanValidator;
+    ServletModelAttributeMethodProcessor defaultResolver;
+    FormArgumentResolver formResolver;
+    ServletRequestDataBinderFactory binderFactory;
+    MethodParameter parameter;
+    ServletWebRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        CompiledValidatorAdapter validator = new CompiledValidatorAdapter(beanValidator);
+        MessageCodesResolver messageCodesResolver = new CachingMessageCodesResolver();
+
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        initializer.setValidator(validator);
+        initializer.setMessageCodesResolver(messageCodesResolver);
+        binderFactory = new ServletRequestDataBinderFactory(null, initializer);
+
+        defaultResolver = new ServletModelAttributeMethodProcessor(false);
+        formResolver = new FormArgumentResolver(List.of(new ItemSaveFormBinder(), new ItemUpdateFormBinder()),
+                validator, messageCodesResolver, Collections.emptyList());
+        parameter = new MethodParameter(
+                Handler.class.getMethod("addItem", ItemSaveForm.class, BindingResult.class), 0);
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/validation/v4/items/add");
+        servletRequest.addParameter("itemName", valid ? "itemA" : " ");
+        servletRequest.addParameter("price", valid ? "10000" : "abc");
+        servletRequest.addParameter("quantity", "10");
+        request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.destroy();
+    }
+
+    @Benchmark
+    public Object defaultBinder() throws Exception {
+        return defaultResolver.resolveArgument(parameter, new ModelAndViewContainer(), request, binderFactory);
+    }
+
+    @Benchmark
+    public Object formBinder() throws Exception {
+        return formResolver.resolveArgument(parameter, new ModelAndViewContainer(), request, binderFactory);
+    }
+
+    public static class Handler {
+
+        public String addItem(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult) {
+            return null;
+        }
+    }
+}
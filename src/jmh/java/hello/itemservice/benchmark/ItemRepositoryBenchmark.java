@@ -0,0 +1,139 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.ColumnarItemStore;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
+import hello.itemservice.domain.item.MapItemStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemRepository 연산별 벤치마크
+ * - 저장 엔진(map, columnar)과 상품 수를 바꿔 가며 측정한다.
+ * - 저장 연산으로 상품 수가 계속 늘어나지 않도록 측정 회차(iteration)마다 저장소를 다시 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemRepositoryBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"map", "columnar"})
+    String store;
+
+    @Param({"100000"})
+    int items;
+
+    ItemRepository itemRepository;
+    long[] ids;
+    long middleId;
+    int cursor;
+    ItemSearchCond cond;
+    ItemSearchCond broadCond;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        itemRepository = new ItemRepository("columnar".equals(store) ? new ColumnarItemStore() : new MapItemStore());
+        ids = new long[items];
+        for (int i = 0; i < items; i++) {
+            ids[i] = itemRepository.save(newItem(i)).getId();
+        }
+        middleId = ids[items / 2];
+        cond = new ItemSearchCond("item1", 10000, 20000);
+        broadCond = new ItemSearchCond(null, 1000, 500_000); // 약 절반이 일치한다.
+    }
+
+    @Benchmark
+    public Item save() {
+        return itemRepository.save(newItem(cursor++));
+    }
+
+    @Benchmark
+    public List<Item> saveAll() {
+        List<Item> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(newItem(cursor++));
+        }
+        return itemRepository.saveAll(batch);
+    }
+
+    @Benchmark
+    public Item findById() {
+        return itemRepository.findById(nextId());
+    }
+
+    @Benchmark
+    public boolean update() {
+        int i = cursor++;
+        return itemRepository.update(nextId(), newItem(i));
+    }
+
+    @Benchmark
+    public List<Item> findAll() {
+        return itemRepository.findAll();
+    }
+
+    @Benchmark
+    public List<Item> findFirstPage() {
+        return itemRepository.findPage(null, 20);
+    }
+
+    @Benchmark
+    public List<Item> findMiddlePage() {
+        return itemRepository.findPage(middleId, 20);
+    }
+
+    @Benchmark
+    public List<Item> findPageWithCondition() {
+        return itemRepository.findPage(cond, null, 20);
+    }
+
+    /**
+     * 넓은 가격 범위의 중간 페이지 (일치하는 상품 수가 아니라 페이지 크기에 비례해야 한다.)
+     */
+    @Benchmark
+    public List<Item> findMiddlePageWithCondition() {
+        return itemRepository.findPage(broadCond, middleId, 20);
+    }
+
+    @Benchmark
+    public List<Item> findByPriceBetween() {
+        return itemRepository.findByPriceBetween(10000, 10100);
+    }
+
+    @Benchmark
+    public List<Item> findByQuantityBetween() {
+        return itemRepository.findByQuantityBetween(10, 11);
+    }
+
+    @Benchmark
+    public List<Item> findByNamePrefix() {
+        return itemRepository.findByNamePrefix("item123");
+    }
+
+    @Benchmark
+    public long stream() {
+        return itemRepository.stream().count();
+    }
+
+    private long nextId() {
+        return ids[(cursor++ & Integer.MAX_VALUE) % ids.length];
+    }
+
+    private static Item newItem(int i) {
+        return new Item("item" + (i % 10_000), 1000 + (i % 100_000) * 10, 1 + i % 9999);
+    }
+}
@@ -0,0 +1,115 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.MapItemStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapItemStore(MVCC) 읽기 처리량이 쓰기 부하에서 크게 떨어지지 않는지 본다. (MapItemStoreTest에서 옮겨 왔다.)
+ * - readOnly: 읽기 스레드 4개
+ * - readWrite: 읽기 스레드 4개 + put 스레드 2개
+ * - readBatchWrite: 읽기 스레드 4개 + put 스레드 2개 + putAll(1,000건) 스레드 1개
+ *   (put이 큰 putAll 뒤에서 공개 차례를 기다리는 동안 CPU를 쓰지 않아야 읽기가 덜 느려진다.)
+ * 읽기 처리량은 그룹 결과의 read 항목으로 비교한다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapItemStoreBenchmark {
+
+    private static final int ITEMS = 10_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int BATCH_SIZE = 1000;
+
+    MapItemStore store;
+
+    @Setup
+    public void setup() {
+        store = new MapItemStore();
+        for (long id = 1; id <= ITEMS; id++) {
+            store.put(item(id, 0));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        long after;
+        int round;
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(4)
+    public List<Item> read(Cursor cursor) {
+        return readPage(cursor);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(4)
+    public List<Item> readWithWriters(Cursor cursor) {
+        return readPage(cursor);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public void write(Cursor cursor) {
+        writeOne(cursor);
+    }
+
+    @Benchmark
+    @Group("readBatchWrite")
+    @GroupThreads(4)
+    public List<Item> readWithBatchWriters(Cursor cursor) {
+        return readPage(cursor);
+    }
+
+    @Benchmark
+    @Group("readBatchWrite")
+    @GroupThreads(2)
+    public void writeBehindBatch(Cursor cursor) {
+        writeOne(cursor);
+    }
+
+    @Benchmark
+    @Group("readBatchWrite")
+    @GroupThreads(1)
+    public void writeBatch(Cursor cursor) {
+        int round = ++cursor.round;
+        List<Item> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(item(1 + ((long) round * BATCH_SIZE + i) % ITEMS, round));
+        }
+        store.putAll(batch);
+    }
+
+    private List<Item> readPage(Cursor cursor) {
+        List<Item> page = store.findPage(cursor.after, PAGE_SIZE);
+        cursor.after = page.size() < PAGE_SIZE ? 0 : page.get(page.size() - 1).getId();
+        return page;
+    }
+
+    private void writeOne(Cursor cursor) {
+        int round = ++cursor.round;
+        store.put(item(1 + round % ITEMS, round));
+    }
+
+    private static Item item(long id, int round) {
+        Item item = new Item(String.valueOf(round), round, round);
+        item.setId(id);
+        return item;
+    }
+}
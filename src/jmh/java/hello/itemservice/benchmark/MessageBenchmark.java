@@ -0,0 +1,123 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.message.PrecompiledMessageSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 코드/메시지 경로 벤치마크
+ * - DefaultMessageCodesResolver.resolveMessageCodes(): reject() / rejectValue() 마다 호출된다.
+ * - errors.properties 메시지 해석: 오류 화면을 그릴 때 th:errors 마다 호출된다.
+ *
+ * 메시지 소스는 스프링 부트 설정(spring.messages.basename=messages,errors)과 같게 만든다.
+ * precompiled* 는 같은 오류를 미리 펼친 테이블(PrecompiledMessageSource)로 찾는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageBenchmark {
+
+    MessageCodesResolver codesResolver;
+    ResourceBundleMessageSource messageSource;
+    PrecompiledMessageSource precompiledMessageSource;
+
+    ObjectError totalPriceMin;
+    FieldError requiredItemName;
+    FieldError rangePrice;
+    FieldError notBlankItemName;
+
+    @Setup
+    public void setup() {
+        codesResolver = new DefaultMessageCodesResolver();
+
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages", "errors");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+
+        precompiledMessageSource = new PrecompiledMessageSource(new String[]{"messages", "errors"},
+                StandardCharsets.UTF_8, false);
+        precompiledMessageSource.precompile(Locale.KOREA);
+
+        totalPriceMin = new ObjectError("item", codesResolver.resolveMessageCodes("totalPriceMin", "item"),
+                new Object[]{10000, 0}, null);
+        requiredItemName = new FieldError("item", "itemName", " ", false,
+                codesResolver.resolveMessageCodes("required", "item", "itemName", String.class), null, null);
+        rangePrice = new FieldError("item", "price", 0, false,
+                codesResolver.resolveMessageCodes("range", "item", "price", Integer.class),
+                new Object[]{1000, 1000000}, null);
+
+        // Bean Validation 오류: 앞의 코드들은 없고 마지막 "NotBlank" 에서 찾는다. 인자로 필드명(resolvable)이 들어간다.
+        MessageSourceResolvable fieldName = new DefaultMessageSourceResolvable(
+                new String[]{"itemSaveForm.itemName", "itemName"}, "itemName");
+        notBlankItemName = new FieldError("itemSaveForm", "itemName", " ", false,
+                codesResolver.resolveMessageCodes("NotBlank", "itemSaveForm", "itemName", String.class),
+                new Object[]{fieldName}, "공백일 수 없습니다");
+    }
+
+    @Benchmark
+    public String[] resolveObjectCodes() {
+        return codesResolver.resolveMessageCodes("totalPriceMin", "item");
+    }
+
+    @Benchmark
+    public String[] resolveFieldCodes() {
+        return codesResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+    }
+
+    @Benchmark
+    public String messageObjectError() {
+        return messageSource.getMessage(totalPriceMin, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageFieldErrorWithoutArgs() {
+        return messageSource.getMessage(requiredItemName, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageFieldErrorWithArgs() {
+        return messageSource.getMessage(rangePrice, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageBeanValidationError() {
+        return messageSource.getMessage(notBlankItemName, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String precompiledMessageObjectError() {
+        return precompiledMessageSource.getMessage(totalPriceMin, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String precompiledMessageFieldErrorWithoutArgs() {
+        return precompiledMessageSource.getMessage(requiredItemName, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String precompiledMessageFieldErrorWithArgs() {
+        return precompiledMessageSource.getMessage(rangePrice, Locale.KOREA);
+    }
+
+    @Benchmark
+    public String precompiledMessageBeanValidationError() {
+        return precompiledMessageSource.getMessage(notBlankItemName, Locale.KOREA);
+    }
+}
@@ -0,0 +1,78 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.validation.TotalPriceMinValidator;
+import hello.itemservice.validation.rule.CompiledRule;
+import hello.itemservice.validation.rule.RuleExpression;
+import hello.itemservice.validation.rule.RuleHandle;
+import hello.itemservice.validation.rule.RuleRegistry;
+import hello.itemservice.validation.rule.RuleSet;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복합 룰 한 번 평가 비용 (가격 * 수량 >= 10000)
+ * - handWritten: 직접 작성한 자바 코드 (TotalPriceMinValidator.totalPrice)
+ * - compiledRule: 같은 규칙을 RuleExpression으로 컴파일한 람다 트리
+ * - inlineHandle / namedHandle: @RuleAssert 검증기가 쓰는 경로 (대상 클래스, 규칙 묶음 확인 포함)
+ * 세 규칙 경로가 handWritten과 같은 수준(수 ns)이어야 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleAssertBenchmark {
+
+    private static final String RULE = "price * quantity >= 10000";
+
+    @Param({"true", "false"})
+    boolean totalPriceOk;
+
+    ItemSaveForm form;
+    CompiledRule compiledRule;
+    RuleHandle inlineHandle;
+    RuleHandle namedHandle;
+
+    @Setup
+    public void setup() {
+        form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(totalPriceOk ? 10 : 9);
+
+        compiledRule = RuleExpression.parse(RULE).compile(ItemSaveForm.class);
+        RuleRegistry registry = new RuleRegistry();
+        registry.setRules(RuleSet.of(Map.of("totalPrice", RULE)));
+        inlineHandle = registry.handle(RULE, "");
+        namedHandle = registry.handle("", "totalPrice");
+    }
+
+    @Benchmark
+    public boolean handWritten() {
+        Long totalPrice = TotalPriceMinValidator.totalPrice(form);
+        return totalPrice == null || totalPrice >= 10000;
+    }
+
+    @Benchmark
+    public boolean compiledRule() {
+        return compiledRule.test(form);
+    }
+
+    @Benchmark
+    public boolean inlineHandle() {
+        return inlineHandle.test(form);
+    }
+
+    @Benchmark
+    public boolean namedHandle() {
+        return namedHandle.test(form);
+    }
+}
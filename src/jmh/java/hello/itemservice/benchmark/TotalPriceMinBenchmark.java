@@ -0,0 +1,155 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.validation.BeanValidatorAdapter;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.PricedItem;
+import hello.itemservice.validation.TotalPriceMin;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.hibernate.validator.constraints.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복합 룰(가격 * 수량 >= 10000) 검증 비교
+ * - twoPass: 필드 제약을 검증한 뒤 컨트롤러에서 한 번 더 검사하던 기존 흐름
+ * - singlePass: @TotalPriceMin으로 필드 제약과 같은 검증 한 번에 처리 (Hibernate Validator + BeanValidatorAdapter)
+ * - compiledSinglePass: 생성된 검증기(ItemSaveForm_Validator)로 같은 검증 한 번에 처리
+ *
+ * totalPriceOk=false 는 필드는 모두 통과하고 복합 룰만 실패하는 입력이다.
+ * (jmh 소스에는 검증기를 생성하지 않으므로 twoPass/singlePass는 안쪽 클래스로 Hibernate Validator끼리 비교한다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TotalPriceMinBenchmark {
+
+    @Param({"true", "false"})
+    boolean totalPriceOk;
+
+    LocalValidatorFactoryBean beanValidator;
+    SpringValidatorAdapter springAdapter;
+    BeanValidatorAdapter beanValidatorAdapter;
+    CompiledValidatorAdapter compiledValidator;
+
+    FieldsOnlyForm fieldsOnlyForm;
+    TotalPriceForm totalPriceForm;
+    ItemSaveForm saveForm;
+
+    @Setup
+    public void setup() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        springAdapter = new SpringValidatorAdapter(beanValidator);
+        beanValidatorAdapter = new BeanValidatorAdapter(beanValidator);
+        compiledValidator = new CompiledValidatorAdapter(beanValidator);
+
+        Integer price = 1000;
+        Integer quantity = totalPriceOk ? 10 : 9;
+
+        fieldsOnlyForm = new FieldsOnlyForm("itemA", price, quantity);
+        totalPriceForm = new TotalPriceForm("itemA", price, quantity);
+
+        saveForm = new ItemSaveForm();
+        saveForm.setItemName("itemA");
+        saveForm.setPrice(price);
+        saveForm.setQuantity(quantity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        beanValidator.destroy();
+    }
+
+    @Benchmark
+    public BindingResult twoPass() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(fieldsOnlyForm, "item");
+        springAdapter.validate(fieldsOnlyForm, bindingResult);
+
+        // 특정 필드가 아닌 복합 룰 검증 (기존 컨트롤러 코드)
+        if (fieldsOnlyForm.getPrice() != null && fieldsOnlyForm.getQuantity() != null) {
+            int resultPrice = fieldsOnlyForm.getPrice() * fieldsOnlyForm.getQuantity();
+            if (resultPrice < 10000) {
+                bindingResult.reject("totalPriceMin", new Object[]{10000, resultPrice}, null);
+            }
+        }
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult singlePass() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(totalPriceForm, "item");
+        beanValidatorAdapter.validate(totalPriceForm, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult compiledSinglePass() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(saveForm, "item");
+        compiledValidator.validate(saveForm, bindingResult);
+        return bindingResult;
+    }
+
+    /**
+     * ItemSaveForm에서 @TotalPriceMin만 뺀 폼
+     */
+    public static class FieldsOnlyForm implements PricedItem {
+
+        @NotBlank
+        private final String itemName;
+
+        @NotNull
+        @Range(min = 1000, max = 1000000)
+        private final Integer price;
+
+        @NotNull
+        @Max(value = 9999)
+        private final Integer quantity;
+
+        public FieldsOnlyForm(String itemName, Integer price, Integer quantity) {
+            this.itemName = itemName;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        @Override
+        public Integer getPrice() {
+            return price;
+        }
+
+        @Override
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+
+    /**
+     * ItemSaveForm과 같은 제약 (@TotalPriceMin 포함)
+     */
+    @TotalPriceMin
+    public static class TotalPriceForm extends FieldsOnlyForm {
+
+        public TotalPriceForm(String itemName, Integer price, Integer quantity) {
+            super(itemName, price, quantity);
+        }
+    }
+}
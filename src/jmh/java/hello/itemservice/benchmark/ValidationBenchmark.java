@@ -0,0 +1,174 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.hibernate.validator.constraints.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증 경로 벤치마크
+ * - ItemValidator (직접 만든 검증기)
+ * - Bean Validation (Hibernate Validator): ItemSaveForm / ItemUpdateForm, groups(SaveCheck/UpdateCheck)
+ * - SpringValidatorAdapter: @Validated 처리와 같이 ConstraintViolation을 BindingResult로 옮기는 비용까지 포함
+ *
+ * valid=true 는 검증 통과, valid=false 는 모든 필드가 실패하는 입력이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    @Param({"true", "false"})
+    boolean valid;
+
+    ValidatorFactory factory;
+    Validator validator;
+    SpringValidatorAdapter adapter;
+    ItemValidator itemValidator;
+
+    Item item;
+    ItemSaveForm saveForm;
+    ItemUpdateForm updateForm;
+    GroupedItem groupedItem;
+
+    @Setup
+    public void setup() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+        adapter = new SpringValidatorAdapter(validator);
+        itemValidator = new ItemValidator();
+
+        String itemName = valid ? "itemA" : " ";
+        Integer price = valid ? 10000 : 0;
+        Integer quantity = valid ? 10 : 10000;
+
+        item = new Item(itemName, price, quantity);
+
+        saveForm = new ItemSaveForm();
+        saveForm.setItemName(itemName);
+        saveForm.setPrice(price);
+        saveForm.setQuantity(quantity);
+
+        updateForm = new ItemUpdateForm();
+        updateForm.setId(valid ? 1L : null);
+        updateForm.setItemName(itemName);
+        updateForm.setPrice(price);
+        updateForm.setQuantity(quantity);
+
+        groupedItem = new GroupedItem(valid ? 1L : null, itemName, price, quantity);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public BindingResult itemValidator() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        itemValidator.validate(item, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ItemSaveForm>> beanValidationSaveForm() {
+        return validator.validate(saveForm);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ItemUpdateForm>> beanValidationUpdateForm() {
+        return validator.validate(updateForm);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GroupedItem>> beanValidationSaveCheck() {
+        return validator.validate(groupedItem, SaveCheck.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GroupedItem>> beanValidationUpdateCheck() {
+        return validator.validate(groupedItem, UpdateCheck.class);
+    }
+
+    @Benchmark
+    public BindingResult springAdapterSaveForm() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(saveForm, "itemSaveForm");
+        adapter.validate(saveForm, bindingResult);
+        return bindingResult;
+    }
+
+    @Benchmark
+    public BindingResult springAdapterSaveCheck() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(groupedItem, "item");
+        adapter.validate(groupedItem, bindingResult, SaveCheck.class);
+        return bindingResult;
+    }
+
+    /**
+     * groups 벤치마크용: Item에 주석으로 남아 있는 groups 설정을 그대로 적용한 클래스
+     */
+    public static class GroupedItem {
+
+        @NotNull(groups = UpdateCheck.class)
+        private final Long id;
+
+        @NotBlank(groups = {SaveCheck.class, UpdateCheck.class})
+        private final String itemName;
+
+        @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+        @Range(min = 1000, max = 1000000, groups = {SaveCheck.class, UpdateCheck.class})
+        private final Integer price;
+
+        @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+        @Max(value = 9999, groups = SaveCheck.class)
+        private final Integer quantity;
+
+        public GroupedItem(Long id, String itemName, Integer price, Integer quantity) {
+            this.id = id;
+            this.itemName = itemName;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package hello.itemservice.benchmark;
+
+import hello.itemservice.ItemServiceApplication;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 연결 10,000개에서 플랫폼 스레드 풀과 가상 스레드 비교 (상품 상세 조회, GET /validation/v4/items/{itemId})
+ * - 저장소 조회마다 storeLatencyMillis 만큼 막히는(blocking) 저장소를 흉내 낸다.
+ * - 한 번의 측정은 connections 개의 요청을 동시에 보내고 모두 응답받을 때까지의 시간이다.
+ * - platform: Tomcat 기본 스레드 풀(200개)이 동시 처리 수의 상한이다. virtual: 요청마다 가상 스레드 (virtual-threads 프로필)
+ *
+ * JDK 21 이상에서 실행한다: ./gradlew jmh -PvirtualThreads -PjmhIncludes=VirtualThreadLoadBenchmark
+ * (연결 수만큼 파일 디스크립터가 필요하다. ulimit -n 을 충분히 늘린다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class VirtualThreadLoadBenchmark {
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    @Param({"10000"})
+    int connections;
+
+    @Param({"20"})
+    long storeLatencyMillis;
+
+    ConfigurableApplicationContext context;
+    HttpClient client;
+    HttpRequest request;
+
+    @Setup
+    public void setup() throws Exception {
+        SpringApplication application = new SpringApplication(ItemServiceApplication.class);
+        application.addInitializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof ItemStore ? new SlowItemStore((ItemStore) bean, storeLatencyMillis) : bean;
+            }
+        }));
+        if ("virtual".equals(threads)) {
+            application.setAdditionalProfiles("virtual-threads");
+        }
+        context = application.run("--server.port=0", "--logging.level.root=warn",
+                "--server.tomcat.max-connections=20000", "--server.tomcat.accept-count=1000");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        Item item = context.getBean(ItemRepository.class).save(new Item("itemA", 10000, 10));
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/validation/v4/items/" + item.getId()))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("status=" + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    /**
+     * 조회/저장할 때마다 잠시 막히는 저장소 (네트워크 너머의 저장소를 흉내 낸다.)
+     */
+    static final class SlowItemStore implements ItemStore {
+
+        private final ItemStore delegate;
+        private final long latencyMillis;
+
+        SlowItemStore(ItemStore delegate, long latencyMillis) {
+            this.delegate = delegate;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public Item get(long id) {
+            block();
+            return delegate.get(id);
+        }
+
+        @Override
+        public void put(Item item) {
+            block();
+            delegate.put(item);
+        }
+
+        @Override
+        public void putAll(List<Item> items) {
+            block();
+            delegate.putAll(items);
+        }
+
+        @Override
+        public List<Item> findAll() {
+            block();
+            return delegate.findAll();
+        }
+
+        @Override
+        public List<Item> findPage(long afterId, int limit) {
+            block();
+            return delegate.findPage(afterId, limit);
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        private void block() {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
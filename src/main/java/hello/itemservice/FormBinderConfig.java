@@ -0,0 +1,49 @@
+package hello.itemservice;
+
+import hello.itemservice.web.validation.FormArgumentResolver;
+import hello.itemservice.web.validation.form.ItemSaveFormBinder;
+import hello.itemservice.web.validation.form.ItemUpdateFormBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 폼 전용 바인더 설정 (ItemSaveForm, ItemUpdateForm)
+ * - 기본 @ModelAttribute 처리보다 먼저 확인하도록 인자 처리기 목록 맨 앞에 넣는다.
+ *   (WebMvcConfigurer.addArgumentResolvers()로 넣으면 기본 처리 뒤에 들어가서 호출되지 않는다.)
+ * - 검증기와 메시지 코드는 WebDataBinder에 설정된 것(WebConfig)을 그대로 쓴다.
+ * - validation.form-binder.enabled=false 면 기본 바인더(WebDataBinder)로 처리한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "validation.form-binder.enabled", matchIfMissing = true)
+public class FormBinderConfig {
+
+    @Bean
+    public FormArgumentResolver formArgumentResolver(RequestMappingHandlerAdapter requestMappingHandlerAdapter,
+                                                     ApplicationContext applicationContext) {
+        ConfigurableWebBindingInitializer initializer =
+                (ConfigurableWebBindingInitializer) requestMappingHandlerAdapter.getWebBindingInitializer();
+        MessageCodesResolver messageCodesResolver = initializer.getMessageCodesResolver();
+        FormArgumentResolver resolver = new FormArgumentResolver(
+                List.of(new ItemSaveFormBinder(), new ItemUpdateFormBinder()),
+                initializer.getValidator(),
+                messageCodesResolver != null ? messageCodesResolver : new DefaultMessageCodesResolver(),
+                ControllerAdviceBean.findAnnotatedBeans(applicationContext));
+
+        List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+        resolvers.add(resolver);
+        resolvers.addAll(requestMappingHandlerAdapter.getArgumentResolvers());
+        requestMappingHandlerAdapter.setArgumentResolvers(resolvers);
+        return resolver;
+    }
+}
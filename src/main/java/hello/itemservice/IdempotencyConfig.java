@@ -0,0 +1,42 @@
+package hello.itemservice;
+
+import hello.itemservice.web.idempotency.CachedResponse;
+import hello.itemservice.web.idempotency.IdempotencyCache;
+import hello.itemservice.web.idempotency.IdempotencyFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 상품 등록 재시도(Idempotency-Key) 설정
+ * - idempotency.max-entries: 저장할 최대 키 수 (넘으면 오래된 키부터 지운다.)
+ * - idempotency.ttl: 처리 결과를 보관하는 시간
+ * - idempotency.max-body-size: 저장할 응답 본문의 최대 크기 (byte)
+ * - idempotency.wait-timeout: 같은 키로 동시에 온 요청이 처음 요청을 기다리는 최대 시간 (넘으면 409)
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    static final String[] URL_PATTERNS = {"/validation/api/items/add", "/validation/v4/items/add"};
+
+    @Bean
+    public IdempotencyCache<CachedResponse> idempotencyCache(
+            @Value("${idempotency.max-entries:10000}") int maxEntries,
+            @Value("${idempotency.ttl:10m}") Duration ttl) {
+        return new IdempotencyCache<>(maxEntries, ttl);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            IdempotencyCache<CachedResponse> idempotencyCache,
+            @Value("${idempotency.max-body-size:65536}") int maxBodySize,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyCache, maxBodySize, waitTimeout));
+        registration.addUrlPatterns(URL_PATTERNS);
+        return registration;
+    }
+}
@@ -0,0 +1,49 @@
+package hello.itemservice;
+
+import hello.itemservice.domain.item.ColumnarItemStore;
+import hello.itemservice.domain.item.DurableItemStore;
+import hello.itemservice.domain.item.ItemStore;
+import hello.itemservice.domain.item.MapItemStore;
+import hello.itemservice.domain.item.MeteredItemStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+/**
+ * 상품 저장 엔진 선택
+ * - item.store.type=map (기본값): Item 객체를 그대로 보관한다.
+ * - item.store.type=columnar: 상품 수가 많을 때 힙 사용량을 줄이는 컬럼형 저장소를 사용한다.
+ * - item.store.durable=true: 위 저장소 앞에 변경 로그와 스냅샷을 붙여서 재시작해도 데이터가 남도록 한다.
+ * - 맨 앞에서 연산 별 시간을 잰다. (/actuator/metrics/item.store)
+ */
+@Configuration
+public class ItemStoreConfig {
+
+    @Value("${item.store.type:map}")
+    private String type;
+
+    @Value("${item.store.durable:false}")
+    private boolean durable;
+
+    @Value("${item.store.directory:./data}")
+    private String directory;
+
+    @Value("${item.store.snapshot-interval-seconds:60}")
+    private long snapshotIntervalSeconds;
+
+    @Value("${item.store.snapshot-threshold:100000}")
+    private long snapshotThreshold;
+
+    @Bean
+    public ItemStore itemStore(MeterRegistry meterRegistry) {
+        ItemStore store = "columnar".equals(type) ? new ColumnarItemStore() : new MapItemStore();
+        if (durable) {
+            store = new DurableItemStore(store, Paths.get(directory), DurableItemStore.DEFAULT_SEGMENT_SIZE,
+                    snapshotIntervalSeconds, snapshotThreshold);
+        }
+        return new MeteredItemStore(store, meterRegistry);
+    }
+}
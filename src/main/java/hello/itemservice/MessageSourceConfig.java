@@ -0,0 +1,51 @@
+package hello.itemservice;
+
+import hello.itemservice.message.PrecompiledMessageSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.context.MessageSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 메시지 소스 설정
+ * - spring.messages.* 설정은 스프링 부트 기본 메시지 소스(ResourceBundleMessageSource)와 같게 사용한다.
+ * - 오류 화면을 다시 그릴 때 코드 목록(Level1 ~ Level4)을 매번 따라가지 않도록 미리 펼친 테이블로 찾는다.
+ * - messages.precompile-locales: 시작할 때 테이블을 미리 만들 로케일 (시스템 로케일은 항상 포함)
+ */
+@Configuration
+public class MessageSourceConfig {
+
+    @Value("${messages.precompile-locales:ko,en}")
+    private String[] precompileLocales;
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.messages")
+    public MessageSourceProperties messageSourceProperties() {
+        return new MessageSourceProperties();
+    }
+
+    @Bean
+    public MessageSource messageSource(MessageSourceProperties properties) {
+        String[] basenames = StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(properties.getBasename()));
+        PrecompiledMessageSource messageSource = new PrecompiledMessageSource(basenames,
+                properties.getEncoding() == null ? StandardCharsets.UTF_8 : properties.getEncoding(),
+                properties.isFallbackToSystemLocale());
+        messageSource.setAlwaysUseMessageFormat(properties.isAlwaysUseMessageFormat());
+        messageSource.setUseCodeAsDefaultMessage(properties.isUseCodeAsDefaultMessage());
+
+        messageSource.precompile(Locale.getDefault());
+        for (String locale : precompileLocales) {
+            if (StringUtils.hasText(locale)) {
+                messageSource.precompile(StringUtils.parseLocale(locale));
+            }
+        }
+        return messageSource;
+    }
+}
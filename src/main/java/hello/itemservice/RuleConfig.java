@@ -0,0 +1,25 @@
+package hello.itemservice;
+
+import hello.itemservice.validation.rule.RuleRegistry;
+import hello.itemservice.validation.rule.RuleReloader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+/**
+ * 검증 규칙(@RuleAssert(name = ...)) 파일 설정
+ * - validation.rules.location: 규칙 파일 (이름=식, 기본: classpath:validation-rules.properties)
+ * - validation.rules.reload-interval-seconds: 이 주기로 파일이 바뀌었는지 보고 다시 읽는다. (0 이면 다시 읽지 않음)
+ *   다시 읽으려면 file: 경로를 지정한다. (jar 안의 파일은 바뀌지 않는다.)
+ */
+@Configuration
+public class RuleConfig {
+
+    @Bean(destroyMethod = "close")
+    public RuleReloader ruleReloader(ResourceLoader resourceLoader,
+                                     @Value("${validation.rules.location:classpath:validation-rules.properties}") String location,
+                                     @Value("${validation.rules.reload-interval-seconds:0}") long reloadIntervalSeconds) {
+        return new RuleReloader(RuleRegistry.global(), resourceLoader.getResource(location), reloadIntervalSeconds);
+    }
+}
@@ -18,6 +18,9 @@ public class TestDataInit {
      */
     @PostConstruct
     public void init() {
+        if (!itemRepository.findPage(null, 1).isEmpty()) {
+            return; // 저장소가 복구된 경우에는 다시 넣지 않는다.
+        }
         itemRepository.save(new Item("itemA", 10000, 10));
         itemRepository.save(new Item("itemB", 20000, 20));
     }
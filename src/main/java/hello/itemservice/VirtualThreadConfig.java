@@ -0,0 +1,42 @@
+package hello.itemservice;
+
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청을 가상 스레드에서 처리한다. (virtual-threads 프로필, JDK 21 이상)
+ * - Tomcat 요청 처리 스레드 풀 대신 요청마다 가상 스레드를 만든다. (모든 컨트롤러, 필터 포함)
+ * - 느린 클라이언트나 막히는(blocking) 저장소를 기다리는 동안 캐리어 스레드를 돌려주므로 동시 처리 수가 풀 크기에 묶이지 않는다.
+ * - 실행: ./gradlew bootRun -PvirtualThreads (application-virtual-threads.properties)
+ *
+ * 기다리는 동안 캐리어 스레드를 붙잡지(pinning) 않도록 요청 경로의 잠금은 synchronized 대신 ReentrantLock을 쓴다.
+ * (ItemRepository, DurableItemStore, PrecompiledMessageSource)
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        // Executor 빈으로 등록하지 않는다. (등록하면 applicationTaskExecutor 자동 설정이 빠진다.)
+        Executor executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    private static Executor newVirtualThreadPerTaskExecutor() {
+        try {
+            // 컴파일은 Java 11 기준이라 리플렉션으로 호출한다.
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드는 JDK 21 이상에서 사용할 수 있습니다. java.version="
+                    + System.getProperty("java.version"), e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package hello.itemservice;
+
+import hello.itemservice.validation.BatchValidator;
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.ErrorCountingMessageCodesResolver;
+import hello.itemservice.validation.MeteredValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 스프링 MVC 설정
+ * - 글로벌 검증기: @GenerateValidator로 생성된 검증기가 있는 클래스는 그것으로, 나머지는 Bean Validation으로 검증한다.
+ * - 메시지 코드: 같은 오류 코드 조합은 한 번만 만들고 재사용한다.
+ *   (spring.mvc.message-codes-resolver-format 과 함께 쓰면 MessageCodesResolver가 둘이 되어 시작에 실패한다.)
+ * - 지표: 검증 시간(validation)과 오류 코드 별 오류 수(validation.errors)를 남긴다.
+ * - 검증기(itemValidator)와 메시지 코드(messageCodesResolver)는 빈으로도 등록한다.
+ *   MVC 바인딩 밖에서 검증하는 곳(ItemStreamImporter)도 같은 것을 주입받는다.
+ * - 일괄 검증(BatchValidator): 같은 검증기와 메시지 코드로 전용 ForkJoinPool에서 검증한다.
+ *   validation.batch.parallelism: 쓰레드 수 (기본: CPU 코어 수)
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final SmartValidator validator;
+    private final MessageCodesResolver messageCodesResolver;
+
+    public WebConfig(LocalValidatorFactoryBean validatorFactory, MeterRegistry meterRegistry) {
+        this.validator = new MeteredValidator(new CompiledValidatorAdapter(validatorFactory), meterRegistry);
+        this.messageCodesResolver = new ErrorCountingMessageCodesResolver(new CachingMessageCodesResolver(), meterRegistry);
+    }
+
+    @Override
+    public Validator getValidator() {
+        return validator;
+    }
+
+    @Override
+    public MessageCodesResolver getMessageCodesResolver() {
+        return messageCodesResolver;
+    }
+
+    @Bean
+    public SmartValidator itemValidator() {
+        return validator;
+    }
+
+    @Bean
+    public MessageCodesResolver messageCodesResolver() {
+        return messageCodesResolver;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchValidationPool(@Value("${validation.batch.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Bean
+    public BatchValidator batchValidator(ForkJoinPool batchValidationPool) {
+        return new BatchValidator(validator, messageCodesResolver, batchValidationPool);
+    }
+}
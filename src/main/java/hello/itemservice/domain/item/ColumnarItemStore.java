@@ -0,0 +1,301 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품을 컬럼 단위 기본형 배열에 보관하는 저장 엔진
+ * - id -> slot 인덱스는 open addressing 해시 테이블(long[])로 관리한다.
+ * - price, quantity는 int[] 컬럼, version은 long[] 컬럼, itemName은 중복 제거된 문자열 테이블의 번호(int[])로 보관한다.
+ * - id 순서 조회를 위해 slot 번호를 id 순으로 정렬한 배열(sorted)을 함께 유지한다.
+ * - Item 객체는 get(), findAll() 호출 시점에만 만들어진다. (반환된 Item을 수정해도 저장소에는 반영되지 않는다.)
+ *
+ * 참고) null 값은 Integer.MIN_VALUE로 표현하므로, price/quantity에 Integer.MIN_VALUE는 저장할 수 없다.
+ *      version의 null은 0으로 표현한다. (버전은 1부터 시작한다.)
+ */
+public class ColumnarItemStore implements ItemStore {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final int NO_NAME = -1;
+    private static final long EMPTY_KEY = 0L;
+    private static final long NO_VERSION = 0L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    // id -> slot 인덱스 (open addressing, linear probing)
+    private long[] keys;
+    private int[] slots;
+    private int mask;
+
+    // 컬럼
+    private long[] ids;
+    private int[] prices;
+    private int[] quantities;
+    private long[] versions;
+    private int[] names;
+    private int[] sorted;
+    private int size;
+
+    // 문자열 테이블
+    private final Map<String, Integer> nameIndex = new HashMap<>();
+    private String[] nameTable;
+    private int nameCount;
+
+    public ColumnarItemStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public ColumnarItemStore(int expectedSize) {
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+        init(Math.max(expectedSize, INITIAL_CAPACITY));
+    }
+
+    @Override
+    public Item get(long id) {
+        readLock.lock();
+        try {
+            int slot = slotOf(id);
+            return slot < 0 ? null : materialize(slot);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Item item) {
+        long id = item.getId();
+        if (id == EMPTY_KEY) {
+            throw new IllegalArgumentException("id 0 은 저장할 수 없습니다.");
+        }
+
+        writeLock.lock();
+        try {
+            write(item);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void putAll(List<Item> items) {
+        for (Item item : items) {
+            if (item.getId() == EMPTY_KEY) {
+                throw new IllegalArgumentException("id 0 은 저장할 수 없습니다.");
+            }
+        }
+        writeLock.lock();
+        try {
+            for (Item item : items) {
+                write(item);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        readLock.lock();
+        try {
+            List<Item> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(materialize(sorted[i]));
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Item> findPage(long afterId, int limit) {
+        readLock.lock();
+        try {
+            int from = firstAfter(afterId);
+            int to = (int) Math.min((long) from + limit, size);
+            List<Item> result = new ArrayList<>(Math.max(to - from, 0));
+            for (int i = from; i < to; i++) {
+                result.add(materialize(sorted[i]));
+            }
+            return result;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            nameIndex.clear();
+            init(INITIAL_CAPACITY);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void init(int capacity) {
+        int tableSize = Integer.highestOneBit(capacity - 1) << 2; // load factor <= 0.5
+        keys = new long[tableSize];
+        slots = new int[tableSize];
+        mask = tableSize - 1;
+
+        ids = new long[capacity];
+        prices = new int[capacity];
+        quantities = new int[capacity];
+        versions = new long[capacity];
+        names = new int[capacity];
+        sorted = new int[capacity];
+        size = 0;
+
+        nameTable = new String[INITIAL_CAPACITY];
+        nameCount = 0;
+    }
+
+    private void write(Item item) {
+        long id = item.getId();
+        int slot = slotOf(id);
+        if (slot < 0) {
+            slot = appendRow(id);
+        }
+        prices[slot] = toColumn(item.getPrice());
+        quantities[slot] = toColumn(item.getQuantity());
+        versions[slot] = item.getVersion() == null ? NO_VERSION : item.getVersion();
+        names[slot] = intern(item.getItemName());
+    }
+
+    private Item materialize(int slot) {
+        Item item = new Item();
+        item.setId(ids[slot]);
+        item.setItemName(names[slot] == NO_NAME ? null : nameTable[names[slot]]);
+        item.setPrice(fromColumn(prices[slot]));
+        item.setQuantity(fromColumn(quantities[slot]));
+        item.setVersion(versions[slot] == NO_VERSION ? null : versions[slot]);
+        return item;
+    }
+
+    private int slotOf(long id) {
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            long key = keys[i];
+            if (key == id) {
+                return slots[i];
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    private int appendRow(long id) {
+        if (size == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            names = Arrays.copyOf(names, capacity);
+            sorted = Arrays.copyOf(sorted, capacity);
+        }
+        if ((size + 1) << 1 > keys.length) {
+            rehash(keys.length << 1);
+        }
+
+        int slot = size;
+        ids[slot] = id;
+        insertKey(id, slot);
+
+        // id는 대부분 증가하는 순서로 들어오므로 보통은 맨 뒤에 붙이기만 하면 된다.
+        int position = firstAfter(id);
+        System.arraycopy(sorted, position, sorted, position + 1, size - position);
+        sorted[position] = slot;
+        size++;
+        return slot;
+    }
+
+    /**
+     * sorted에서 id가 afterId보다 큰 첫 위치 (이진 탐색)
+     */
+    private int firstAfter(long afterId) {
+        if (size == 0 || ids[sorted[size - 1]] <= afterId) {
+            return size;
+        }
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[sorted[mid]] <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void rehash(int tableSize) {
+        keys = new long[tableSize];
+        slots = new int[tableSize];
+        mask = tableSize - 1;
+        for (int slot = 0; slot < size; slot++) {
+            insertKey(ids[slot], slot);
+        }
+    }
+
+    private void insertKey(long id, int slot) {
+        int i = hash(id) & mask;
+        while (keys[i] != EMPTY_KEY) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = id;
+        slots[i] = slot;
+    }
+
+    private int intern(String name) {
+        if (name == null) {
+            return NO_NAME;
+        }
+        Integer index = nameIndex.get(name);
+        if (index != null) {
+            return index;
+        }
+        if (nameCount == nameTable.length) {
+            nameTable = Arrays.copyOf(nameTable, nameCount << 1);
+        }
+        nameTable[nameCount] = name;
+        nameIndex.put(name, nameCount);
+        return nameCount++;
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int toColumn(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    private static Integer fromColumn(int value) {
+        return value == NULL_INT ? null : value;
+    }
+}
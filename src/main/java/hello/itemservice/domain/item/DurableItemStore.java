@@ -0,0 +1,272 @@
+package hello.itemservice.domain.item;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 저장 엔진 앞에 변경 로그와 스냅샷을 붙여서 재시작해도 데이터가 남도록 한다.
+ *
+ * 파일 구성 (directory 아래)
+ * - items-{N}.log: N 세대 변경 로그
+ * - items-{N}.snapshot: N 세대 로그를 시작할 때의 전체 상품 (N 세대 로그의 일부가 섞여 있을 수 있다.)
+ *
+ * 복구: 가장 최근 스냅샷 N을 읽고, N 세대 이후의 로그만 순서대로 다시 적용한다.
+ * 로그 레코드는 상품 전체를 덮어쓰는 형태라서 같은 레코드를 두 번 적용해도 결과가 같다.
+ *
+ * 스냅샷: 새 세대 로그로 교체한 뒤, 메모리 저장소를 조금씩 읽어서 파일로 쓴다. 쓰는 동안에도 저장/수정은 막히지 않는다.
+ */
+@Slf4j
+public class DurableItemStore implements ItemStore, Closeable {
+
+    private static final Pattern FILE_NAME = Pattern.compile("items-(\\d+)\\.(log|snapshot)");
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    private final ItemStore delegate;
+    private final Path directory;
+    private final int segmentSize;
+    private final Lock logLock = new ReentrantLock();
+    private final Lock snapshotLock = new ReentrantLock();
+    private final AtomicLong recordsSinceSnapshot = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+
+    private ItemLog itemLog;
+    private long generation;
+
+    public DurableItemStore(ItemStore delegate, Path directory) {
+        this(delegate, directory, DEFAULT_SEGMENT_SIZE, 0, 0);
+    }
+
+    /**
+     * @param snapshotIntervalSeconds 이 주기마다 snapshotThreshold 이상 변경되었으면 스냅샷을 만든다. (0 이면 자동 스냅샷 없음)
+     */
+    public DurableItemStore(ItemStore delegate, Path directory, int segmentSize,
+                            long snapshotIntervalSeconds, long snapshotThreshold) {
+        this.delegate = delegate;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 저장소 복구 실패. directory=" + directory, e);
+        }
+
+        if (snapshotIntervalSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "item-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(() -> {
+                if (recordsSinceSnapshot.get() >= snapshotThreshold) {
+                    snapshotQuietly();
+                }
+            }, snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public Item get(long id) {
+        return delegate.get(id);
+    }
+
+    /**
+     * 로그에 먼저 기록한 뒤 메모리에 반영한다. 로그 순서와 메모리 반영 순서가 같도록 같은 잠금 안에서 처리한다.
+     */
+    @Override
+    public void put(Item item) {
+        logLock.lock();
+        try {
+            itemLog.appendPut(item);
+            delegate.put(item);
+        } finally {
+            logLock.unlock();
+        }
+        recordsSinceSnapshot.incrementAndGet();
+    }
+
+    @Override
+    public void putAll(List<Item> items) {
+        logLock.lock();
+        try {
+            for (Item item : items) {
+                itemLog.appendPut(item);
+            }
+            delegate.putAll(items);
+        } finally {
+            logLock.unlock();
+        }
+        recordsSinceSnapshot.addAndGet(items.size());
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Item> findPage(long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public Stream<Item> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        logLock.lock();
+        try {
+            itemLog.appendClear();
+            delegate.clear();
+        } finally {
+            logLock.unlock();
+        }
+        recordsSinceSnapshot.incrementAndGet();
+    }
+
+    /**
+     * 현재 상태의 스냅샷을 만들고, 더 이상 필요 없는 로그와 스냅샷을 지운다.
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long snapshotGeneration;
+            logLock.lock();
+            try {
+                itemLog.close();
+                snapshotGeneration = ++generation;
+                itemLog = new ItemLog(logFile(snapshotGeneration), 0, segmentSize);
+                recordsSinceSnapshot.set(0);
+            } finally {
+                logLock.unlock();
+            }
+
+            ItemLog.writeSnapshot(snapshotFile(snapshotGeneration), () -> delegate.stream().iterator());
+            deleteOlderThan(snapshotGeneration);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        logLock.lock();
+        try {
+            itemLog.close();
+        } finally {
+            logLock.unlock();
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        List<Long> snapshots = generations("snapshot");
+        List<Long> logs = generations("log");
+
+        long from = 0;
+        if (!snapshots.isEmpty()) {
+            from = snapshots.get(snapshots.size() - 1);
+            if (!ItemLog.readSnapshot(snapshotFile(from), new Replay())) {
+                throw new IllegalStateException("손상된 스냅샷입니다. file=" + snapshotFile(from));
+            }
+        }
+
+        generation = from;
+        long validLength = 0;
+        for (Long logGeneration : logs) {
+            if (logGeneration < from) {
+                continue;
+            }
+            generation = logGeneration;
+            validLength = ItemLog.replay(logFile(logGeneration), new Replay());
+        }
+        itemLog = new ItemLog(logFile(generation), validLength, segmentSize);
+
+        log.info("상품 저장소 복구 완료 items={}, generation={}, elapsed={}ms",
+                delegate.size(), generation, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("상품 스냅샷 실패", e);
+        }
+    }
+
+    private void deleteOlderThan(long keepGeneration) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < keepGeneration) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private List<Long> generations(String type) throws IOException {
+        List<Long> result = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && matcher.group(2).equals(type)) {
+                    result.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    private Path logFile(long generation) {
+        return directory.resolve("items-" + generation + ".log");
+    }
+
+    private Path snapshotFile(long generation) {
+        return directory.resolve("items-" + generation + ".snapshot");
+    }
+
+    private class Replay implements ItemLog.RecordHandler {
+
+        @Override
+        public void put(Item item) {
+            delegate.put(item);
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+    }
+}
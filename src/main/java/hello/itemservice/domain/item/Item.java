@@ -1,5 +1,8 @@
 package hello.itemservice.domain.item;
 
+import hello.itemservice.validation.GenerateValidator;
+import hello.itemservice.validation.PricedItem;
+import hello.itemservice.validation.TotalPriceMin;
 import lombok.Data;
 
 // NotBlank, NotNull, Max: Bean Validation이 표준적으로 제공한다. (따라서 어떤 구현체에서도 동작한다.) (구현체를 변경하더라도 정상 동작.)
@@ -13,8 +16,12 @@ import org.hibernate.validator.constraints.Range;
 import org.hibernate.validator.constraints.ScriptAssert;
 
 @Data
+@GenerateValidator
 // @ScriptAssert(lang = "javascript", script = "_this.price * _this.quantity >= 10000")
-public class Item {
+// 스크립트 대신 컴파일된 클래스 레벨 제약을 쓴다. (Default 그룹은 V2의 ItemValidator가 검사하므로 넣지 않았다.)
+// 일반적인 규칙은 @RuleAssert("price * quantity >= 10000")처럼 식으로 쓸 수 있다.
+@TotalPriceMin(groups = {SaveCheck.class, UpdateCheck.class})
+public class Item implements PricedItem {
 
     //@NotNull(groups = UpdateCheck.class)
     private Long id;
@@ -30,6 +37,9 @@ public class Item {
     //@Max(value = 9999, groups = SaveCheck.class)
     private Integer quantity;
 
+    // 낙관적 잠금용 버전. 저장할 때 1, 수정할 때마다 1씩 증가한다. (ItemRepository가 관리한다.)
+    private Long version;
+
     public Item() {
     }
 
@@ -0,0 +1,240 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 상품 보조 인덱스 (가격, 수량, 상품명 접두사)
+ * - 값 별로 id를 정렬된 lock-free 집합(버킷)에 보관한다. (값 -> id 순 집합)
+ * - 범위/접두사 조회는 O(log n + k), id 순 페이징은 범위 안의 버킷을 afterId부터 병합하므로
+ *   O(b log b + 페이지 크기 * log b) 이다. (b: 범위 안의 서로 다른 값 수, 일치하는 상품 수와 무관)
+ * - 값이 null 인 필드는 인덱싱하지 않는다.
+ * - 같은 상품에 대한 변경은 호출하는 쪽(ItemRepository)에서 순서를 보장해야 한다.
+ */
+class ItemIndex {
+
+    private final Buckets<Integer> priceIndex = new Buckets<>();
+    private final Buckets<Integer> quantityIndex = new Buckets<>();
+    private final Buckets<String> nameIndex = new Buckets<>();
+
+    void add(Item item) {
+        long id = item.getId();
+        if (item.getPrice() != null) {
+            priceIndex.add(item.getPrice(), id);
+        }
+        if (item.getQuantity() != null) {
+            quantityIndex.add(item.getQuantity(), id);
+        }
+        if (item.getItemName() != null) {
+            nameIndex.add(item.getItemName(), id);
+        }
+    }
+
+    void remove(Item item) {
+        long id = item.getId();
+        if (item.getPrice() != null) {
+            priceIndex.remove(item.getPrice(), id);
+        }
+        if (item.getQuantity() != null) {
+            quantityIndex.remove(item.getQuantity(), id);
+        }
+        if (item.getItemName() != null) {
+            nameIndex.remove(item.getItemName(), id);
+        }
+    }
+
+    void clear() {
+        priceIndex.clear();
+        quantityIndex.clear();
+        nameIndex.clear();
+    }
+
+    /**
+     * @return 가격 순(같은 가격은 id 순) id 목록
+     */
+    List<Long> findByPriceBetween(Integer min, Integer max) {
+        return flatten(between(priceIndex, min, max));
+    }
+
+    List<Long> findByQuantityBetween(Integer min, Integer max) {
+        return flatten(between(quantityIndex, min, max));
+    }
+
+    List<Long> findByNamePrefix(String prefix) {
+        return flatten(prefix(prefix));
+    }
+
+    /**
+     * afterId보다 큰 id를 id 순으로 하나씩 돌려준다. (필요한 만큼만 읽고, 전체를 모아서 정렬하지 않는다.)
+     */
+    Iterator<Long> findByPriceBetween(Integer min, Integer max, long afterId) {
+        return merge(between(priceIndex, min, max), afterId);
+    }
+
+    Iterator<Long> findByQuantityBetween(Integer min, Integer max, long afterId) {
+        return merge(between(quantityIndex, min, max), afterId);
+    }
+
+    Iterator<Long> findByNamePrefix(String prefix, long afterId) {
+        return merge(prefix(prefix), afterId);
+    }
+
+    private static Collection<NavigableSet<Long>> between(Buckets<Integer> index, Integer min, Integer max) {
+        int from = min == null ? Integer.MIN_VALUE : min;
+        int to = max == null ? Integer.MAX_VALUE : max;
+        if (from > to) {
+            return List.of();
+        }
+        return index.between(from, to);
+    }
+
+    private Collection<NavigableSet<Long>> prefix(String prefix) {
+        List<NavigableSet<Long>> buckets = new ArrayList<>();
+        for (Map.Entry<String, NavigableSet<Long>> entry : nameIndex.tailMap(prefix).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            buckets.add(entry.getValue());
+        }
+        return buckets;
+    }
+
+    private static List<Long> flatten(Collection<NavigableSet<Long>> buckets) {
+        List<Long> ids = new ArrayList<>();
+        for (NavigableSet<Long> bucket : buckets) {
+            ids.addAll(bucket);
+        }
+        return ids;
+    }
+
+    private static Iterator<Long> merge(Collection<NavigableSet<Long>> buckets, long afterId) {
+        PriorityQueue<Cursor> queue = new PriorityQueue<>();
+        for (NavigableSet<Long> bucket : buckets) {
+            Iterator<Long> ids = bucket.tailSet(afterId, false).iterator();
+            if (ids.hasNext()) {
+                queue.add(new Cursor(ids.next(), ids));
+            }
+        }
+        return new MergeIterator(queue);
+    }
+
+    /**
+     * 값 -> id 순 집합
+     * - 버킷을 만들고 지우는 일(드물다)만 잠그고, 버킷 안의 id 추가/삭제는 잠그지 않는다.
+     * - 빈 버킷은 지운다. (지우는 사이에 id가 들어왔으면 버킷을 다시 넣는다.)
+     */
+    private static final class Buckets<K extends Comparable<K>> {
+
+        private final ConcurrentNavigableMap<K, NavigableSet<Long>> map = new ConcurrentSkipListMap<>();
+
+        void add(K value, long id) {
+            NavigableSet<Long> bucket = map.get(value);
+            if (bucket != null) {
+                bucket.add(id);
+                if (map.get(value) == bucket) {
+                    return; // 넣은 뒤에도 버킷이 그대로면, 지우던 쪽이 이 id를 보고 버킷을 다시 넣는다.
+                }
+            }
+            synchronized (this) {
+                map.computeIfAbsent(value, k -> new ConcurrentSkipListSet<>()).add(id);
+            }
+        }
+
+        void remove(K value, long id) {
+            NavigableSet<Long> bucket = map.get(value);
+            if (bucket == null || !bucket.remove(id) || !bucket.isEmpty()) {
+                return;
+            }
+            synchronized (this) {
+                if (bucket.isEmpty() && map.remove(value, bucket) && !bucket.isEmpty()) {
+                    map.put(value, bucket);
+                }
+            }
+        }
+
+        void clear() {
+            synchronized (this) {
+                map.clear();
+            }
+        }
+
+        Collection<NavigableSet<Long>> between(K from, K to) {
+            return map.subMap(from, true, to, true).values();
+        }
+
+        NavigableMap<K, NavigableSet<Long>> tailMap(K from) {
+            return map.tailMap(from, true);
+        }
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private long id;
+        private final Iterator<Long> rest;
+
+        Cursor(long id, Iterator<Long> rest) {
+            this.id = id;
+            this.rest = rest;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * 버킷들을 id 순으로 병합한다.
+     * 수정 중인 상품은 잠깐 이전/새 버킷 양쪽에서 보일 수 있으므로 연속된 같은 id는 한 번만 돌려준다.
+     */
+    private static final class MergeIterator implements Iterator<Long> {
+
+        private final PriorityQueue<Cursor> queue;
+        private long last = Long.MIN_VALUE;
+
+        MergeIterator(PriorityQueue<Cursor> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public Long next() {
+            if (queue.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            last = advance();
+            skipDuplicates();
+            return last;
+        }
+
+        private long advance() {
+            Cursor cursor = queue.poll();
+            long id = cursor.id;
+            if (cursor.rest.hasNext()) {
+                cursor.id = cursor.rest.next();
+                queue.add(cursor);
+            }
+            return id;
+        }
+
+        private void skipDuplicates() {
+            while (!queue.isEmpty() && queue.peek().id == last) {
+                advance();
+            }
+        }
+    }
+}
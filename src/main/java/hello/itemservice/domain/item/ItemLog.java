@@ -0,0 +1,346 @@
+package hello.itemservice.domain.item;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 상품 변경 로그 파일 (append-only, memory-mapped)
+ *
+ * 레코드 형식: [int 길이][int CRC32][payload]
+ * - payload: [byte 종류][상품]
+ * - 상품: [long id][byte 값 유무 플래그][int price][int quantity][long version][int 이름 길이][UTF-8 이름]
+ *   (null 인 필드는 플래그로 구분한다. 값의 범위를 null 표시로 쓰지 않는다.)
+ * - 길이가 0 이면 로그의 끝이다. (매핑 영역은 0으로 채워져 있다.)
+ * - 쓰다가 프로세스가 죽어서 잘린 레코드는 CRC가 맞지 않으므로 복구 시 그 앞까지만 사용한다.
+ *
+ * 이 클래스는 스레드 안전하지 않다. (DurableItemStore가 잠금을 잡고 호출한다.)
+ */
+final class ItemLog implements Closeable {
+
+    static final byte PUT = 1;
+    static final byte CLEAR = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_PAYLOAD = 1 << 20;
+    private static final int SNAPSHOT_MAGIC = 0x4954454D; // "ITEM"
+
+    // 상품 필드 값 유무 플래그
+    private static final int HAS_PRICE = 1;
+    private static final int HAS_QUANTITY = 1 << 1;
+    private static final int HAS_VERSION = 1 << 2;
+    private static final int HAS_NAME = 1 << 3;
+    private static final int ITEM_FIXED_SIZE = 8 + 1 + 4 + 4 + 8 + 4;
+
+    private final Path file;
+    private final int segmentSize;
+    private final FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private final CRC32 crc = new CRC32();
+    private byte[] scratch = new byte[256];
+
+    /**
+     * @param validLength 복구 시 확인된 마지막 정상 레코드의 끝 위치. 그 뒤는 잘라 낸다.
+     */
+    ItemLog(Path file, long validLength, int segmentSize) throws IOException {
+        this.file = file;
+        this.segmentSize = segmentSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        map(validLength);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    void appendPut(Item item) {
+        byte[] name = nameBytes(item);
+        byte[] payload = scratch(1 + itemSize(name));
+        payload[0] = PUT;
+        append(payload, encode(item, name, payload, 1));
+    }
+
+    void appendClear() {
+        byte[] payload = scratch(1);
+        payload[0] = CLEAR;
+        append(payload, 1);
+    }
+
+    /**
+     * 페이지 캐시의 내용을 디스크에 반영한다. (프로세스 강제 종료는 force() 없이도 안전하다.)
+     */
+    void force() {
+        segment.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        segment.force();
+        channel.truncate(segmentStart + segment.position());
+        channel.close();
+    }
+
+    private void append(byte[] payload, int length) {
+        if (length > MAX_PAYLOAD) {
+            throw new IllegalArgumentException("상품 레코드가 너무 큽니다. length=" + length);
+        }
+        if (segment.remaining() < HEADER_SIZE + length + HEADER_SIZE) {
+            try {
+                map(segmentStart + segment.position());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        crc.reset();
+        crc.update(payload, 0, length);
+
+        // 본문을 먼저 쓰고 길이를 마지막에 기록한다. 길이가 0인 채로 남으면 복구 시 로그의 끝으로 본다.
+        int start = segment.position();
+        segment.position(start + 4);
+        segment.putInt((int) crc.getValue());
+        segment.put(payload, 0, length);
+        segment.putInt(start, length);
+    }
+
+    private void map(long position) throws IOException {
+        this.segmentStart = position;
+        this.segment = channel.map(FileChannel.MapMode.READ_WRITE, position, segmentSize);
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length << 1)];
+        }
+        return scratch;
+    }
+
+    // ===== 읽기 =====
+
+    interface RecordHandler {
+        void put(Item item);
+
+        void clear();
+    }
+
+    /**
+     * 로그를 처음부터 읽어 handler에 전달한다.
+     * @return 마지막 정상 레코드의 끝 위치 (이어서 쓸 위치)
+     */
+    static long replay(Path file, RecordHandler handler) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        CRC32 crc = new CRC32();
+        long valid = 0;
+        byte[] payload = new byte[256];
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                int length = in.readInt();
+                int checksum = in.readInt();
+                if (length <= 0 || length > MAX_PAYLOAD) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length << 1)];
+                }
+                in.readFully(payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                apply(payload, handler);
+                valid += HEADER_SIZE + length;
+            }
+        } catch (EOFException e) {
+            // 쓰다가 잘린 마지막 레코드
+        }
+        return valid;
+    }
+
+    private static void apply(byte[] payload, RecordHandler handler) {
+        if (payload[0] == CLEAR) {
+            handler.clear();
+            return;
+        }
+        handler.put(decode(payload, 1));
+    }
+
+    // ===== 스냅샷 =====
+
+    /**
+     * 스냅샷은 임시 파일에 쓴 뒤 이름을 바꾼다. 쓰는 도중에 죽어도 이전 스냅샷은 그대로 남는다.
+     * 형식: [int magic] ([int 길이][상품])* [int -1][long 상품 수][long CRC32] - 상품은 로그 레코드와 같은 인코딩이다.
+     */
+    static void writeSnapshot(Path file, Iterable<Item> items) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (OutputStream os = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(os, 1 << 16), crc))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            long count = 0;
+            byte[] buffer = new byte[256];
+            for (Item item : items) {
+                byte[] name = nameBytes(item);
+                int size = itemSize(name);
+                if (buffer.length < size) {
+                    buffer = new byte[Math.max(size, buffer.length << 1)];
+                }
+                int length = encode(item, name, buffer, 0);
+                out.writeInt(length);
+                out.write(buffer, 0, length);
+                count++;
+            }
+            out.writeInt(-1); // 끝 표시
+            out.writeLong(count);
+            out.flush();
+            long checksum = crc.getValue();
+            os.write(longBytes(checksum));
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @return 스냅샷이 온전하면 true. 손상된 스냅샷은 handler에 일부가 전달되었을 수 있다.
+     */
+    static boolean readSnapshot(Path file, RecordHandler handler) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(is, crc))) {
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC) {
+                return false;
+            }
+            long count = 0;
+            byte[] buffer = new byte[256];
+            while (true) {
+                int length = in.readInt();
+                if (length == -1) {
+                    break;
+                }
+                if (length < ITEM_FIXED_SIZE || length > MAX_PAYLOAD) {
+                    return false;
+                }
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length << 1)];
+                }
+                in.readFully(buffer, 0, length);
+                if (getInt(buffer, ITEM_FIXED_SIZE - 4) != length - ITEM_FIXED_SIZE) {
+                    return false; // 이름 길이가 레코드 길이와 맞지 않는다. (손상)
+                }
+                handler.put(decode(buffer, 0));
+                count++;
+            }
+            boolean countMatches = in.readLong() == count;
+            long expected = crc.getValue();
+            return countMatches && new DataInputStream(is).readLong() == expected;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    // ===== 인코딩 =====
+
+    private static byte[] nameBytes(Item item) {
+        return item.getItemName() == null ? null : item.getItemName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int itemSize(byte[] name) {
+        return ITEM_FIXED_SIZE + (name == null ? 0 : name.length);
+    }
+
+    /**
+     * @return 기록을 마친 위치
+     */
+    private static int encode(Item item, byte[] name, byte[] b, int p) {
+        int flags = (item.getPrice() != null ? HAS_PRICE : 0)
+                | (item.getQuantity() != null ? HAS_QUANTITY : 0)
+                | (item.getVersion() != null ? HAS_VERSION : 0)
+                | (name != null ? HAS_NAME : 0);
+        p = putLong(b, p, item.getId());
+        b[p++] = (byte) flags;
+        p = putInt(b, p, item.getPrice() != null ? item.getPrice() : 0);
+        p = putInt(b, p, item.getQuantity() != null ? item.getQuantity() : 0);
+        p = putLong(b, p, item.getVersion() != null ? item.getVersion() : 0L);
+        p = putInt(b, p, name != null ? name.length : 0);
+        if (name != null) {
+            System.arraycopy(name, 0, b, p, name.length);
+            p += name.length;
+        }
+        return p;
+    }
+
+    private static Item decode(byte[] b, int p) {
+        Item item = new Item();
+        item.setId(getLong(b, p));
+        p += 8;
+        int flags = b[p++];
+        if ((flags & HAS_PRICE) != 0) {
+            item.setPrice(getInt(b, p));
+        }
+        p += 4;
+        if ((flags & HAS_QUANTITY) != 0) {
+            item.setQuantity(getInt(b, p));
+        }
+        p += 4;
+        if ((flags & HAS_VERSION) != 0) {
+            item.setVersion(getLong(b, p));
+        }
+        p += 8;
+        int nameLength = getInt(b, p);
+        p += 4;
+        if ((flags & HAS_NAME) != 0) {
+            item.setItemName(new String(b, p, nameLength, StandardCharsets.UTF_8));
+        }
+        return item;
+    }
+
+    private static int putLong(byte[] b, int p, long v) {
+        p = putInt(b, p, (int) (v >>> 32));
+        return putInt(b, p, (int) v);
+    }
+
+    private static int putInt(byte[] b, int p, int v) {
+        b[p] = (byte) (v >>> 24);
+        b[p + 1] = (byte) (v >>> 16);
+        b[p + 2] = (byte) (v >>> 8);
+        b[p + 3] = (byte) v;
+        return p + 4;
+    }
+
+    private static long getLong(byte[] b, int p) {
+        return ((long) getInt(b, p) << 32) | (getInt(b, p + 4) & 0xFFFFFFFFL);
+    }
+
+    private static int getInt(byte[] b, int p) {
+        return ((b[p] & 0xFF) << 24) | ((b[p + 1] & 0xFF) << 16) | ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+    }
+
+    private static byte[] longBytes(long v) {
+        byte[] b = new byte[8];
+        putLong(b, 0, v);
+        return b;
+    }
+}
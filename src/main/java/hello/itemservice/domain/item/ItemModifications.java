@@ -0,0 +1,33 @@
+package hello.itemservice.domain.item;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저장소 전체의 변경 번호와 마지막 변경 시각 (목록 화면의 ETag, Last-Modified)
+ * - 변경 번호는 저장소를 바꾼 뒤에 올린다. 번호를 먼저 읽고 목록을 읽으면, 목록은 그 번호 이후의 상태다.
+ * - epoch: 인스턴스마다 다른 값. 재시작하면 번호가 0부터 다시 시작하므로 이전 ETag와 겹치지 않게 한다.
+ */
+final class ItemModifications {
+
+    private final long epoch = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+    private final AtomicLong count = new AtomicLong();
+    private volatile long lastModified = System.currentTimeMillis();
+
+    void increment() {
+        lastModified = System.currentTimeMillis();
+        count.incrementAndGet();
+    }
+
+    long getEpoch() {
+        return epoch;
+    }
+
+    long getCount() {
+        return count.get();
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+}
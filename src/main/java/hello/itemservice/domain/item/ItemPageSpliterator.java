@@ -0,0 +1,51 @@
+package hello.itemservice.domain.item;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * ItemStore.findPage()를 반복 호출해서 전체 상품을 순서대로 읽는다.
+ * 한 번에 PAGE_SIZE 개만 메모리에 올리고, 페이지를 읽는 동안에만 저장소의 잠금을 잡는다.
+ */
+class ItemPageSpliterator extends Spliterators.AbstractSpliterator<Item> {
+
+    static final int PAGE_SIZE = 1024;
+
+    private final ItemStore store;
+    private Iterator<Item> page = Collections.emptyIterator();
+    private long lastId;
+    private boolean exhausted;
+
+    ItemPageSpliterator(ItemStore store) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+        this.store = store;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Item> action) {
+        if (!page.hasNext()) {
+            if (exhausted) {
+                return false;
+            }
+            List<Item> items = store.findPage(lastId, PAGE_SIZE);
+            exhausted = items.size() < PAGE_SIZE;
+            if (items.isEmpty()) {
+                return false;
+            }
+            lastId = items.get(items.size() - 1).getId();
+            page = items.iterator();
+        }
+        action.accept(page.next());
+        return true;
+    }
+
+    @Override
+    public Comparator<? super Item> getComparator() {
+        return Comparator.comparing(Item::getId);
+    }
+}
@@ -0,0 +1,80 @@
+package hello.itemservice.domain.item;
+
+/**
+ * 저장된 상품의 한 버전 (불변)
+ * - commit: 이 버전을 만든 커밋 번호
+ * - previous: 바로 이전 버전. 진행 중인 스냅샷 읽기가 더 이상 필요로 하지 않으면 끊어 낸다.
+ */
+final class ItemRecord {
+
+    private final long id;
+    private final String itemName;
+    private final Integer price;
+    private final Integer quantity;
+    private final Long version;
+    private final long commit;
+    private final boolean origin; // 상품의 첫 버전이면 true
+    private volatile ItemRecord previous;
+
+    ItemRecord(Item item, long commit, ItemRecord previous) {
+        this.id = item.getId();
+        this.itemName = item.getItemName();
+        this.price = item.getPrice();
+        this.quantity = item.getQuantity();
+        this.version = item.getVersion();
+        this.commit = commit;
+        this.origin = previous == null;
+        this.previous = previous;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    ItemRecord previous() {
+        return previous;
+    }
+
+    /**
+     * snapshot 시점에 보이는 버전 (없으면 null)
+     */
+    ItemRecord visibleAt(long snapshot) {
+        ItemRecord record = this;
+        while (record != null && record.commit > snapshot) {
+            record = record.previous;
+        }
+        return record;
+    }
+
+    /**
+     * 이전 버전을 따라가도 첫 버전까지만 남아 있는지 (중간이 정리되지 않았는지)
+     */
+    boolean isOriginOnly() {
+        ItemRecord record = this;
+        while (record.previous != null) {
+            record = record.previous;
+        }
+        return record.origin;
+    }
+
+    /**
+     * oldest 이하의 첫 버전만 남기고 그보다 오래된 버전은 끊어 낸다.
+     */
+    void trim(long oldest) {
+        ItemRecord record = this;
+        while (record != null) {
+            if (record.commit <= oldest) {
+                record.previous = null;
+                return;
+            }
+            record = record.previous;
+        }
+    }
+
+    Item toItem() {
+        Item item = new Item(itemName, price, quantity);
+        item.setId(id);
+        item.setVersion(version);
+        return item;
+    }
+}
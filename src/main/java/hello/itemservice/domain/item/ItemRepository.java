@@ -1,41 +1,311 @@
 package hello.itemservice.domain.item;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 @Repository
 public class ItemRepository {
 
-    private static final Map<Long, Item> store = new HashMap<>(); //static
-    private static long sequence = 0L; //static
+    /**
+     * 스레드마다 한 번에 확보해 두는 ID 개수
+     */
+    static final int ID_BLOCK_SIZE = 64;
+
+    /**
+     * findPage()로 한 번에 조회할 수 있는 최대 상품 수
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private static final ItemStore defaultStore = new MapItemStore(); //static
+    private static final ItemIndex defaultIndex = new ItemIndex(); //static
+    private static final Lock[] defaultWriteLocks = newWriteLocks(); //static
+    private static final ItemModifications defaultModifications = new ItemModifications(); //static
+    private static final AtomicLong sequence = new AtomicLong(); //static
+    private static final ThreadLocal<IdBlock> idBlock = ThreadLocal.withInitial(IdBlock::new);
+    // Thread.isVirtual() (JDK 21 이상, 없으면 null)
+    private static final MethodHandle isVirtual = findIsVirtual();
+
+    private final ItemStore store;
+    private final ItemIndex index;
+
+    // 같은 상품에 대한 저장소/인덱스 변경 순서를 맞추기 위한 잠금 (읽기는 잠그지 않는다.)
+    private final Lock[] writeLocks;
+    private final ItemModifications modifications;
+
+    public ItemRepository() {
+        this(defaultStore, defaultIndex, defaultWriteLocks, defaultModifications);
+    }
+
+    @Autowired
+    public ItemRepository(ItemStore store) {
+        this(store, new ItemIndex(), newWriteLocks(), new ItemModifications());
+
+        // 이미 데이터가 있는 저장소(복구된 저장소)라면 인덱스를 다시 만들고, 이후 ID가 겹치지 않게 한다.
+        store.stream().forEach(item -> {
+            index.add(item);
+            sequence.accumulateAndGet(item.getId(), Math::max);
+        });
+    }
+
+    private ItemRepository(ItemStore store, ItemIndex index, Lock[] writeLocks, ItemModifications modifications) {
+        this.store = store;
+        this.index = index;
+        this.writeLocks = writeLocks;
+        this.modifications = modifications;
+    }
 
     public Item save(Item item) {
-        item.setId(++sequence);
-        store.put(item.getId(), item);
+        item.setId(nextId());
+        item.setVersion(1L);
+        Lock lock = lockFor(item.getId());
+        lock.lock();
+        try {
+            store.put(item);
+            index.add(item);
+        } finally {
+            lock.unlock();
+        }
+        modifications.increment();
         return item;
     }
 
+    /**
+     * 여러 상품을 한 번에 저장한다. (기본 저장 엔진에서는 하나의 커밋으로 한꺼번에 보인다.)
+     */
+    public List<Item> saveAll(List<Item> items) {
+        for (Item item : items) {
+            item.setId(nextId());
+            item.setVersion(1L);
+        }
+        store.putAll(items);
+        for (Item item : items) {
+            index.add(item);
+        }
+        modifications.increment();
+        return items;
+    }
+
     public Item findById(Long id) {
         return store.get(id);
     }
 
     public List<Item> findAll() {
-        return new ArrayList<>(store.values());
+        return store.findAll();
+    }
+
+    /**
+     * keyset 페이징: id가 afterId보다 큰 상품을 id 순으로 최대 limit개 조회한다.
+     * 전체 목록을 복사하지 않으므로 상품 수가 늘어나도 비용이 일정하다.
+     * @param afterId 이전 페이지의 마지막 id (첫 페이지는 null)
+     */
+    public List<Item> findPage(Long afterId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return store.findPage(afterId == null ? 0L : afterId, pageSize);
+    }
+
+    /**
+     * 검색 조건이 있으면 보조 인덱스에서 afterId 이후의 후보를 id 순으로 읽으면서 페이지를 채운다.
+     * (일치하는 상품 전체를 모아서 정렬하지 않고, 페이지가 차면 멈춘다.)
+     */
+    public List<Item> findPage(ItemSearchCond cond, Long afterId, int limit) {
+        if (cond == null || !cond.hasCondition()) {
+            return findPage(afterId, limit);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        long after = afterId == null ? 0L : afterId;
+
+        Iterator<Long> ids = candidates(cond, after);
+        List<Item> result = new ArrayList<>();
+        while (result.size() < pageSize && ids.hasNext()) {
+            Item item = store.get(ids.next());
+            if (item != null && cond.matches(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    public List<Item> findByPriceBetween(Integer minPrice, Integer maxPrice) {
+        return search(new ItemSearchCond(null, minPrice, maxPrice), index.findByPriceBetween(minPrice, maxPrice));
+    }
+
+    public List<Item> findByQuantityBetween(Integer minQuantity, Integer maxQuantity) {
+        ItemSearchCond cond = new ItemSearchCond();
+        cond.setMinQuantity(minQuantity);
+        cond.setMaxQuantity(maxQuantity);
+        return search(cond, index.findByQuantityBetween(minQuantity, maxQuantity));
+    }
+
+    public List<Item> findByNamePrefix(String prefix) {
+        return search(new ItemSearchCond(prefix, null, null), index.findByNamePrefix(prefix));
+    }
+
+    /**
+     * 전체 상품을 id 순으로 조금씩 읽어 오는 스트림 (전체 목록을 한 번에 복사하지 않는다.)
+     */
+    public Stream<Item> stream() {
+        return store.stream();
+    }
+
+    /**
+     * 검색 조건에 맞는 상품을 id 순으로 조금씩 읽어 오는 스트림 (조건이 있으면 전체를 훑으면서 거른다.)
+     */
+    public Stream<Item> stream(ItemSearchCond cond) {
+        if (cond == null || !cond.hasCondition()) {
+            return stream();
+        }
+        return stream().filter(cond::matches);
     }
 
-    public void update(Long itemId, Item updateParam) {
-        Item findItem = findById(itemId);
-        findItem.setItemName(updateParam.getItemName());
-        findItem.setPrice(updateParam.getPrice());
-        findItem.setQuantity(updateParam.getQuantity());
+    /**
+     * 낙관적 잠금(compare-and-set) 수정
+     * - updateParam.version이 있으면, 저장된 버전과 같을 때만 수정하고 버전을 1 올린다.
+     * - 그 사이에 다른 사용자가 먼저 수정했다면 아무것도 바꾸지 않고 false를 반환한다.
+     * - updateParam.version이 null이면 버전을 확인하지 않고 덮어쓴다.
+     * 비교와 교체는 인덱스 갱신에 쓰던 상품별 잠금 안에서 함께 처리하므로 잠금을 더 추가하지 않는다.
+     * @return 수정했으면 true, 버전이 맞지 않으면 false
+     */
+    public boolean update(Long itemId, Item updateParam) {
+        Lock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            Item findItem = findById(itemId);
+            long currentVersion = findItem.getVersion() == null ? 0L : findItem.getVersion();
+            if (updateParam.getVersion() != null && updateParam.getVersion() != currentVersion) {
+                return false;
+            }
+
+            // 기존 객체를 고치지 않고 새 객체로 교체한다. (인덱스에서 이전 값을 지워야 하기 때문)
+            Item updatedItem = new Item(updateParam.getItemName(), updateParam.getPrice(), updateParam.getQuantity());
+            updatedItem.setId(findItem.getId());
+            updatedItem.setVersion(currentVersion + 1);
+            store.put(updatedItem);
+            index.remove(findItem);
+            index.add(updatedItem);
+            modifications.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void clearStore() {
         store.clear();
+        index.clear();
+        modifications.increment();
+    }
+
+    /**
+     * 저장소 전체의 변경 번호 (저장, 수정, 삭제할 때마다 1씩 증가한다. 목록 화면의 ETag)
+     * 상품 하나의 변경 번호는 Item.version 이다.
+     */
+    public long getModificationCount() {
+        return modifications.getCount();
+    }
+
+    /**
+     * 이 저장소 인스턴스를 구분하는 값 (재시작하면 바뀐다. 변경 번호와 함께 ETag에 넣는다.)
+     */
+    public long getEpoch() {
+        return modifications.getEpoch();
+    }
+
+    /**
+     * 마지막으로 변경한 시각 (epoch millis)
+     */
+    public long getLastModified() {
+        return modifications.getLastModified();
+    }
+
+    /**
+     * 가장 좁은 인덱스 하나로 afterId 이후의 후보 id를 id 순으로 찾는다. 나머지 조건은 ItemSearchCond.matches()로 거른다.
+     */
+    private Iterator<Long> candidates(ItemSearchCond cond, long afterId) {
+        if (StringUtils.hasLength(cond.getItemName())) {
+            return index.findByNamePrefix(cond.getItemName(), afterId);
+        }
+        if (cond.getMinPrice() != null || cond.getMaxPrice() != null) {
+            return index.findByPriceBetween(cond.getMinPrice(), cond.getMaxPrice(), afterId);
+        }
+        return index.findByQuantityBetween(cond.getMinQuantity(), cond.getMaxQuantity(), afterId);
+    }
+
+    private List<Item> search(ItemSearchCond cond, List<Long> ids) {
+        List<Item> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Item item = store.get(id);
+            if (item != null && cond.matches(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    private Lock lockFor(long id) {
+        return writeLocks[(int) (id ^ (id >>> 32)) & (LOCK_STRIPES - 1)];
+    }
+
+    private static Lock[] newWriteLocks() {
+        Lock[] locks = new Lock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
+    }
+
+    /**
+     * 공유 카운터는 블록 단위로만 증가시키고, 블록 안의 ID는 스레드 로컬로 소비한다.
+     * 단일 스레드에서는 기존처럼 1, 2, 3 ... 순서로 발급된다.
+     * 가상 스레드는 요청마다 새로 만들어지므로 블록을 확보하지 않고 공유 카운터에서 하나씩 받는다.
+     */
+    private static long nextId() {
+        if (isVirtualThread()) {
+            return sequence.incrementAndGet();
+        }
+        IdBlock block = idBlock.get();
+        if (block.next == block.limit) {
+            block.next = sequence.getAndAdd(ID_BLOCK_SIZE) + 1;
+            block.limit = block.next + ID_BLOCK_SIZE;
+        }
+        return block.next++;
+    }
+
+    private static boolean isVirtualThread() {
+        if (isVirtual == null) {
+            return false;
+        }
+        try {
+            return (boolean) isVirtual.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static final class IdBlock {
+        private long next;
+        private long limit;
     }
 
 }
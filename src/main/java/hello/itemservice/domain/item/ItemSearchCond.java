@@ -0,0 +1,45 @@
+package hello.itemservice.domain.item;
+
+import lombok.Data;
+import org.springframework.util.StringUtils;
+
+/**
+ * 상품 목록 검색 조건 (값이 없는 조건은 무시한다.)
+ */
+@Data
+public class ItemSearchCond {
+
+    private String itemName;     // 상품명 접두사
+    private Integer minPrice;
+    private Integer maxPrice;
+    private Integer minQuantity;
+    private Integer maxQuantity;
+
+    public ItemSearchCond() {
+    }
+
+    public ItemSearchCond(String itemName, Integer minPrice, Integer maxPrice) {
+        this.itemName = itemName;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public boolean hasCondition() {
+        return StringUtils.hasLength(itemName)
+                || minPrice != null || maxPrice != null
+                || minQuantity != null || maxQuantity != null;
+    }
+
+    public boolean matches(Item item) {
+        return (!StringUtils.hasLength(itemName) || (item.getItemName() != null && item.getItemName().startsWith(itemName)))
+                && inRange(item.getPrice(), minPrice, maxPrice)
+                && inRange(item.getQuantity(), minQuantity, maxQuantity);
+    }
+
+    private static boolean inRange(Integer value, Integer min, Integer max) {
+        if (min == null && max == null) {
+            return true;
+        }
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+}
@@ -0,0 +1,48 @@
+package hello.itemservice.domain.item;
+
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * ItemRepository가 실제로 데이터를 보관하는 저장 엔진
+ * - 구현체는 동시 호출에 안전해야 한다.
+ * - get()이 돌려준 Item을 수정해도 저장소에는 반영되지 않을 수 있다. 변경은 put()으로 다시 저장한다.
+ */
+public interface ItemStore {
+
+    Item get(long id);
+
+    /**
+     * id가 할당된 상품을 저장한다. 같은 id가 이미 있으면 덮어쓴다.
+     */
+    void put(Item item);
+
+    /**
+     * 여러 상품을 한 번에 저장한다. 구현체에 따라 읽기에는 한꺼번에 보인다.
+     */
+    default void putAll(List<Item> items) {
+        for (Item item : items) {
+            put(item);
+        }
+    }
+
+    List<Item> findAll();
+
+    /**
+     * id가 afterId보다 큰 상품을 id 오름차순으로 최대 limit개 조회한다. (keyset 페이징)
+     */
+    List<Item> findPage(long afterId, int limit);
+
+    /**
+     * 전체 상품을 id 오름차순으로 조금씩 읽어 오는 스트림
+     * - 전체 목록을 한 번에 복사하지 않는다. 읽는 도중의 변경은 반영될 수도, 아닐 수도 있다.
+     */
+    default Stream<Item> stream() {
+        return StreamSupport.stream(new ItemPageSpliterator(this), false);
+    }
+
+    int size();
+
+    void clear();
+}
@@ -0,0 +1,219 @@
+package hello.itemservice.domain.item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 상품을 불변 버전 레코드(ItemRecord)로 보관하는 기본 저장 엔진 (MVCC)
+ * - 변경은 기존 레코드를 고치지 않고 새 레코드를 만들어 교체한다. (copy-on-write)
+ * - 모든 변경에는 전역 커밋 번호가 붙고, 커밋 번호 순서대로 읽기에 공개된다.
+ * - 읽기는 잠금 없이 "공개된 커밋 번호" 시점의 스냅샷을 본다. 목록 조회 도중 수정이 일어나도
+ *   반쯤 적용된 상품이나, 서로 다른 시점의 상품이 섞인 목록을 보지 않는다.
+ * - 쓰기끼리만 커밋 번호 공개 순서를 맞추느라 경쟁한다. (앞선 커밋을 잠깐 돌면서 기다리다가, 길어지면 잠든다.)
+ *
+ * 참고) clear()는 테스트/관리용이라 스냅샷과 무관하게 즉시 전체를 비운다.
+ */
+public class MapItemStore implements ItemStore {
+
+    // 앞선 커밋이 공개되기를 돌면서(spin) 기다리는 최대 횟수. 넘으면 잠들고(park), 앞선 커밋이 깨운다.
+    private static final int PUBLISH_SPINS = 128;
+
+    private final ConcurrentNavigableMap<Long, ItemRecord> store = new ConcurrentSkipListMap<>();
+
+    // 발급된 마지막 커밋 번호
+    private final AtomicLong lastCommit = new AtomicLong();
+    // 읽기에 공개된 마지막 커밋 번호 (이 번호까지는 모두 store에 반영되어 있다.)
+    private volatile long visibleCommit;
+    // 진행 중인 스냅샷 읽기: 커밋 번호 -> 읽는 중인 수
+    private final ConcurrentNavigableMap<Long, Integer> activeSnapshots = new ConcurrentSkipListMap<>();
+    // 잠들어서 공개 차례를 기다리는 쓰기: 커밋 번호 -> 스레드
+    private final ConcurrentMap<Long, Thread> publishWaiters = new ConcurrentHashMap<>();
+
+    @Override
+    public Item get(long id) {
+        while (true) {
+            ItemRecord head = store.get(id);
+            if (head == null) {
+                return null;
+            }
+            ItemRecord record = head.visibleAt(visibleCommit);
+            if (record != null) {
+                return record.toItem();
+            }
+            if (head.isOriginOnly()) {
+                return null; // 아직 공개되지 않은 새 상품
+            }
+            // 그 사이에 오래된 버전이 정리되었다. 최신 공개 번호로 다시 읽는다.
+        }
+    }
+
+    @Override
+    public void put(Item item) {
+        long id = item.getId(); // id가 없으면 커밋 번호를 받기 전에 실패한다.
+        long commit = lastCommit.incrementAndGet();
+        try {
+            ItemRecord record = new ItemRecord(item, commit, store.get(id));
+            store.put(id, record);
+            record.trim(oldestReadable());
+        } finally {
+            publish(commit); // 실패해도 번호는 공개해야 뒤따르는 쓰기가 영원히 기다리지 않는다.
+        }
+    }
+
+    /**
+     * 모든 상품에 같은 커밋 번호를 붙여서, 읽기에는 한꺼번에 보이도록 한다.
+     * 도중에 실패하면(id가 없는 상품 등) 이미 넣은 상품을 이전 버전으로 되돌린 뒤 빈 커밋으로 공개한다. (일부만 보이지 않는다.)
+     */
+    @Override
+    public void putAll(List<Item> items) {
+        long commit = lastCommit.incrementAndGet();
+        List<ItemRecord> installed = new ArrayList<>(items.size());
+        boolean completed = false;
+        try {
+            long oldest = oldestReadable();
+            for (Item item : items) {
+                ItemRecord record = new ItemRecord(item, commit, store.get(item.getId()));
+                store.put(item.getId(), record);
+                installed.add(record);
+                record.trim(oldest);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                rollback(installed);
+            }
+            publish(commit);
+        }
+    }
+
+    /**
+     * 공개 전의 레코드를 걷어 낸다. (공개되지 않은 레코드는 trim 대상이 아니므로 이전 버전이 그대로 남아 있다.)
+     */
+    private void rollback(List<ItemRecord> installed) {
+        for (int i = installed.size() - 1; i >= 0; i--) {
+            ItemRecord record = installed.get(i);
+            ItemRecord previous = record.previous();
+            if (previous == null) {
+                store.remove(record.getId(), record);
+            } else {
+                store.replace(record.getId(), record, previous);
+            }
+        }
+    }
+
+    @Override
+    public List<Item> findAll() {
+        long registered = openSnapshot();
+        long snapshot = visibleCommit;
+        try {
+            List<Item> result = new ArrayList<>();
+            for (ItemRecord head : store.values()) {
+                addVisible(result, head, snapshot);
+            }
+            return result;
+        } finally {
+            closeSnapshot(registered);
+        }
+    }
+
+    @Override
+    public List<Item> findPage(long afterId, int limit) {
+        long registered = openSnapshot();
+        long snapshot = visibleCommit;
+        try {
+            List<Item> result = new ArrayList<>(Math.min(limit, 64));
+            for (ItemRecord head : store.tailMap(afterId, false).values()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                addVisible(result, head, snapshot);
+            }
+            return result;
+        } finally {
+            closeSnapshot(registered);
+        }
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    private static void addVisible(List<Item> result, ItemRecord head, long snapshot) {
+        ItemRecord record = head.visibleAt(snapshot);
+        if (record != null) {
+            result.add(record.toItem());
+        }
+    }
+
+    /**
+     * 커밋 번호 순서대로 공개한다. 앞선 커밋이 공개될 때까지 기다린다.
+     * - 보통은 앞선 커밋이 곧 끝나므로 잠깐 돌면서 기다린다.
+     * - 앞선 커밋이 길거나(큰 putAll) 실행되지 못하고 있으면 잠든다. (CPU, 가상 스레드의 캐리어 스레드를 잡고 있지 않는다.)
+     *   공개한 쪽이 다음 커밋 번호로 기다리는 스레드를 깨운다.
+     */
+    private void publish(long commit) {
+        long previous = commit - 1;
+        for (int spins = 0; visibleCommit != previous; spins++) {
+            if (spins < PUBLISH_SPINS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            // 등록한 "뒤에" 공개 번호를 다시 확인한다. (공개한 쪽은 공개한 뒤에 등록을 확인하므로 깨우기를 놓치지 않는다.)
+            publishWaiters.put(commit, Thread.currentThread());
+            boolean interrupted = false;
+            try {
+                while (visibleCommit != previous) {
+                    LockSupport.park(this);
+                    interrupted |= Thread.interrupted(); // 인터럽트 상태로는 잠들지 못하므로 지웠다가 되돌린다.
+                }
+            } finally {
+                publishWaiters.remove(commit);
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        visibleCommit = commit;
+        Thread next = publishWaiters.get(commit + 1);
+        if (next != null) {
+            LockSupport.unpark(next);
+        }
+    }
+
+    /**
+     * 읽기 전에 현재 공개 번호를 등록한다. 호출한 쪽은 등록한 "뒤에" 공개 번호를 다시 읽어 스냅샷으로 쓴다.
+     * 그러면 동시에 오래된 버전을 정리하는 쓰기는 (1) 등록을 보고 그 이전 버전을 남기거나,
+     * (2) 등록 전에 정리했더라도 스냅샷보다 오래된 공개 번호 기준으로 정리했으므로 필요한 버전이 남는다.
+     */
+    private long openSnapshot() {
+        long registered = visibleCommit;
+        activeSnapshots.merge(registered, 1, Integer::sum);
+        return registered;
+    }
+
+    private void closeSnapshot(long snapshot) {
+        activeSnapshots.computeIfPresent(snapshot, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * 아직 읽힐 수 있는 가장 오래된 커밋 번호 (공개 번호를 먼저 읽고 스냅샷 목록을 읽어야 한다.)
+     */
+    private long oldestReadable() {
+        long oldest = visibleCommit;
+        Map.Entry<Long, Integer> firstSnapshot = activeSnapshots.firstEntry();
+        return firstSnapshot == null ? oldest : Math.min(oldest, firstSnapshot.getKey());
+    }
+}
@@ -0,0 +1,94 @@
+package hello.itemservice.domain.item;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 저장 엔진 앞에서 연산 별 시간을 잰다. (item.store{operation=get|put|putAll|findAll|findPage|size|clear, store})
+ * - stream()은 호출한 쪽이 읽는 동안 조금씩 진행되므로 재지 않고 그대로 넘긴다.
+ */
+public class MeteredItemStore implements ItemStore, Closeable {
+
+    static final String METRIC_NAME = "item.store";
+
+    private final ItemStore delegate;
+    private final Timer getTimer;
+    private final Timer putTimer;
+    private final Timer putAllTimer;
+    private final Timer findAllTimer;
+    private final Timer findPageTimer;
+    private final Timer sizeTimer;
+    private final Timer clearTimer;
+
+    public MeteredItemStore(ItemStore delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        String store = delegate.getClass().getSimpleName();
+        this.getTimer = timer(registry, store, "get");
+        this.putTimer = timer(registry, store, "put");
+        this.putAllTimer = timer(registry, store, "putAll");
+        this.findAllTimer = timer(registry, store, "findAll");
+        this.findPageTimer = timer(registry, store, "findPage");
+        this.sizeTimer = timer(registry, store, "size");
+        this.clearTimer = timer(registry, store, "clear");
+    }
+
+    private static Timer timer(MeterRegistry registry, String store, String operation) {
+        return Timer.builder(METRIC_NAME)
+                .description("상품 저장소 연산 시간")
+                .tag("store", store)
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    @Override
+    public Item get(long id) {
+        return getTimer.record(() -> delegate.get(id));
+    }
+
+    @Override
+    public void put(Item item) {
+        putTimer.record(() -> delegate.put(item));
+    }
+
+    @Override
+    public void putAll(List<Item> items) {
+        putAllTimer.record(() -> delegate.putAll(items));
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return findAllTimer.record(delegate::findAll);
+    }
+
+    @Override
+    public List<Item> findPage(long afterId, int limit) {
+        return findPageTimer.record(() -> delegate.findPage(afterId, limit));
+    }
+
+    @Override
+    public Stream<Item> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public int size() {
+        return sizeTimer.record(delegate::size);
+    }
+
+    @Override
+    public void clear() {
+        clearTimer.record(delegate::clear);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (delegate instanceof Closeable) {
+            ((Closeable) delegate).close();
+        }
+    }
+}
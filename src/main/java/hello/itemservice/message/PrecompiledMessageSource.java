@@ -0,0 +1,360 @@
+package hello.itemservice.message;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로케일 별로 미리 펼쳐 둔 테이블에서 메시지를 찾는 MessageSource
+ * - basename(messages, errors) 별 properties 파일을 로케일 상속(ko_KR -> ko -> 기본) 순서대로 합쳐서
+ *   로케일 하나에 테이블(코드 -> 메시지) 하나를 만들고, MessageFormat도 미리 파싱해 둔다.
+ * - 오류 메시지(MessageSourceResolvable)는 코드 목록(Level1 -> Level4) 중 처음 찾은 메시지를 기억해 두어서
+ *   다음부터는 코드 목록 하나를 해시 조회 한 번으로 찾는다. (찾지 못한 목록도 기억한다.)
+ * - 번들 선택(fallbackToSystemLocale 포함), 인자 처리, 기본 메시지 처리는 ResourceBundleMessageSource와 같다.
+ *
+ * 참고) 파일을 다시 읽지 않으므로 spring.messages.cache-duration 은 사용하지 않는다.
+ */
+public class PrecompiledMessageSource implements MessageSource {
+
+    private static final int MAX_CACHED_LOCALES = 32;
+    private static final int MAX_CACHED_BUNDLES = 256;
+    private static final int MAX_CACHED_CHAINS = 10_000;
+
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+    private static final Properties MISSING = new Properties();
+    private static final Message NOT_FOUND = new Message("", null);
+
+    private final String[] basenames;
+    private final Charset encoding;
+    private final boolean fallbackToSystemLocale;
+    private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+    private final Resolver resolver = new Resolver();
+
+    // 번들 이름(messages_en) -> 파일 내용 (파일이 없으면 MISSING)
+    private final ConcurrentMap<String, Properties> bundles = new ConcurrentHashMap<>();
+    // 합쳐진 번들 이름 목록 -> 코드 -> 메시지 (같은 파일을 쓰는 로케일끼리 공유한다.)
+    private final ConcurrentMap<List<String>, Map<String, String>> flattened = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Locale, MessageTable> tables = new ConcurrentHashMap<>();
+
+    public PrecompiledMessageSource(String[] basenames, Charset encoding, boolean fallbackToSystemLocale) {
+        this.basenames = basenames.clone();
+        this.encoding = encoding;
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+    }
+
+    public void setAlwaysUseMessageFormat(boolean alwaysUseMessageFormat) {
+        resolver.setAlwaysUseMessageFormat(alwaysUseMessageFormat);
+    }
+
+    public void setUseCodeAsDefaultMessage(boolean useCodeAsDefaultMessage) {
+        resolver.setUseCodeAsDefaultMessage(useCodeAsDefaultMessage);
+    }
+
+    /**
+     * 애플리케이션 시작 시 테이블을 미리 만들어 둔다. (나머지 로케일은 처음 사용할 때 만든다.)
+     */
+    public void precompile(Locale... locales) {
+        for (Locale locale : locales) {
+            table(locale);
+        }
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, @Nullable String defaultMessage, @Nullable Locale locale) {
+        return resolver.getMessage(code, args, defaultMessage, locale);
+    }
+
+    @Override
+    public String getMessage(String code, @Nullable Object[] args, @Nullable Locale locale) throws NoSuchMessageException {
+        return resolver.getMessage(code, args, locale);
+    }
+
+    /**
+     * th:errors, #fields.errors() 등 ObjectError / FieldError 메시지
+     */
+    @Override
+    public String getMessage(MessageSourceResolvable resolvable, @Nullable Locale locale) throws NoSuchMessageException {
+        Locale localeToUse = locale == null ? Locale.getDefault() : locale;
+        String[] codes = resolvable.getCodes();
+        Message message = codes == null ? null : table(localeToUse).find(codes);
+        if (message != null) {
+            return resolver.render(message, resolvable.getArguments(), localeToUse);
+        }
+
+        String defaultMessage = resolver.defaultMessage(resolvable, locale);
+        if (defaultMessage == null) {
+            throw new NoSuchMessageException(!ObjectUtils.isEmpty(codes) ? codes[codes.length - 1] : "", locale);
+        }
+        return defaultMessage;
+    }
+
+    private MessageTable table(Locale locale) {
+        MessageTable table = tables.get(locale);
+        if (table != null) {
+            return table;
+        }
+        table = new MessageTable(messages(locale), locale);
+        // Accept-Language로 로케일이 무한히 늘어나지 않도록 일정 개수까지만 기억한다.
+        if (tables.size() < MAX_CACHED_LOCALES) {
+            MessageTable existing = tables.putIfAbsent(locale, table);
+            return existing == null ? table : existing;
+        }
+        return table;
+    }
+
+    /**
+     * 앞의 basename이, 같은 basename 안에서는 더 구체적인 로케일의 파일이 우선한다.
+     */
+    private Map<String, String> messages(Locale locale) {
+        List<String> bundleNames = new ArrayList<>();
+        for (String basename : basenames) {
+            bundleNames.addAll(bundleNames(basename, locale));
+        }
+        return flattened.computeIfAbsent(bundleNames, names -> {
+            Map<String, String> messages = new HashMap<>();
+            for (String name : names) {
+                Properties bundle = bundle(name);
+                for (String code : bundle.stringPropertyNames()) {
+                    messages.putIfAbsent(code, bundle.getProperty(code));
+                }
+            }
+            return messages;
+        });
+    }
+
+    /**
+     * ResourceBundle.getBundle()과 같은 규칙
+     * - 요청한 로케일로 기본 파일(messages.properties)밖에 찾지 못하면 시스템 로케일로 다시 찾는다.
+     */
+    private List<String> bundleNames(String basename, Locale locale) {
+        List<String> names = existingBundleNames(basename, locale);
+        boolean baseOnly = names.isEmpty() || (names.size() == 1 && names.get(0).equals(basename));
+        Locale defaultLocale = Locale.getDefault();
+        if (baseOnly && fallbackToSystemLocale && !locale.equals(Locale.ROOT) && !locale.equals(defaultLocale)) {
+            List<String> fallback = existingBundleNames(basename, defaultLocale);
+            if (!fallback.isEmpty()) {
+                return fallback;
+            }
+        }
+        return names;
+    }
+
+    private List<String> existingBundleNames(String basename, Locale locale) {
+        List<String> names = new ArrayList<>();
+        for (Locale candidate : CONTROL.getCandidateLocales(basename, locale)) {
+            String name = CONTROL.toBundleName(basename, candidate);
+            if (bundle(name) != MISSING) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private Properties bundle(String name) {
+        Properties properties = bundles.get(name);
+        if (properties != null) {
+            return properties;
+        }
+        properties = load(CONTROL.toResourceName(name, "properties"));
+        if (bundles.size() < MAX_CACHED_BUNDLES) {
+            Properties existing = bundles.putIfAbsent(name, properties);
+            return existing == null ? properties : existing;
+        }
+        return properties;
+    }
+
+    private Properties load(String resourceName) {
+        try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                return MISSING;
+            }
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(in, encoding));
+            return properties;
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 파일을 읽을 수 없습니다. resource=" + resourceName, e);
+        }
+    }
+
+    /**
+     * 로케일 하나의 메시지 테이블
+     */
+    private static final class MessageTable {
+
+        private final Map<String, Message> messages;
+        // 코드 목록 -> 처음 찾은 메시지 (없으면 NOT_FOUND)
+        private final ConcurrentMap<Codes, Message> chains = new ConcurrentHashMap<>();
+
+        MessageTable(Map<String, String> texts, Locale locale) {
+            Map<String, Message> messages = new HashMap<>();
+            for (Map.Entry<String, String> entry : texts.entrySet()) {
+                messages.put(entry.getKey(), new Message(entry.getValue(), compile(entry.getValue(), locale)));
+            }
+            this.messages = messages;
+        }
+
+        Message get(String code) {
+            return messages.get(code);
+        }
+
+        Message find(String[] codes) {
+            Message message = chains.get(new Codes(codes));
+            if (message == null) {
+                message = NOT_FOUND;
+                for (String code : codes) {
+                    Message found = messages.get(code);
+                    if (found != null) {
+                        message = found;
+                        break;
+                    }
+                }
+                if (chains.size() < MAX_CACHED_CHAINS) {
+                    // 호출한 쪽에서 배열을 바꿔도 키가 바뀌지 않도록 복사해서 저장한다.
+                    chains.putIfAbsent(new Codes(codes.clone()), message);
+                }
+            }
+            return message == NOT_FOUND ? null : message;
+        }
+
+        /**
+         * 잘못된 패턴이면 null (ResourceBundleMessageSource처럼 인자와 함께 사용할 때 예외가 나도록 둔다.)
+         */
+        private static MessageFormat compile(String text, Locale locale) {
+            try {
+                return new MessageFormat(text, locale);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Message {
+
+        private final String text;
+        private final MessageFormat format;
+        // MessageFormat은 스레드 안전하지 않다. (synchronized 대신 Lock: 기다리는 가상 스레드가 캐리어 스레드를 붙잡지 않는다.)
+        private final Lock lock = new ReentrantLock();
+
+        Message(String text, MessageFormat format) {
+            this.text = text;
+            this.format = format;
+        }
+
+        /**
+         * 다른 곳에서 따로 동기화해서 쓰는 MessageFormat (공유하는 format은 복사해서 준다.)
+         */
+        MessageFormat copyFormat(Locale locale) {
+            return format != null ? (MessageFormat) format.clone() : new MessageFormat(text, locale);
+        }
+
+        String format(Object[] args, Locale locale) {
+            if (format == null) {
+                return new MessageFormat(text, locale).format(args);
+            }
+            lock.lock();
+            try {
+                return format.format(args);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 코드 목록 키 (배열 내용으로 비교한다.)
+     */
+    private static final class Codes {
+
+        private final String[] codes;
+        private final int hash;
+
+        Codes(String[] codes) {
+            this.codes = codes;
+            this.hash = Arrays.hashCode(codes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Codes && Arrays.equals(codes, ((Codes) o).codes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 코드 하나로 찾는 경로와 인자/기본 메시지 처리는 AbstractMessageSource를 그대로 사용한다.
+     */
+    private final class Resolver extends AbstractMessageSource {
+
+        @Override
+        protected String resolveCodeWithoutArguments(String code, Locale locale) {
+            Message message = table(locale).get(code);
+            return message == null ? null : message.text;
+        }
+
+        @Override
+        protected MessageFormat resolveCode(String code, Locale locale) {
+            Message message = table(locale).get(code);
+            return message == null ? null : message.copyFormat(locale);
+        }
+
+        /**
+         * 인자 중 MessageSourceResolvable(필드 이름 등)도 미리 펼친 테이블로 찾는다.
+         */
+        @Override
+        protected Object[] resolveArguments(@Nullable Object[] args, Locale locale) {
+            if (ObjectUtils.isEmpty(args)) {
+                return super.resolveArguments(args, locale);
+            }
+            Object[] resolved = new Object[args.length];
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                resolved[i] = arg instanceof MessageSourceResolvable
+                        ? PrecompiledMessageSource.this.getMessage((MessageSourceResolvable) arg, locale) : arg;
+            }
+            return resolved;
+        }
+
+        /**
+         * AbstractMessageSource.getMessageInternal()에서 메시지를 찾은 뒤와 같다.
+         */
+        String render(Message message, @Nullable Object[] args, Locale locale) {
+            if (!isAlwaysUseMessageFormat() && ObjectUtils.isEmpty(args)) {
+                return message.text;
+            }
+            Object[] argsToUse = resolveArguments(args, locale);
+            return message.format(argsToUse, locale);
+        }
+
+        String defaultMessage(MessageSourceResolvable resolvable, @Nullable Locale locale) {
+            return getDefaultMessage(resolvable, locale);
+        }
+    }
+}
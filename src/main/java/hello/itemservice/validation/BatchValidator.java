@@ -0,0 +1,107 @@
+package hello.itemservice.validation;
+
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 여러 객체(Item, ItemSaveForm, ItemUpdateForm 등)를 한 번에 검증한다.
+ * - 입력을 구간으로 나눠 ForkJoinPool에서 병렬로 검증하고, 요소 별 Errors를 입력 순서대로 돌려준다.
+ * - 요소 하나는 @Validated와 같은 검증기로 검증한다. (필드 제약 + 복합 룰 @TotalPriceMin, groups 지원)
+ * - null 요소는 required ObjectError로 돌려준다.
+ */
+public class BatchValidator {
+
+    // 작업 하나가 최소한 검증할 요소 수 (너무 잘게 나누면 작업 생성 비용이 더 크다.)
+    static final int MIN_CHUNK_SIZE = 256;
+    // 쓰레드 당 나누는 작업 수 (먼저 끝난 쓰레드가 남은 작업을 가져갈 수 있도록)
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final SmartValidator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final ForkJoinPool pool;
+
+    public BatchValidator(SmartValidator validator, MessageCodesResolver messageCodesResolver, ForkJoinPool pool) {
+        this.validator = validator;
+        this.messageCodesResolver = messageCodesResolver;
+        this.pool = pool;
+    }
+
+    /**
+     * @param objectName 오류 메시지 코드에 쓰는 객체 이름 (예: item, itemSaveForm)
+     * @param groups     검증 그룹 (SaveCheck, UpdateCheck). 없으면 Default
+     * @return 요소 별 Errors (입력 순서)
+     */
+    public List<Errors> validate(Collection<?> targets, String objectName, Class<?>... groups) {
+        Object[] array = targets.toArray();
+        Errors[] results = new Errors[array.length];
+        if (array.length == 0) {
+            return Arrays.asList(results);
+        }
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, array.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        ValidateTask task = new ValidateTask(array, results, 0, array.length, chunkSize, objectName, groups);
+        if (array.length <= chunkSize) {
+            task.compute(); // 나눌 필요가 없으면 호출한 쓰레드에서 바로 검증한다.
+        } else {
+            pool.invoke(task);
+        }
+        return Arrays.asList(results);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    private Errors validate(Object target, String objectName, Class<?>[] groups) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(target, objectName);
+        errors.setMessageCodesResolver(messageCodesResolver);
+        if (target == null) {
+            errors.reject("required");
+            return errors;
+        }
+        validator.validate(target, errors, (Object[]) groups);
+        return errors;
+    }
+
+    private final class ValidateTask extends RecursiveAction {
+
+        private final Object[] targets;
+        private final Errors[] results;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final String objectName;
+        private final Class<?>[] groups;
+
+        ValidateTask(Object[] targets, Errors[] results, int from, int to, int chunkSize,
+                     String objectName, Class<?>[] groups) {
+            this.targets = targets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.objectName = objectName;
+            this.groups = groups;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    results[i] = validate(targets[i], objectName, groups);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ValidateTask(targets, results, from, middle, chunkSize, objectName, groups),
+                    new ValidateTask(targets, results, middle, to, chunkSize, objectName, groups));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.validation.rule.RuleAssert;
+import hello.itemservice.validation.rule.RuleAssertValidator;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * SpringValidatorAdapter에 클래스 레벨 제약(@TotalPriceMin, @RuleAssert) 오류 변환만 더했다.
+ * - 기본 변환은 애노테이션 이름(TotalPriceMin)을 코드로 쓰고 인자에 현재 합계가 없다.
+ * - 여기서는 생성된 검증기, ItemValidator와 같은 ObjectError(totalPriceMin, {value, 현재 합계})로 만든다.
+ * - @RuleAssert는 code()를 코드로, 현재 식을 인자로 쓴다. (생성된 검증기와 같다.)
+ */
+public class BeanValidatorAdapter extends SpringValidatorAdapter {
+
+    public BeanValidatorAdapter(Validator targetValidator) {
+        super(targetValidator);
+    }
+
+    @Override
+    protected void processConstraintViolations(Set<ConstraintViolation<Object>> violations, Errors errors) {
+        if (violations.isEmpty()) {
+            return;
+        }
+        Set<ConstraintViolation<Object>> others = new LinkedHashSet<>();
+        Set<ConstraintViolation<Object>> totalPriceViolations = new LinkedHashSet<>();
+        Set<ConstraintViolation<Object>> ruleViolations = new LinkedHashSet<>();
+        for (ConstraintViolation<Object> violation : violations) {
+            Annotation annotation = violation.getConstraintDescriptor().getAnnotation();
+            if (annotation instanceof TotalPriceMin && violation.getLeafBean() instanceof PricedItem) {
+                totalPriceViolations.add(violation);
+            } else if (annotation instanceof RuleAssert && violation.getPropertyPath().toString().isEmpty()) {
+                ruleViolations.add(violation);
+            } else {
+                others.add(violation);
+            }
+        }
+        super.processConstraintViolations(others, errors);
+
+        for (ConstraintViolation<Object> violation : totalPriceViolations) {
+            TotalPriceMin constraint = (TotalPriceMin) violation.getConstraintDescriptor().getAnnotation();
+            Long totalPrice = TotalPriceMinValidator.totalPrice((PricedItem) violation.getLeafBean());
+            errors.reject(TotalPriceMin.ERROR_CODE, new Object[]{constraint.value(), totalPrice}, violation.getMessage());
+        }
+        for (ConstraintViolation<Object> violation : ruleViolations) {
+            RuleAssert constraint = (RuleAssert) violation.getConstraintDescriptor().getAnnotation();
+            errors.reject(constraint.code(), new Object[]{RuleAssertValidator.source(constraint)}, violation.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package hello.itemservice.validation;
+
+import org.springframework.lang.Nullable;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메시지 코드 결과를 기억해 두는 MessageCodesResolver
+ * - reject() / rejectValue() 마다 같은 입력(errorCode, objectName, field, fieldType)으로 같은 코드 배열을 다시 만들지 않는다.
+ * - 키 객체를 만들지 않도록 입력 별로 중첩된 ConcurrentHashMap으로 찾는다. (캐시 적중 시 할당 없음)
+ * - 입력 조합이 maxEntries를 넘으면 더 이상 저장하지 않고 위임만 한다. (중첩 경로 필드명 등으로 무한히 늘어나지 않도록)
+ *
+ * 참고) 돌려주는 배열은 공유되므로 수정하면 안 된다. (ObjectError, FieldError는 코드 배열을 수정하지 않는다.)
+ */
+public class CachingMessageCodesResolver implements MessageCodesResolver {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    // fieldType이 null인 경우의 키 (ConcurrentHashMap은 null 키를 허용하지 않는다.)
+    private static final Class<?> NO_TYPE = NoType.class;
+
+    private final MessageCodesResolver delegate;
+    private final int maxEntries;
+    private final AtomicInteger entries = new AtomicInteger();
+
+    // errorCode -> objectName -> codes
+    private final ConcurrentMap<String, ConcurrentMap<String, String[]>> objectCodes = new ConcurrentHashMap<>();
+    // errorCode -> objectName -> field -> fieldType -> codes
+    private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<Class<?>, String[]>>>> fieldCodes
+            = new ConcurrentHashMap<>();
+
+    public CachingMessageCodesResolver() {
+        this(new DefaultMessageCodesResolver(), DEFAULT_MAX_ENTRIES);
+    }
+
+    public CachingMessageCodesResolver(MessageCodesResolver delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        if (errorCode == null || objectName == null) {
+            return delegate.resolveMessageCodes(errorCode, objectName);
+        }
+        ConcurrentMap<String, String[]> byObject = objectCodes.get(errorCode);
+        String[] codes = byObject == null ? null : byObject.get(objectName);
+        if (codes != null) {
+            return codes;
+        }
+
+        codes = delegate.resolveMessageCodes(errorCode, objectName);
+        if (reserve()) {
+            cache(child(objectCodes, errorCode), objectName, codes);
+        }
+        return codes;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, @Nullable Class<?> fieldType) {
+        if (errorCode == null || objectName == null || field == null) {
+            return delegate.resolveMessageCodes(errorCode, objectName, field, fieldType);
+        }
+        Class<?> typeKey = fieldType == null ? NO_TYPE : fieldType;
+        ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<Class<?>, String[]>>> byObject = fieldCodes.get(errorCode);
+        ConcurrentMap<String, ConcurrentMap<Class<?>, String[]>> byField = byObject == null ? null : byObject.get(objectName);
+        ConcurrentMap<Class<?>, String[]> byType = byField == null ? null : byField.get(field);
+        String[] codes = byType == null ? null : byType.get(typeKey);
+        if (codes != null) {
+            return codes;
+        }
+
+        codes = delegate.resolveMessageCodes(errorCode, objectName, field, fieldType);
+        if (reserve()) {
+            cache(child(child(child(fieldCodes, errorCode), objectName), field), typeKey, codes);
+        }
+        return codes;
+    }
+
+    /**
+     * 저장된 조합 수 (테스트/모니터링용)
+     */
+    public int size() {
+        return entries.get();
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = entries.get();
+            if (current >= maxEntries) {
+                return false;
+            }
+            if (entries.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 동시에 같은 조합을 저장하면 먼저 저장된 배열을 남기고, 예약한 자리를 돌려준다.
+     */
+    private <K> void cache(ConcurrentMap<K, String[]> map, K key, String[] codes) {
+        if (map.putIfAbsent(key, codes) != null) {
+            entries.decrementAndGet();
+        }
+    }
+
+    private static <K, V> ConcurrentMap<K, V> child(Map<String, ConcurrentMap<K, V>> parent, String key) {
+        ConcurrentMap<K, V> child = parent.get(key);
+        if (child == null) {
+            child = parent.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+        return child;
+    }
+
+    private static final class NoType {
+    }
+}
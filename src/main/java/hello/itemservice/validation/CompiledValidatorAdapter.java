@@ -0,0 +1,283 @@
+package hello.itemservice.validation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.ConstraintTarget;
+import javax.validation.ConstraintValidator;
+import javax.validation.GroupSequence;
+import javax.validation.MessageInterpolator;
+import javax.validation.Payload;
+import javax.validation.ValidationException;
+import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ValidateUnwrappedValue;
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * 생성된 검증기(@GenerateValidator)가 있으면 그것으로, 없으면 기존 Bean Validation으로 검증한다.
+ * - 리플렉션으로 메타데이터를 훑지 않고 getter 호출과 비교만 한다.
+ * - 오류는 SpringValidatorAdapter와 같은 FieldError(코드, 인자, 기본 메시지, 거부된 값)로 만든다.
+ * - 클래스 레벨 제약(@TotalPriceMin, @RuleAssert)은 같은 검증 한 번에 ObjectError로 만든다. (기존 Bean Validation 쪽은 BeanValidatorAdapter)
+ * - 바인딩 실패(typeMismatch)가 이미 있는 필드는 건너뛴다. (SpringValidatorAdapter와 같다.)
+ * - @GroupSequence 그룹으로 검증하면 기존 Bean Validation으로 넘긴다.
+ * - failFast(): 첫 번째 오류에서 멈춘다. (기존 Bean Validation 쪽은 Hibernate Validator의 fail-fast 모드)
+ */
+@Slf4j
+public class CompiledValidatorAdapter implements SmartValidator, ConstraintReporter {
+
+    private final SmartValidator fallback;
+    private final MessageInterpolator messageInterpolator;
+    private final Map<Class<?>, GeneratedValidator<?>> validators;
+    private final boolean failFast;
+
+    public CompiledValidatorAdapter(LocalValidatorFactoryBean validatorFactory) {
+        this(new BeanValidatorAdapter(validatorFactory), validatorFactory.getMessageInterpolator(),
+                ServiceLoader.load(GeneratedValidator.class, ClassUtils.getDefaultClassLoader()), false);
+    }
+
+    @SuppressWarnings("rawtypes")
+    CompiledValidatorAdapter(SmartValidator fallback, MessageInterpolator messageInterpolator,
+                             Iterable<GeneratedValidator> generatedValidators, boolean failFast) {
+        this.fallback = fallback;
+        this.messageInterpolator = messageInterpolator;
+        Map<Class<?>, GeneratedValidator<?>> validators = new HashMap<>();
+        for (GeneratedValidator<?> validator : generatedValidators) {
+            validators.put(validator.getTargetType(), validator);
+        }
+        this.validators = validators;
+        this.failFast = failFast;
+        log.info("생성된 검증기 {}개 등록 {} failFast={}", validators.size(), validators.keySet(), failFast);
+    }
+
+    /**
+     * 첫 번째 오류를 찾으면 나머지 제약은 검사하지 않는 검증기 (잘못된 요청이 몰릴 때 API에서 사용한다.)
+     * - 생성된 검증기: 싼 제약부터 검사하고 첫 위반을 알린 뒤 바로 반환한다.
+     * - 그 밖의 클래스: 같은 ValidatorFactory에서 fail-fast 모드로 만든 Hibernate Validator로 검증한다.
+     */
+    public static CompiledValidatorAdapter failFast(LocalValidatorFactoryBean validatorFactory) {
+        javax.validation.Validator failFastValidator = validatorFactory.unwrap(HibernateValidatorFactory.class)
+                .usingContext()
+                .failFast(true)
+                .getValidator();
+        return new CompiledValidatorAdapter(new BeanValidatorAdapter(failFastValidator),
+                validatorFactory.getMessageInterpolator(),
+                ServiceLoader.load(GeneratedValidator.class, ClassUtils.getDefaultClassLoader()), true);
+    }
+
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public boolean hasGeneratedValidator(Class<?> clazz) {
+        return validators.containsKey(clazz);
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return validators.containsKey(clazz) || fallback.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        GeneratedValidator<Object> validator = validatorFor(target);
+        if (validator == null) {
+            fallback.validate(target, errors);
+            return;
+        }
+        validator.validate(target, ConstraintSite.DEFAULT_GROUPS, errors, this);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        GeneratedValidator<Object> validator = validatorFor(target);
+        Class<?>[] groups = validator == null ? null : toGroups(validationHints);
+        if (groups == null) {
+            fallback.validate(target, errors, validationHints);
+            return;
+        }
+        validator.validate(target, groups, errors, this);
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        fallback.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    /**
+     * SpringValidatorAdapter.processConstraintViolations()와 같은 FieldError를 만든다.
+     * 필드가 없는 제약(클래스 레벨)은 BeanValidatorAdapter와 같은 ObjectError를 만든다.
+     */
+    @Override
+    public boolean report(Errors errors, ConstraintSite site, Object rejectedValue) {
+        String field = site.getField();
+        if (field == null) {
+            reject(errors, site, rejectedValue);
+            return !failFast;
+        }
+        FieldError fieldError = errors.getFieldError(field);
+        if (fieldError != null && fieldError.isBindingFailure()) {
+            return true;
+        }
+
+        Object[] arguments = arguments(errors.getObjectName(), site);
+        String defaultMessage = site.defaultMessage(LocaleContextHolder.getLocale(), this::interpolate);
+        if (errors instanceof BindingResult) {
+            BindingResult bindingResult = (BindingResult) errors;
+            String[] codes = bindingResult.resolveMessageCodes(site.getCode(), field);
+            bindingResult.addError(new FieldError(errors.getObjectName(), bindingResult.getNestedPath() + field,
+                    rejectedValue, false, codes, arguments, defaultMessage));
+        } else {
+            errors.rejectValue(field, site.getCode(), arguments, defaultMessage);
+        }
+        return !failFast;
+    }
+
+    /**
+     * 인자는 애노테이션 속성 값, 그 뒤로 거부된 값 (예: totalPriceMin -> {최소 금액, 현재 합계})
+     */
+    private void reject(Errors errors, ConstraintSite site, Object rejectedValue) {
+        Object[] attributes = site.getArguments();
+        Object[] arguments = Arrays.copyOf(attributes, attributes.length + 1);
+        arguments[attributes.length] = rejectedValue;
+        errors.reject(site.getCode(), arguments, site.defaultMessage(LocaleContextHolder.getLocale(), this::interpolate));
+    }
+
+    /**
+     * 첫 번째 인자는 필드 이름(objectName.field, field 코드), 그 뒤로 애노테이션 속성 값
+     */
+    private static Object[] arguments(String objectName, ConstraintSite site) {
+        Object[] attributes = site.getArguments();
+        Object[] arguments = new Object[attributes.length + 1];
+        String field = site.getField();
+        arguments[0] = new DefaultMessageSourceResolvable(new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+        System.arraycopy(attributes, 0, arguments, 1, attributes.length);
+        return arguments;
+    }
+
+    @SuppressWarnings("unchecked")
+    private GeneratedValidator<Object> validatorFor(Object target) {
+        return target == null ? null : (GeneratedValidator<Object>) validators.get(target.getClass());
+    }
+
+    /**
+     * @return 생성된 검증기로 처리할 수 없는 힌트가 있으면 null
+     */
+    private static Class<?>[] toGroups(Object[] validationHints) {
+        if (validationHints.length == 0) {
+            return ConstraintSite.DEFAULT_GROUPS;
+        }
+        Class<?>[] groups = new Class<?>[validationHints.length];
+        for (int i = 0; i < validationHints.length; i++) {
+            if (!(validationHints[i] instanceof Class) || ((Class<?>) validationHints[i]).isAnnotationPresent(GroupSequence.class)) {
+                return null;
+            }
+            groups[i] = (Class<?>) validationHints[i];
+        }
+        return groups;
+    }
+
+    private String interpolate(ConstraintSite site) {
+        return messageInterpolator.interpolate(site.getMessageTemplate(), new SiteContext(site));
+    }
+
+    /**
+     * 메시지 보간({min}, {max} 등)에 필요한 만큼만 구현한 제약 정보
+     */
+    private static final class SiteContext implements MessageInterpolator.Context, ConstraintDescriptor<Annotation> {
+
+        private final ConstraintSite site;
+        private final Map<String, Object> attributes;
+
+        SiteContext(ConstraintSite site) {
+            this.site = site;
+            Map<String, Object> attributes = new HashMap<>(site.getAttributes());
+            attributes.put("message", site.getMessageTemplate());
+            attributes.put("groups", site.getGroups());
+            attributes.put("payload", new Class<?>[0]);
+            this.attributes = Collections.unmodifiableMap(attributes);
+        }
+
+        @Override
+        public ConstraintDescriptor<?> getConstraintDescriptor() {
+            return this;
+        }
+
+        @Override
+        public Object getValidatedValue() {
+            return null;
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            if (type.isInstance(this)) {
+                return type.cast(this);
+            }
+            throw new ValidationException("지원하지 않는 타입입니다. type=" + type);
+        }
+
+        @Override
+        public Annotation getAnnotation() {
+            return null;
+        }
+
+        @Override
+        public String getMessageTemplate() {
+            return site.getMessageTemplate();
+        }
+
+        @Override
+        public Set<Class<?>> getGroups() {
+            return Set.of(site.getGroups());
+        }
+
+        @Override
+        public Set<Class<? extends Payload>> getPayload() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public ConstraintTarget getValidationAppliesTo() {
+            return ConstraintTarget.IMPLICIT;
+        }
+
+        @Override
+        public List<Class<? extends ConstraintValidator<Annotation, ?>>> getConstraintValidatorClasses() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Set<ConstraintDescriptor<?>> getComposingConstraints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isReportAsSingleViolation() {
+            return false;
+        }
+
+        @Override
+        public ValidateUnwrappedValue getValueUnwrapping() {
+            return ValidateUnwrappedValue.DEFAULT;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package hello.itemservice.validation;
+
+import org.springframework.validation.Errors;
+
+/**
+ * 생성된 검증기가 제약 위반을 알리는 곳
+ */
+public interface ConstraintReporter {
+
+    /**
+     * @return 나머지 제약도 계속 검사하면 true, 여기서 멈추면(fail-fast) false
+     */
+    boolean report(Errors errors, ConstraintSite site, Object rejectedValue);
+}
@@ -0,0 +1,114 @@
+package hello.itemservice.validation;
+
+import javax.validation.groups.Default;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 필드 하나에 붙은 제약 하나 (생성된 검증기의 상수)
+ * - field: 필드 이름 (클래스 레벨 제약이면 null)
+ * - code: 오류 코드 (애노테이션 이름, 예: NotBlank)
+ * - arguments: 메시지 인자로 넘길 애노테이션 속성 값 (속성 이름 순서, SpringValidatorAdapter와 같다.)
+ */
+public final class ConstraintSite {
+
+    public static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+    private static final int MAX_CACHED_LOCALES = 16;
+
+    private final String field;
+    private final String code;
+    private final String messageTemplate;
+    private final Map<String, Object> attributes;
+    private final Object[] arguments;
+    private final Class<?>[] groups;
+    private final Map<Locale, String> defaultMessages = new ConcurrentHashMap<>();
+
+    /**
+     * @param attributeNames message, groups, payload를 뺀 애노테이션 속성 이름 (이름 순서)
+     */
+    public ConstraintSite(String field, String code, String messageTemplate,
+                          String[] attributeNames, Object[] attributeValues, Class<?>... groups) {
+        this.field = field;
+        this.code = code;
+        this.messageTemplate = messageTemplate;
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        for (int i = 0; i < attributeNames.length; i++) {
+            attributes.put(attributeNames[i], attributeValues[i]);
+        }
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.arguments = attributeValues.clone();
+        this.groups = groups.length == 0 ? DEFAULT_GROUPS : groups.clone();
+    }
+
+    /**
+     * 요청한 그룹 중 하나라도 이 제약의 그룹(또는 그 하위 그룹)이면 검증한다.
+     */
+    public boolean isActive(Class<?>[] requested) {
+        for (Class<?> group : groups) {
+            for (Class<?> r : requested) {
+                if (group.isAssignableFrom(r)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Hibernate Validator의 NotBlank와 같다. (null 이거나 trim() 하면 빈 문자열)
+     */
+    public static boolean isBlank(CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getMessageTemplate() {
+        return messageTemplate;
+    }
+
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    Object[] getArguments() {
+        return arguments;
+    }
+
+    Class<?>[] getGroups() {
+        return groups;
+    }
+
+    /**
+     * 기본 메시지는 로케일 별로 한 번만 만든다. (요청 헤더로 로케일이 계속 늘어나지 않도록 개수를 제한한다.)
+     */
+    String defaultMessage(Locale locale, Function<ConstraintSite, String> interpolator) {
+        String message = defaultMessages.get(locale);
+        if (message != null) {
+            return message;
+        }
+        message = interpolator.apply(this);
+        if (defaultMessages.size() < MAX_CACHED_LOCALES) {
+            defaultMessages.putIfAbsent(locale, message);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,66 @@
+package hello.itemservice.validation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 오류 코드 별 검증 오류 수 (validation.errors{code=required|range|max|totalPriceMin|typeMismatch|NotBlank ...})
+ * - reject() / rejectValue() / 바인딩 실패(typeMismatch)는 오류 하나마다 메시지 코드를 한 번 만든다. 그때 센다.
+ * - 코드 종류가 maxCodes를 넘으면 나머지는 code=other 로 센다. (태그 값이 무한히 늘어나지 않도록)
+ */
+public class ErrorCountingMessageCodesResolver implements MessageCodesResolver {
+
+    static final String METRIC_NAME = "validation.errors";
+    static final int DEFAULT_MAX_CODES = 100;
+    private static final String OTHER = "other";
+
+    private final MessageCodesResolver delegate;
+    private final MeterRegistry registry;
+    private final int maxCodes;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ErrorCountingMessageCodesResolver(MessageCodesResolver delegate, MeterRegistry registry) {
+        this(delegate, registry, DEFAULT_MAX_CODES);
+    }
+
+    ErrorCountingMessageCodesResolver(MessageCodesResolver delegate, MeterRegistry registry, int maxCodes) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.maxCodes = maxCodes;
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName) {
+        count(errorCode);
+        return delegate.resolveMessageCodes(errorCode, objectName);
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String objectName, String field, @Nullable Class<?> fieldType) {
+        count(errorCode);
+        return delegate.resolveMessageCodes(errorCode, objectName, field, fieldType);
+    }
+
+    private void count(String errorCode) {
+        String code = errorCode == null ? OTHER : errorCode;
+        Counter counter = counters.get(code);
+        if (counter == null) {
+            counter = counters.size() < maxCodes
+                    ? counters.computeIfAbsent(code, this::counter)
+                    : counters.computeIfAbsent(OTHER, this::counter);
+        }
+        counter.increment();
+    }
+
+    private Counter counter(String code) {
+        return Counter.builder(METRIC_NAME)
+                .description("검증 오류 수")
+                .tag("code", code)
+                .register(registry);
+    }
+}
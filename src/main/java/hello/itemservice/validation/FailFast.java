@@ -0,0 +1,17 @@
+package hello.itemservice.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 메서드에 붙이면 @Validated 검증이 첫 번째 오류에서 멈춘다. (CompiledValidatorAdapter.failFast())
+ * - 바인딩 전 본문 크기/JSON 모양 확인은 @MaxBodySize로 따로 붙인다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FailFast {
+}
@@ -0,0 +1,19 @@
+package hello.itemservice.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컴파일 시점에 이 클래스의 Bean Validation 검증기(클래스명_Validator)를 생성한다. (validator-processor)
+ * - 지원: @NotNull, @NotBlank, @Min, @Max, @Range (필드), @TotalPriceMin (클래스), groups
+ * - 지원하지 않는 제약이 있으면 경고만 남기고 생성하지 않는다. (기존처럼 Hibernate Validator로 검증한다.)
+ * - 필드 값은 getter로 읽는다. (@Data / @Getter)
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GenerateValidator {
+}
@@ -0,0 +1,16 @@
+package hello.itemservice.validation;
+
+import org.springframework.validation.Errors;
+
+/**
+ * @GenerateValidator로 생성된 검증기. ServiceLoader로 등록된다.
+ */
+public interface GeneratedValidator<T> {
+
+    Class<T> getTargetType();
+
+    /**
+     * @param groups 검증할 그룹 (그룹을 지정하지 않으면 ConstraintSite.DEFAULT_GROUPS)
+     */
+    void validate(T target, Class<?>[] groups, Errors errors, ConstraintReporter reporter);
+}
@@ -0,0 +1,33 @@
+package hello.itemservice.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 메서드에 붙이면 @RequestBody를 바인딩하기 전에 본문 크기와 JSON 모양(괄호 짝, 중첩 깊이)만 빠르게 확인해서
+ * 명백히 잘못된 요청은 바로 거절한다. (크기 초과: 413, 잘못된 모양: 400)
+ * - 검증 방식과는 상관없다. (첫 번째 오류에서 멈추는 검증은 @FailFast)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxBodySize {
+
+    /**
+     * 요청 본문 최대 크기 (byte)
+     */
+    int value() default 16 * 1024;
+
+    /**
+     * 요청 본문 최대 크기 설정 이름 (설정이 있으면 value 대신 쓴다.)
+     */
+    String property() default "";
+
+    /**
+     * JSON 최대 중첩 깊이
+     */
+    int maxDepth() default 8;
+}
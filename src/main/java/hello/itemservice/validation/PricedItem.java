@@ -0,0 +1,11 @@
+package hello.itemservice.validation;
+
+/**
+ * 가격과 수량을 가진 객체 (@TotalPriceMin 검증 대상)
+ */
+public interface PricedItem {
+
+    Integer getPrice();
+
+    Integer getQuantity();
+}
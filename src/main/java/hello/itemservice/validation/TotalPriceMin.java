@@ -0,0 +1,34 @@
+package hello.itemservice.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 가격 * 수량의 합이 value 이상이어야 한다. (특정 필드가 아닌 복합 룰, PricedItem에 붙인다.)
+ * - 필드 제약과 같은 검증 한 번에 함께 검사한다. (컨트롤러에서 따로 검사하지 않는다.)
+ * - 가격이나 수량이 null이면 검사하지 않는다. (@NotNull이 따로 알린다.)
+ * - 오류는 필드 오류가 아닌 ObjectError다. 코드: totalPriceMin, 인자: {value, 현재 합계}
+ *   (Bean Validation 경로는 BeanValidatorAdapter가 같은 오류로 바꾼다.)
+ * - @ScriptAssert와 달리 스크립트를 평가하지 않고, long으로 곱하므로 넘치지 않는다.
+ */
+@Documented
+@Constraint(validatedBy = TotalPriceMinValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TotalPriceMin {
+
+    String ERROR_CODE = "totalPriceMin";
+
+    long value() default 10000;
+
+    String message() default "가격 * 수량의 합은 {value}원 이상이어야 합니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
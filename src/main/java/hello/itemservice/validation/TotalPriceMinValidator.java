@@ -0,0 +1,48 @@
+package hello.itemservice.validation;
+
+import org.springframework.validation.Errors;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * @TotalPriceMin 검증기 (Hibernate Validator 경로)
+ * 생성된 검증기와 직접 만든 검증기(ItemValidator)도 totalPrice()로 같은 계산을 한다.
+ */
+public class TotalPriceMinValidator implements ConstraintValidator<TotalPriceMin, PricedItem> {
+
+    private long min;
+
+    @Override
+    public void initialize(TotalPriceMin constraintAnnotation) {
+        this.min = constraintAnnotation.value();
+    }
+
+    @Override
+    public boolean isValid(PricedItem value, ConstraintValidatorContext context) {
+        Long totalPrice = totalPrice(value);
+        return totalPrice == null || totalPrice >= min;
+    }
+
+    /**
+     * 가격 * 수량 (int 끼리 곱하면 넘칠 수 있으므로 long으로 곱한다. int 범위의 두 값이면 long은 넘치지 않는다.)
+     *
+     * @return 가격이나 수량이 없으면 null
+     */
+    public static Long totalPrice(PricedItem item) {
+        if (item == null || item.getPrice() == null || item.getQuantity() == null) {
+            return null;
+        }
+        return (long) item.getPrice() * item.getQuantity();
+    }
+
+    /**
+     * Spring Validator(ItemValidator 등)에서 쓰는 같은 검사. 위반이면 totalPriceMin ObjectError를 남긴다.
+     */
+    public static void validate(PricedItem item, long min, Errors errors) {
+        Long totalPrice = totalPrice(item);
+        if (totalPrice != null && totalPrice < min) {
+            errors.reject(TotalPriceMin.ERROR_CODE, new Object[]{min, totalPrice}, null);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package hello.itemservice.validation.rule;
+
+import java.util.function.Function;
+
+/**
+ * 대상 클래스에 맞춰 컴파일한 규칙 (스레드 안전, 상태 없음)
+ */
+public final class CompiledRule {
+
+    private final RuleExpression expression;
+    private final Class<?> targetType;
+    private final Function<Object, Object>[] nullChecks;
+    private final RuleCompiler.BooleanTerm term;
+
+    CompiledRule(RuleExpression expression, Class<?> targetType,
+                 Function<Object, Object>[] nullChecks, RuleCompiler.BooleanTerm term) {
+        this.expression = expression;
+        this.targetType = targetType;
+        this.nullChecks = nullChecks;
+        this.term = term;
+    }
+
+    /**
+     * @return 규칙을 만족하면 true. 식에 나오는 속성 중 하나라도 null이면 검사하지 않고 true
+     */
+    public boolean test(Object target) {
+        for (Function<Object, Object> nullCheck : nullChecks) {
+            if (nullCheck.apply(target) == null) {
+                return true;
+            }
+        }
+        return term.test(target);
+    }
+
+    public RuleExpression getExpression() {
+        return expression;
+    }
+
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+}
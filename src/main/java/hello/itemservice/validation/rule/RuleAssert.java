@@ -0,0 +1,50 @@
+package hello.itemservice.validation.rule;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 필드에 걸친 규칙 (@ScriptAssert 대신 쓴다. 스크립트 엔진 없이 컴파일된 람다로 평가한다.)
+ * <pre>
+ * &#64;RuleAssert("price * quantity >= 10000")
+ * &#64;RuleAssert(name = "itemTotalPrice", code = "totalPriceMin") // 규칙 파일(validation-rules.properties)의 규칙
+ * </pre>
+ * - value(식)와 name(규칙 이름) 중 하나만 지정한다. 문법은 RuleExpression 참고
+ * - 식에 나오는 속성 중 하나라도 null이면 검사하지 않는다. (@NotNull이 따로 알린다.)
+ * - 오류는 ObjectError다. 코드: code(), 인자: {현재 식}
+ *   (Bean Validation 경로는 BeanValidatorAdapter가 같은 오류로 바꾼다.)
+ */
+@Documented
+@Constraint(validatedBy = RuleAssertValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RuleAssert.List.class)
+public @interface RuleAssert {
+
+    String ERROR_CODE = "ruleAssert";
+
+    String value() default "";
+
+    String name() default "";
+
+    String code() default ERROR_CODE;
+
+    String message() default "검증 규칙을 만족하지 않습니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    @Documented
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface List {
+        RuleAssert[] value();
+    }
+}
@@ -0,0 +1,38 @@
+package hello.itemservice.validation.rule;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+/**
+ * @RuleAssert 검증기 (Hibernate Validator 경로)
+ * 생성된 검증기도 같은 RuleHandle로 검사한다.
+ */
+public class RuleAssertValidator implements ConstraintValidator<RuleAssert, Object> {
+
+    private RuleHandle rule;
+
+    @Override
+    public void initialize(RuleAssert constraintAnnotation) {
+        this.rule = handle(constraintAnnotation);
+    }
+
+    @Override
+    public boolean isValid(Object value, ConstraintValidatorContext context) {
+        return rule.test(value);
+    }
+
+    public static RuleHandle handle(RuleAssert constraint) {
+        return RuleRegistry.global().handle(constraint.value(), constraint.name());
+    }
+
+    /**
+     * 오류 인자로 쓰는 현재 식 (RuleHandle.getSource()와 같다.)
+     */
+    public static String source(RuleAssert constraint) {
+        if (!constraint.value().isEmpty()) {
+            return constraint.value().trim();
+        }
+        RuleExpression expression = RuleRegistry.global().getRules().get(constraint.name());
+        return expression == null ? constraint.name() : expression.getSource();
+    }
+}
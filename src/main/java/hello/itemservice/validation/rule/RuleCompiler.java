@@ -0,0 +1,354 @@
+package hello.itemservice.validation.rule;
+
+import hello.itemservice.validation.rule.RuleExpression.Binary;
+import hello.itemservice.validation.rule.RuleExpression.BooleanLiteral;
+import hello.itemservice.validation.rule.RuleExpression.Node;
+import hello.itemservice.validation.rule.RuleExpression.NumberLiteral;
+import hello.itemservice.validation.rule.RuleExpression.Property;
+import hello.itemservice.validation.rule.RuleExpression.Unary;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 구문 트리를 대상 클래스에 맞춰 람다 트리로 바꾼다.
+ * - 속성은 getter를 LambdaMetafactory로 감싼 Function으로 읽는다. (리플렉션 호출 없음)
+ * - 상수끼리의 연산은 미리 계산하고, 한쪽이 상수인 비교는 상수를 람다에 담는다.
+ */
+final class RuleCompiler {
+
+    private static final Set<Class<?>> NUMBER_TYPES = Set.of(
+            Long.class, Integer.class, Short.class, Byte.class, long.class, int.class, short.class, byte.class);
+    private static final Set<Class<?>> BOOLEAN_TYPES = Set.of(Boolean.class, boolean.class);
+
+    private final RuleExpression expression;
+    private final Class<?> targetType;
+    private final Map<String, Getter> getters = new LinkedHashMap<>();
+
+    private RuleCompiler(RuleExpression expression, Class<?> targetType) {
+        this.expression = expression;
+        this.targetType = targetType;
+    }
+
+    static CompiledRule compile(RuleExpression expression, Node root, Class<?> targetType) {
+        RuleCompiler compiler = new RuleCompiler(expression, targetType);
+        if (compiler.typeOf(root) != Type.BOOLEAN) {
+            throw compiler.error("규칙 식의 결과는 boolean이어야 합니다.", root);
+        }
+        BooleanTerm term = compiler.booleanTerm(root);
+        // 참조 타입 속성은 평가 전에 null인지 확인한다. (null이면 검사하지 않는다. @NotNull이 따로 알린다.)
+        List<Function<Object, Object>> nullable = new ArrayList<>();
+        for (Getter getter : compiler.getters.values()) {
+            if (!getter.primitive) {
+                nullable.add(getter.function);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Function<Object, Object>[] nullChecks = nullable.toArray(new Function[0]);
+        return new CompiledRule(expression, targetType, nullChecks, term);
+    }
+
+    interface NumberTerm {
+        long eval(Object target);
+    }
+
+    interface BooleanTerm {
+        boolean test(Object target);
+    }
+
+    private enum Type {NUMBER, BOOLEAN}
+
+    private Type typeOf(Node node) {
+        if (node instanceof NumberLiteral) {
+            return Type.NUMBER;
+        }
+        if (node instanceof BooleanLiteral) {
+            return Type.BOOLEAN;
+        }
+        if (node instanceof Property) {
+            return getter((Property) node).type;
+        }
+        if (node instanceof Unary) {
+            Unary unary = (Unary) node;
+            Type expected = unary.operator == RuleExpression.Operator.NOT ? Type.BOOLEAN : Type.NUMBER;
+            expect(unary.operand, expected, unary);
+            return expected;
+        }
+        Binary binary = (Binary) node;
+        switch (binary.operator) {
+            case OR:
+            case AND:
+                expect(binary.left, Type.BOOLEAN, binary);
+                expect(binary.right, Type.BOOLEAN, binary);
+                return Type.BOOLEAN;
+            case EQ:
+            case NE:
+                if (typeOf(binary.left) != typeOf(binary.right)) {
+                    throw error("'" + binary.operator.symbol + "' 양쪽의 타입이 다릅니다.", binary);
+                }
+                return Type.BOOLEAN;
+            case LT:
+            case LE:
+            case GT:
+            case GE:
+                expect(binary.left, Type.NUMBER, binary);
+                expect(binary.right, Type.NUMBER, binary);
+                return Type.BOOLEAN;
+            default:
+                expect(binary.left, Type.NUMBER, binary);
+                expect(binary.right, Type.NUMBER, binary);
+                return Type.NUMBER;
+        }
+    }
+
+    private void expect(Node operand, Type expected, Node operator) {
+        if (typeOf(operand) != expected) {
+            throw error("'" + symbol(operator) + "'에는 " + (expected == Type.NUMBER ? "숫자" : "boolean") + "가 필요합니다.", operand);
+        }
+    }
+
+    private static String symbol(Node node) {
+        return node instanceof Unary ? ((Unary) node).operator.symbol : ((Binary) node).operator.symbol;
+    }
+
+    // ===== 람다 트리 =====
+
+    private NumberTerm numberTerm(Node node) {
+        Long constant = constant(node);
+        if (constant != null) {
+            long value = constant;
+            return target -> value;
+        }
+        if (node instanceof Property) {
+            Function<Object, Object> getter = getter((Property) node).function;
+            return target -> ((Number) getter.apply(target)).longValue();
+        }
+        if (node instanceof Unary) {
+            NumberTerm operand = numberTerm(((Unary) node).operand);
+            return target -> -operand.eval(target);
+        }
+        Binary binary = (Binary) node;
+        NumberTerm left = numberTerm(binary.left);
+        NumberTerm right = numberTerm(binary.right);
+        switch (binary.operator) {
+            case ADD:
+                return target -> left.eval(target) + right.eval(target);
+            case SUB:
+                return target -> left.eval(target) - right.eval(target);
+            case MUL:
+                return target -> left.eval(target) * right.eval(target);
+            default:
+                throw new IllegalStateException(binary.operator.name());
+        }
+    }
+
+    private BooleanTerm booleanTerm(Node node) {
+        if (node instanceof BooleanLiteral) {
+            boolean value = ((BooleanLiteral) node).value;
+            return target -> value;
+        }
+        if (node instanceof Property) {
+            Function<Object, Object> getter = getter((Property) node).function;
+            return target -> (Boolean) getter.apply(target);
+        }
+        if (node instanceof Unary) {
+            BooleanTerm operand = booleanTerm(((Unary) node).operand);
+            return target -> !operand.test(target);
+        }
+        Binary binary = (Binary) node;
+        switch (binary.operator) {
+            case OR: {
+                BooleanTerm left = booleanTerm(binary.left);
+                BooleanTerm right = booleanTerm(binary.right);
+                return target -> left.test(target) || right.test(target);
+            }
+            case AND: {
+                BooleanTerm left = booleanTerm(binary.left);
+                BooleanTerm right = booleanTerm(binary.right);
+                return target -> left.test(target) && right.test(target);
+            }
+            default:
+                return typeOf(binary.left) == Type.BOOLEAN ? booleanEquality(binary) : comparison(binary);
+        }
+    }
+
+    private BooleanTerm booleanEquality(Binary binary) {
+        BooleanTerm left = booleanTerm(binary.left);
+        BooleanTerm right = booleanTerm(binary.right);
+        return binary.operator == RuleExpression.Operator.EQ
+                ? target -> left.test(target) == right.test(target)
+                : target -> left.test(target) != right.test(target);
+    }
+
+    private BooleanTerm comparison(Binary binary) {
+        NumberTerm left = numberTerm(binary.left);
+        Long constant = constant(binary.right);
+        if (constant != null) {
+            // 가장 흔한 모양 (속성 식 >= 상수)
+            long c = constant;
+            switch (binary.operator) {
+                case EQ:
+                    return target -> left.eval(target) == c;
+                case NE:
+                    return target -> left.eval(target) != c;
+                case LT:
+                    return target -> left.eval(target) < c;
+                case LE:
+                    return target -> left.eval(target) <= c;
+                case GT:
+                    return target -> left.eval(target) > c;
+                default:
+                    return target -> left.eval(target) >= c;
+            }
+        }
+        NumberTerm right = numberTerm(binary.right);
+        switch (binary.operator) {
+            case EQ:
+                return target -> left.eval(target) == right.eval(target);
+            case NE:
+                return target -> left.eval(target) != right.eval(target);
+            case LT:
+                return target -> left.eval(target) < right.eval(target);
+            case LE:
+                return target -> left.eval(target) <= right.eval(target);
+            case GT:
+                return target -> left.eval(target) > right.eval(target);
+            default:
+                return target -> left.eval(target) >= right.eval(target);
+        }
+    }
+
+    /**
+     * 속성이 없는 숫자 식이면 미리 계산한 값, 아니면 null
+     */
+    private static Long constant(Node node) {
+        if (node instanceof NumberLiteral) {
+            return ((NumberLiteral) node).value;
+        }
+        if (node instanceof Unary && ((Unary) node).operator == RuleExpression.Operator.NEG) {
+            Long operand = constant(((Unary) node).operand);
+            return operand == null ? null : -operand;
+        }
+        if (node instanceof Binary) {
+            Binary binary = (Binary) node;
+            Long left = constant(binary.left);
+            Long right = left == null ? null : constant(binary.right);
+            if (right == null) {
+                return null;
+            }
+            switch (binary.operator) {
+                case ADD:
+                    return left + right;
+                case SUB:
+                    return left - right;
+                case MUL:
+                    return left * right;
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
+    // ===== 속성 =====
+
+    private Getter getter(Property property) {
+        Getter getter = getters.get(property.name);
+        if (getter == null) {
+            getter = createGetter(property);
+            getters.put(property.name, getter);
+        }
+        return getter;
+    }
+
+    private Getter createGetter(Property property) {
+        Method method = findGetter(property.name);
+        if (method == null) {
+            throw error(targetType.getSimpleName() + "에 속성 '" + property.name + "'의 getter가 없습니다.", property);
+        }
+        Class<?> returnType = method.getReturnType();
+        Type type;
+        if (NUMBER_TYPES.contains(returnType)) {
+            type = Type.NUMBER;
+        } else if (BOOLEAN_TYPES.contains(returnType)) {
+            type = Type.BOOLEAN;
+        } else {
+            throw error("정수나 boolean 속성만 쓸 수 있습니다. " + property.name + ": " + returnType.getSimpleName(), property);
+        }
+        return new Getter(type, returnType.isPrimitive(), function(method));
+    }
+
+    private Method findGetter(String name) {
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method method = targetType.getMethod(prefix + suffix);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class
+                        && (prefix.equals("get") || BOOLEAN_TYPES.contains(method.getReturnType()))) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 다음 접두사
+            }
+        }
+        return null;
+    }
+
+    /**
+     * getter를 Function으로 감싼다. 이 클래스에서 접근할 수 없는 클래스(공개되지 않은 클래스)면 리플렉션으로 호출한다.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> function(Method method) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            method.setAccessible(true);
+            return target -> {
+                try {
+                    return method.invoke(target);
+                } catch (InvocationTargetException ex) {
+                    throw new UndeclaredThrowableException(ex.getCause());
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+
+    private RuleSyntaxException error(String message, Node node) {
+        return new RuleSyntaxException(message, expression.getSource(), node.position);
+    }
+
+    private static final class Getter {
+
+        final Type type;
+        final boolean primitive;
+        final Function<Object, Object> function;
+
+        Getter(Type type, boolean primitive, Function<Object, Object> function) {
+            this.type = type;
+            this.primitive = primitive;
+            this.function = function;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package hello.itemservice.validation.rule;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 여러 필드에 걸친 검증 규칙 식 (예: price * quantity >= 10000)
+ *
+ * 문법 (우선순위가 낮은 것부터)
+ * - ||, &&, !
+ * - 비교: == != < <= > >=
+ * - 산술: + - * (long으로 계산한다.), 단항 -
+ * - 정수 상수, true, false, 괄호, 속성 이름 (getter로 읽는다. 정수 또는 boolean 속성)
+ *
+ * 식은 parse()에서 한 번만 읽고, 대상 클래스마다 compile()로 람다 트리(CompiledRule)를 만든다.
+ * 평가할 때는 파싱이나 리플렉션 없이 getter 호출과 연산만 한다.
+ */
+public final class RuleExpression {
+
+    private final String source;
+    private final Node root;
+    private final List<String> properties;
+
+    private RuleExpression(String source, Node root, List<String> properties) {
+        this.source = source;
+        this.root = root;
+        this.properties = properties;
+    }
+
+    public static RuleExpression parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new RuleSyntaxException("규칙 식이 비어 있습니다.", String.valueOf(source));
+        }
+        Parser parser = new Parser(source);
+        Node root = parser.parse();
+        return new RuleExpression(source.trim(), root, List.copyOf(parser.properties));
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * 식에 나오는 속성 이름 (처음 나온 순서)
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @throws RuleSyntaxException 없는 속성, 지원하지 않는 속성 타입, 타입이 맞지 않는 연산
+     */
+    public CompiledRule compile(Class<?> targetType) {
+        return RuleCompiler.compile(this, root, targetType);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    // ===== 구문 트리 =====
+
+    enum Operator {
+        OR("||"), AND("&&"), NOT("!"),
+        EQ("=="), NE("!="), LT("<"), LE("<="), GT(">"), GE(">="),
+        ADD("+"), SUB("-"), MUL("*"), NEG("-");
+
+        final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+
+    abstract static class Node {
+        final int position;
+
+        Node(int position) {
+            this.position = position;
+        }
+    }
+
+    static final class NumberLiteral extends Node {
+        final long value;
+
+        NumberLiteral(int position, long value) {
+            super(position);
+            this.value = value;
+        }
+    }
+
+    static final class BooleanLiteral extends Node {
+        final boolean value;
+
+        BooleanLiteral(int position, boolean value) {
+            super(position);
+            this.value = value;
+        }
+    }
+
+    static final class Property extends Node {
+        final String name;
+
+        Property(int position, String name) {
+            super(position);
+            this.name = name;
+        }
+    }
+
+    static final class Unary extends Node {
+        final Operator operator;
+        final Node operand;
+
+        Unary(int position, Operator operator, Node operand) {
+            super(position);
+            this.operator = operator;
+            this.operand = operand;
+        }
+    }
+
+    static final class Binary extends Node {
+        final Operator operator;
+        final Node left;
+        final Node right;
+
+        Binary(int position, Operator operator, Node left, Node right) {
+            super(position);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    // ===== 파서 (재귀 하강) =====
+
+    private static final class Parser {
+
+        private final String source;
+        private final Set<String> properties = new LinkedHashSet<>();
+        private int pos;
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        Node parse() {
+            Node node = or();
+            skipSpaces();
+            if (pos < source.length()) {
+                throw error("식이 끝나야 합니다.");
+            }
+            return node;
+        }
+
+        private Node or() {
+            Node left = and();
+            int start;
+            while (accept("||", start = pos)) {
+                left = new Binary(start, Operator.OR, left, and());
+            }
+            return left;
+        }
+
+        private Node and() {
+            Node left = comparison();
+            int start;
+            while (accept("&&", start = pos)) {
+                left = new Binary(start, Operator.AND, left, comparison());
+            }
+            return left;
+        }
+
+        private Node comparison() {
+            Node left = additive();
+            skipSpaces();
+            int start = pos;
+            for (Operator operator : new Operator[]{Operator.EQ, Operator.NE, Operator.LE, Operator.GE, Operator.LT, Operator.GT}) {
+                if (accept(operator.symbol, start)) {
+                    return new Binary(start, operator, left, additive());
+                }
+            }
+            return left;
+        }
+
+        private Node additive() {
+            Node left = multiplicative();
+            while (true) {
+                skipSpaces();
+                int start = pos;
+                if (accept("+", start)) {
+                    left = new Binary(start, Operator.ADD, left, multiplicative());
+                } else if (accept("-", start)) {
+                    left = new Binary(start, Operator.SUB, left, multiplicative());
+                } else {
+                    return left;
+                }
+            }
+        }
+
+        private Node multiplicative() {
+            Node left = unary();
+            int start;
+            while (accept("*", start = pos)) {
+                left = new Binary(start, Operator.MUL, left, unary());
+            }
+            return left;
+        }
+
+        private Node unary() {
+            skipSpaces();
+            int start = pos;
+            if (peek() == '!' && !lookingAt("!=")) {
+                pos++;
+                return new Unary(start, Operator.NOT, unary());
+            }
+            if (peek() == '-') {
+                pos++;
+                return new Unary(start, Operator.NEG, unary());
+            }
+            return primary();
+        }
+
+        private Node primary() {
+            skipSpaces();
+            int start = pos;
+            char c = peek();
+            if (c == '(') {
+                pos++;
+                Node node = or();
+                if (!accept(")", pos)) {
+                    throw error("')'가 필요합니다.");
+                }
+                return node;
+            }
+            if (Character.isDigit(c)) {
+                while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '_')) {
+                    pos++;
+                }
+                String digits = source.substring(start, pos).replace("_", "");
+                try {
+                    return new NumberLiteral(start, Long.parseLong(digits));
+                } catch (NumberFormatException e) {
+                    throw new RuleSyntaxException("long 범위를 넘는 숫자입니다.", source, start);
+                }
+            }
+            if (Character.isJavaIdentifierStart(c)) {
+                while (pos < source.length() && Character.isJavaIdentifierPart(source.charAt(pos))) {
+                    pos++;
+                }
+                String name = source.substring(start, pos);
+                if (name.equals("true") || name.equals("false")) {
+                    return new BooleanLiteral(start, Boolean.parseBoolean(name));
+                }
+                properties.add(name);
+                return new Property(start, name);
+            }
+            throw error(c == 0 ? "식이 중간에 끝났습니다." : "알 수 없는 문자 '" + c + "'");
+        }
+
+        private boolean accept(String symbol, int start) {
+            pos = start;
+            skipSpaces();
+            if (lookingAt(symbol)) {
+                pos += symbol.length();
+                return true;
+            }
+            pos = start;
+            return false;
+        }
+
+        private boolean lookingAt(String symbol) {
+            return source.startsWith(symbol, pos);
+        }
+
+        private char peek() {
+            return pos < source.length() ? source.charAt(pos) : 0;
+        }
+
+        private void skipSpaces() {
+            while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private RuleSyntaxException error(String message) {
+            return new RuleSyntaxException(message, source, pos);
+        }
+    }
+}
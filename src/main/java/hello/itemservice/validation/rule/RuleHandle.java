@@ -0,0 +1,75 @@
+package hello.itemservice.validation.rule;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 검증기가 들고 있는 규칙 하나 (식을 직접 지정했거나, 규칙 묶음의 이름으로 지정했다.)
+ * - 마지막으로 쓴 (대상 클래스, 규칙 묶음, 컴파일 결과)를 기억해 두고, 같으면 바로 평가한다.
+ * - 이름으로 지정한 규칙은 규칙 묶음이 바뀌면 다음 평가부터 새 식으로 검사한다.
+ */
+public final class RuleHandle {
+
+    private final RuleRegistry registry;
+    private final RuleExpression expression;
+    private final String name;
+    // 식을 직접 지정한 경우의 대상 클래스 별 컴파일 결과
+    private final ConcurrentMap<Class<?>, CompiledRule> compiled = new ConcurrentHashMap<>();
+    private volatile Binding last;
+
+    RuleHandle(RuleRegistry registry, RuleExpression expression, String name) {
+        this.registry = registry;
+        this.expression = expression;
+        this.name = name;
+    }
+
+    /**
+     * @return 규칙을 만족하면 true (대상이 null이거나 식에 나오는 속성이 null이면 true)
+     * @throws IllegalStateException 이름으로 지정한 규칙이 현재 규칙 묶음에 없다.
+     * @throws RuleSyntaxException   대상 클래스에 맞지 않는 식 (없는 속성 등)
+     */
+    public boolean test(Object target) {
+        if (target == null) {
+            return true;
+        }
+        Class<?> type = target.getClass();
+        RuleSet rules = expression == null ? registry.getRules() : null;
+        Binding binding = last;
+        if (binding == null || binding.type != type || binding.rules != rules) {
+            CompiledRule rule = rules == null
+                    ? compiled.computeIfAbsent(type, expression::compile)
+                    : rules.compile(name, type);
+            binding = new Binding(type, rules, rule);
+            last = binding;
+        }
+        return binding.rule.test(target);
+    }
+
+    /**
+     * 현재 검사하는 식 (오류 메시지 인자로 쓴다.) 이름으로 지정한 규칙이 없으면 이름
+     */
+    public String getSource() {
+        if (expression != null) {
+            return expression.getSource();
+        }
+        RuleExpression current = registry.getRules().get(name);
+        return current == null ? name : current.getSource();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private static final class Binding {
+
+        final Class<?> type;
+        final RuleSet rules;
+        final CompiledRule rule;
+
+        Binding(Class<?> type, RuleSet rules, CompiledRule rule) {
+            this.type = type;
+            this.rules = rules;
+            this.rule = rule;
+        }
+    }
+}
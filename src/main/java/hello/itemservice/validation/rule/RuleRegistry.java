@@ -0,0 +1,38 @@
+package hello.itemservice.validation.rule;
+
+/**
+ * 현재 규칙 묶음(RuleSet)을 들고 있다. 다시 읽으면 setRules()로 통째로 바꾼다. (검증 중인 요청은 이전 묶음 또는 새 묶음 중 하나만 본다.)
+ * - global(): @RuleAssert 검증기(Hibernate Validator 경로, 생성된 검증기)가 함께 쓰는 인스턴스
+ */
+public class RuleRegistry {
+
+    private static final RuleRegistry GLOBAL = new RuleRegistry();
+
+    private volatile RuleSet rules = RuleSet.EMPTY;
+
+    public static RuleRegistry global() {
+        return GLOBAL;
+    }
+
+    public RuleSet getRules() {
+        return rules;
+    }
+
+    public void setRules(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * @param expression 규칙 식 (name이 있으면 빈 문자열)
+     * @param name       규칙 묶음의 규칙 이름 (expression이 있으면 빈 문자열)
+     */
+    public RuleHandle handle(String expression, String name) {
+        boolean hasExpression = expression != null && !expression.isEmpty();
+        boolean hasName = name != null && !name.isEmpty();
+        if (hasExpression == hasName) {
+            throw new IllegalArgumentException("규칙 식과 규칙 이름 중 하나만 지정해야 합니다. expression=" + expression + ", name=" + name);
+        }
+        return hasExpression ? new RuleHandle(this, RuleExpression.parse(expression), null)
+                : new RuleHandle(this, null, name);
+    }
+}
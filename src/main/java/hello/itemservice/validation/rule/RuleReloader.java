@@ -0,0 +1,114 @@
+package hello.itemservice.validation.rule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 파일(이름=식, UTF-8 properties)을 읽어서 RuleRegistry의 규칙 묶음을 바꾼다.
+ * - 시작할 때 읽는다. 파일이 없으면 빈 묶음, 식이 잘못되었으면 시작에 실패한다.
+ * - reloadIntervalSeconds > 0 이면 이 주기로 파일이 바뀌었는지 보고 다시 읽는다.
+ *   다시 읽을 때 식이 잘못되었으면 경고만 남기고 이전 묶음을 그대로 쓴다.
+ */
+@Slf4j
+public class RuleReloader implements Closeable {
+
+    private final RuleRegistry registry;
+    private final Resource resource;
+    private final ScheduledExecutorService scheduler;
+    private boolean loaded;
+    private long lastModified = -1;
+
+    public RuleReloader(RuleRegistry registry, Resource resource, long reloadIntervalSeconds) {
+        this.registry = registry;
+        this.resource = resource;
+        reload();
+
+        if (reloadIntervalSeconds > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "rule-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::reloadQuietly,
+                    reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 파일이 바뀌었으면 다시 읽는다.
+     *
+     * @return 규칙 묶음을 바꿨으면 true
+     * @throws RuleSyntaxException 식이 잘못되었다. (규칙 묶음은 그대로다.)
+     */
+    public synchronized boolean reload() {
+        try {
+            if (!resource.exists()) {
+                boolean changed = loaded || registry.getRules() != RuleSet.EMPTY;
+                registry.setRules(RuleSet.EMPTY);
+                loaded = false;
+                return changed;
+            }
+            long modified = lastModified();
+            if (loaded && (modified == -1 || modified == lastModified)) {
+                return false;
+            }
+            RuleSet rules = RuleSet.of(read());
+            registry.setRules(rules);
+            loaded = true;
+            lastModified = modified;
+            log.info("검증 규칙 {}개 읽음 {} {}", rules.size(), rules.names(), resource.getDescription());
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("검증 규칙 파일을 읽을 수 없습니다. " + resource.getDescription(), e);
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("검증 규칙을 다시 읽지 못했습니다. 이전 규칙을 그대로 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 파일이 아닌 리소스(jar 안의 classpath 리소스 등)는 -1 (바뀌었는지 알 수 없으므로 처음 한 번만 읽는다.)
+     */
+    private long lastModified() {
+        try {
+            return resource.isFile() ? resource.lastModified() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private Properties read() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream();
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
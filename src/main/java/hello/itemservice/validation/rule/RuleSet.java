@@ -0,0 +1,70 @@
+package hello.itemservice.validation.rule;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이름 붙은 규칙 묶음 (바꿀 수 없다. 다시 읽으면 새 RuleSet을 만들어 통째로 바꾼다.)
+ * - 대상 클래스 별 컴파일 결과는 이 RuleSet 안에 보관한다. 새 RuleSet으로 바뀌면 다시 컴파일한다.
+ */
+public final class RuleSet {
+
+    public static final RuleSet EMPTY = new RuleSet(Collections.emptyMap());
+
+    private final Map<String, RuleExpression> rules;
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, CompiledRule>> compiled = new ConcurrentHashMap<>();
+
+    private RuleSet(Map<String, RuleExpression> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * 이름=식 형태의 속성을 모두 읽는다. 하나라도 잘못되면 RuleSyntaxException (일부만 바뀌지 않는다.)
+     */
+    public static RuleSet of(Properties properties) {
+        Map<String, RuleExpression> rules = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                rules.put(name, RuleExpression.parse(properties.getProperty(name)));
+            } catch (RuleSyntaxException e) {
+                throw new RuleSyntaxException(name, e);
+            }
+        }
+        return new RuleSet(Collections.unmodifiableMap(rules));
+    }
+
+    public static RuleSet of(Map<String, String> rules) {
+        Properties properties = new Properties();
+        properties.putAll(rules);
+        return of(properties);
+    }
+
+    public RuleExpression get(String name) {
+        return rules.get(name);
+    }
+
+    public Set<String> names() {
+        return rules.keySet();
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * @throws IllegalStateException 이름 붙은 규칙이 없다.
+     */
+    CompiledRule compile(String name, Class<?> targetType) {
+        RuleExpression expression = rules.get(name);
+        if (expression == null) {
+            throw new IllegalStateException("규칙이 없습니다. name=" + name + ", rules=" + rules.keySet());
+        }
+        return compiled.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+                .computeIfAbsent(targetType, expression::compile);
+    }
+}
@@ -0,0 +1,19 @@
+package hello.itemservice.validation.rule;
+
+/**
+ * 규칙 식을 읽거나 대상 클래스에 맞춰 컴파일할 수 없다. (문법 오류, 없는 속성, 타입이 맞지 않는 연산)
+ */
+public class RuleSyntaxException extends IllegalArgumentException {
+
+    public RuleSyntaxException(String message, String source) {
+        super(message + " rule=\"" + source + "\"");
+    }
+
+    public RuleSyntaxException(String message, String source, int position) {
+        super(message + " (위치 " + position + ") rule=\"" + source + "\"");
+    }
+
+    RuleSyntaxException(String name, RuleSyntaxException cause) {
+        super("규칙 '" + name + "': " + cause.getMessage(), cause);
+    }
+}
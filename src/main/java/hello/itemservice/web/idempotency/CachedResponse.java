@@ -0,0 +1,73 @@
+package hello.itemservice.web.idempotency;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멱등 키로 저장한 응답 (상태 코드, 다시 보낼 헤더, 본문)
+ * - 성공(저장 후 redirect / 등록 결과)과 검증 실패(입력 폼 / 오류 목록) 모두 그대로 다시 보낸다.
+ */
+public final class CachedResponse {
+
+    // 다시 보낼 헤더 (세션 쿠키 등 요청마다 달라야 하는 헤더는 저장하지 않는다.)
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.LOCATION, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CACHE_CONTROL);
+
+    private final int status;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    private CachedResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * @return 저장하지 않을 응답(5xx, maxBodySize 초과)이면 null
+     */
+    static CachedResponse of(ContentCachingResponseWrapper response, int maxBodySize) {
+        if (response.getStatus() >= 500 || response.getContentSize() > maxBodySize) {
+            return null;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return new CachedResponse(response.getStatus(), response.getContentType(), headers,
+                response.getContentAsByteArray());
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public int getBodySize() {
+        return body.length;
+    }
+
+    void writeTo(HttpServletResponse response) throws IOException {
+        headers.forEach(response::setHeader);
+        if (body.length == 0 && status >= 400) {
+            response.sendError(status); // 처음 응답처럼 오류 페이지로 보낸다. (ResponseStatusException 등)
+            return;
+        }
+        response.setStatus(status);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
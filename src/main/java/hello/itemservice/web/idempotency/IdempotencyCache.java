@@ -0,0 +1,173 @@
+package hello.itemservice.web.idempotency;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * 멱등 키(Idempotency-Key) 별 처리 결과 캐시
+ * - claim(key): 처음 온 요청이 처리를 맡고(owner), 같은 키로 동시에 온 요청은 그 결과를 기다린다.
+ * - 결과는 완료한 시점부터 ttl 동안 돌려준다. 만료된 항목은 조회하거나 새 항목을 넣을 때 지운다.
+ * - 항목 수가 maxEntries를 넘으면 처리를 마친 항목 중 오래된(먼저 들어온) 것부터 지운다.
+ *   처리 중인 항목은 지우지 않는다. (지우면 그 사이 재시도가 다시 처리를 맡아 중복 저장된다.)
+ *   그래서 항목 수는 동시에 처리 중인 요청 수만큼 maxEntries를 넘을 수 있다.
+ * - 처리를 맡은 요청이 결과를 남기지 않으면(abandon) 항목을 지우고, 기다리던 요청은 다시 claim 한다.
+ */
+public class IdempotencyCache<V> {
+
+    private final ConcurrentMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    // 들어온 순서 (만료/초과 항목을 앞에서부터 지운다.)
+    private final Queue<Entry<V>> order = new ConcurrentLinkedQueue<>();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    IdempotencyCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다. maxEntries=" + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public Claim<V> claim(String key) {
+        while (true) {
+            long now = nanoClock.getAsLong();
+            Entry<V> existing = entries.get(key);
+            if (existing != null) {
+                if (!existing.isExpired(now)) {
+                    return new Claim<>(this, existing, false);
+                }
+                entries.remove(key, existing);
+                continue;
+            }
+
+            Entry<V> created = new Entry<>(key);
+            if (entries.putIfAbsent(key, created) == null) {
+                order.add(created);
+                evict(now);
+                return new Claim<>(this, created, true);
+            }
+        }
+    }
+
+    /**
+     * 저장된 항목 수 (처리 중인 항목 포함, 테스트/모니터링용)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        Iterator<Entry<V>> iterator = order.iterator();
+        while (iterator.hasNext()) {
+            Entry<V> entry = iterator.next();
+            boolean live = !entry.isExpired(now) && entries.get(entry.key) == entry;
+            if (live) {
+                if (entries.size() <= maxEntries) {
+                    return;
+                }
+                if (!entry.result.isDone()) {
+                    continue; // 처리 중인 항목은 건너뛴다.
+                }
+            }
+            iterator.remove();
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private void complete(Entry<V> entry, V value) {
+        entry.expiresAt = nanoClock.getAsLong() + ttlNanos;
+        entry.result.complete(value);
+    }
+
+    private void abandon(Entry<V> entry) {
+        entry.abandoned = true;
+        entries.remove(entry.key, entry);
+        entry.result.complete(null);
+    }
+
+    private static final class Entry<V> {
+
+        final String key;
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        // 처리 중에는 만료되지 않는다.
+        volatile long expiresAt = Long.MAX_VALUE;
+        volatile boolean abandoned;
+
+        Entry(String key) {
+            this.key = key;
+        }
+
+        boolean isExpired(long now) {
+            if (abandoned) {
+                return true;
+            }
+            long expiresAt = this.expiresAt;
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * claim() 결과
+     * - owner: 처리한 뒤 complete() 또는 abandon()을 반드시 호출해야 한다.
+     * - owner가 아니면: await(timeout)으로 먼저 온 요청의 결과를 받는다.
+     */
+    public static final class Claim<V> {
+
+        private final IdempotencyCache<V> cache;
+        private final Entry<V> entry;
+        private final boolean owner;
+
+        private Claim(IdempotencyCache<V> cache, Entry<V> entry, boolean owner) {
+            this.cache = cache;
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        /**
+         * @return 저장된 결과. 먼저 온 요청이 결과를 남기지 않았으면 null (다시 claim 한다.)
+         * @throws TimeoutException timeout 안에 먼저 온 요청이 끝나지 않았다. (항목은 그대로 남는다.)
+         */
+        public V await(Duration timeout) throws InterruptedException, TimeoutException {
+            try {
+                return entry.result.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                return null; // complete(null)만 사용하므로 일어나지 않는다.
+            }
+        }
+
+        public void complete(V value) {
+            checkOwner();
+            cache.complete(entry, value);
+        }
+
+        public void abandon() {
+            checkOwner();
+            cache.abandon(entry);
+        }
+
+        private void checkOwner() {
+            if (!owner) {
+                throw new IllegalStateException("처리를 맡은 요청만 결과를 남길 수 있습니다. key=" + entry.key);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package hello.itemservice.web.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청은 키 별로 한 번만 처리한다.
+ * - 처음 요청: 바인딩/검증/저장을 그대로 실행하고 응답(저장 후 redirect, 검증 오류 화면/목록)을 저장한다.
+ * - 재시도 요청: 다시 바인딩/검증하지 않고 저장된 응답을 보낸다. (Idempotent-Replayed: true)
+ * - 처음 요청이 아직 처리 중이면 waitTimeout 까지 기다렸다가 같은 응답을 보낸다. (동시 중복 요청은 하나만 처리된다.)
+ *   그때까지 끝나지 않으면 409 Conflict 로 응답한다. (처리하지 않았으므로 나중에 같은 키로 다시 보내면 된다.)
+ * - 5xx 응답이나 예외는 저장하지 않는다. (다음 재시도가 다시 처리한다.)
+ *
+ * 키는 요청한 사용자와 요청 URI 별로 구분한다. 같은 키로 다른 내용을 보내도 처음 응답을 돌려준다.
+ * - 사용자: 로그인 사용자(Principal) > 이미 있는 세션 순으로 정한다. (다른 사용자가 같은 키를 보내도 그 사용자의 응답을 받지 않는다.)
+ * - 둘 다 없으면(세션 쿠키를 보내지 않는 API 클라이언트 등) 클라이언트 주소로만 구분된다.
+ *   같은 NAT/프록시 뒤의 다른 클라이언트와 구분할 수 없으므로, 이때는 중복 처리만 막고 저장된 응답은 돌려주지 않는다.
+ *   (이미 처리된 키면 409 Conflict. 처음 응답(생성된 상품 id 등)이 필요하면 세션 쿠키를 유지하거나 로그인해서 보낸다.)
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyCache<CachedResponse> cache;
+    private final int maxBodySize;
+    private final Duration waitTimeout;
+
+    /**
+     * @param maxBodySize 저장할 응답 본문의 최대 크기 (byte). 넘으면 저장하지 않는다.
+     * @param waitTimeout 같은 키의 처음 요청이 끝나기를 기다리는 최대 시간
+     */
+    public IdempotencyFilter(IdempotencyCache<CachedResponse> cache, int maxBodySize, Duration waitTimeout) {
+        this.cache = cache;
+        this.maxBodySize = maxBodySize;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER);
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+                    HEADER + " 헤더는 1 ~ " + MAX_KEY_LENGTH + "자 이어야 합니다.");
+            return;
+        }
+        String caller = caller(request);
+        boolean replayable = caller != null;
+        String scope = replayable ? caller : "addr:" + request.getRemoteAddr();
+        String cacheKey = scope + ' ' + request.getRequestURI() + ' ' + key;
+
+        while (true) {
+            IdempotencyCache.Claim<CachedResponse> claim = cache.claim(cacheKey);
+            if (!claim.isOwner()) {
+                CachedResponse cached;
+                try {
+                    cached = await(claim);
+                } catch (TimeoutException e) {
+                    log.debug("멱등 키 처리 대기 시간 초과 key={}, timeout={}", cacheKey, waitTimeout);
+                    response.sendError(HttpServletResponse.SC_CONFLICT,
+                            "같은 " + HEADER + " 요청을 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+                    return;
+                }
+                if (cached == null) {
+                    continue; // 먼저 온 요청이 결과를 남기지 못했다. 다시 시도한다.
+                }
+                if (!replayable) {
+                    log.debug("주소로만 구분되는 멱등 키 재요청 key={}", cacheKey);
+                    response.sendError(HttpServletResponse.SC_CONFLICT,
+                            "이미 처리된 " + HEADER + " 입니다. (세션 없이 보낸 요청에는 처음 응답을 돌려주지 않습니다.)");
+                    return;
+                }
+                log.debug("멱등 키 재요청 key={}, status={}", cacheKey, cached.getStatus());
+                response.setHeader(REPLAYED_HEADER, "true");
+                cached.writeTo(response);
+                return;
+            }
+
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+            CachedResponse result = null;
+            try {
+                filterChain.doFilter(request, wrapper);
+                result = CachedResponse.of(wrapper, maxBodySize);
+            } finally {
+                if (result != null) {
+                    claim.complete(result);
+                } else {
+                    claim.abandon();
+                }
+            }
+            wrapper.copyBodyToResponse();
+            return;
+        }
+    }
+
+    /**
+     * 요청한 사용자 (세션은 새로 만들지 않는다.)
+     * @return 로그인 사용자나 세션이 없으면 null
+     */
+    private static String caller(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "session:" + session.getId();
+        }
+        return null;
+    }
+
+    private CachedResponse await(IdempotencyCache.Claim<CachedResponse> claim)
+            throws ServletException, TimeoutException {
+        try {
+            return claim.await(waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("같은 멱등 키 요청을 기다리는 중에 중단되었습니다.", e);
+        }
+    }
+}
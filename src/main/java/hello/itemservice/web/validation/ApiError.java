@@ -0,0 +1,84 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * API 오류 응답 한 건
+ * - field: 오류 필드 (ObjectError면 없다.)
+ * - code: 오류 코드 (NotBlank, range, totalPriceMin 등)
+ * - message: 요청 로케일로 해석한 메시지
+ * - rejectedValue: 거부된 값 (없으면 생략)
+ *
+ * ObjectError / FieldError를 그대로 내보내면 codes, arguments, 기본 메시지 등 내부 정보까지 모두 직렬화된다.
+ */
+@Getter
+@JsonSerialize(using = ApiError.Serializer.class)
+public class ApiError {
+
+    private final String field;
+    private final String code;
+    private final String message;
+    private final Object rejectedValue;
+
+    public ApiError(String field, String code, String message, Object rejectedValue) {
+        this.field = field;
+        this.code = code;
+        this.message = message;
+        this.rejectedValue = rejectedValue;
+    }
+
+    public static ApiError global(String code, String message) {
+        return new ApiError(null, code, message, null);
+    }
+
+    /**
+     * 속성 이름은 미리 인코딩해 두고, 자주 나오는 값(문자열, 정수)은 바로 쓴다.
+     */
+    public static class Serializer extends JsonSerializer<ApiError> {
+
+        private static final SerializableString FIELD = new SerializedString("field");
+        private static final SerializableString CODE = new SerializedString("code");
+        private static final SerializableString MESSAGE = new SerializedString("message");
+        private static final SerializableString REJECTED_VALUE = new SerializedString("rejectedValue");
+
+        @Override
+        public void serialize(ApiError error, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject(error);
+            if (error.field != null) {
+                gen.writeFieldName(FIELD);
+                gen.writeString(error.field);
+            }
+            gen.writeFieldName(CODE);
+            gen.writeString(error.code);
+            if (error.message != null) {
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(error.message);
+            }
+            if (error.rejectedValue != null) {
+                gen.writeFieldName(REJECTED_VALUE);
+                writeValue(error.rejectedValue, gen, provider);
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value instanceof String) {
+                gen.writeString((String) value);
+            } else if (value instanceof Integer) {
+                gen.writeNumber((Integer) value);
+            } else if (value instanceof Long) {
+                gen.writeNumber((Long) value);
+            } else {
+                provider.defaultSerializeValue(value, gen);
+            }
+        }
+    }
+}
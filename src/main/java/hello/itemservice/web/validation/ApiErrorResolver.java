@@ -0,0 +1,59 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ObjectError / FieldError -> ApiError
+ * - 메시지는 요청 로케일로 메시지 소스에서 찾는다. (로케일 별로 미리 만든 메시지 템플릿을 재사용한다. PrecompiledMessageSource)
+ * - 메시지가 없으면 오류의 기본 메시지, 그것도 없으면 메시지를 생략한다.
+ */
+@Component
+public class ApiErrorResolver {
+
+    private final MessageSource messageSource;
+
+    public ApiErrorResolver(MessageSource messageSource) {
+        this.messageSource = messageSource;
+    }
+
+    public List<ApiError> resolve(List<? extends ObjectError> errors) {
+        return resolve(errors, LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * 로케일을 직접 넘긴다. (WebFlux는 LocaleContextHolder를 채우지 않는다.)
+     */
+    public List<ApiError> resolve(List<? extends ObjectError> errors, Locale locale) {
+        List<ApiError> result = new ArrayList<>(errors.size());
+        for (ObjectError error : errors) {
+            result.add(resolve(error, locale));
+        }
+        return result;
+    }
+
+    private ApiError resolve(ObjectError error, Locale locale) {
+        String message = message(error, locale);
+        if (error instanceof FieldError) {
+            FieldError fieldError = (FieldError) error;
+            return new ApiError(fieldError.getField(), error.getCode(), message, fieldError.getRejectedValue());
+        }
+        return new ApiError(null, error.getCode(), message, null);
+    }
+
+    private String message(ObjectError error, Locale locale) {
+        try {
+            return messageSource.getMessage(error, locale);
+        } catch (NoSuchMessageException e) {
+            return error.getDefaultMessage();
+        }
+    }
+}
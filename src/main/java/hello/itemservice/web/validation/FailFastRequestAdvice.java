@@ -0,0 +1,41 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.FailFast;
+import hello.itemservice.validation.MeteredValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * @FailFast가 붙은 API 메서드의 검증: 글로벌 검증기 대신 첫 번째 오류에서 멈추는 검증기를 사용한다.
+ * (본문 크기/JSON 모양 확인은 MaxBodySizeRequestAdvice)
+ */
+@ControllerAdvice(annotations = RestController.class)
+public class FailFastRequestAdvice {
+
+    private final MeteredValidator failFastValidator;
+
+    public FailFastRequestAdvice(LocalValidatorFactoryBean validatorFactory, MeterRegistry meterRegistry) {
+        this.failFastValidator = new MeteredValidator(CompiledValidatorAdapter.failFast(validatorFactory), meterRegistry);
+    }
+
+    /**
+     * 핸들러 매핑이 요청에 남겨 둔 핸들러 메서드로 @FailFast 여부를 확인한다.
+     */
+    @InitBinder
+    public void initBinder(WebDataBinder binder, HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (binder.getTarget() != null && handler instanceof HandlerMethod
+                && ((HandlerMethod) handler).hasMethodAnnotation(FailFast.class)) {
+            binder.replaceValidators(failFastValidator);
+        }
+    }
+}
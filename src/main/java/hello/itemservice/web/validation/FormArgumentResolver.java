@@ -0,0 +1,145 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.ui.ModelMap;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.ControllerAdviceBean;
+import org.springframework.web.method.annotation.ModelFactory;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 폼 클래스(ItemSaveForm, ItemUpdateForm) 전용 @ModelAttribute 처리
+ * - WebDataBinder 대신 폼 별 FormBinder가 요청 값을 바로 필드에 넣는다. (BeanWrapper, PropertyValues를 만들지 않는다.)
+ * - 변환 실패는 같은 typeMismatch 오류, 검증은 같은 글로벌 검증기(@Validated 그룹 포함)와 메시지 코드를 사용한다.
+ * - 오류 보관(BindingResult)은 오류가 생길 때 만든다. (LazyBindingResult)
+ * - 모델에 넣는 이름과 BindingResult, 다음 파라미터가 BindingResult가 아니면 BindException을 던지는 것도 기본 처리와 같다.
+ *
+ * 컨트롤러에 적용되는 @InitBinder(컨트롤러, @ControllerAdvice)가 있으면 기본 처리(WebDataBinder)에 맡긴다.
+ */
+public class FormArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final Map<Class<?>, FormBinder<?>> binders = new HashMap<>();
+    private final Validator validator;
+    private final MessageCodesResolver messageCodesResolver;
+    private final List<ControllerAdviceBean> initBinderAdvice = new ArrayList<>();
+
+    public FormArgumentResolver(List<FormBinder<?>> binders, Validator validator,
+                                MessageCodesResolver messageCodesResolver, List<ControllerAdviceBean> controllerAdvice) {
+        for (FormBinder<?> binder : binders) {
+            this.binders.put(binder.getFormType(), binder);
+        }
+        this.validator = validator;
+        this.messageCodesResolver = messageCodesResolver;
+        for (ControllerAdviceBean advice : controllerAdvice) {
+            if (advice.getBeanType() != null && hasInitBinder(advice.getBeanType())) {
+                initBinderAdvice.add(advice);
+            }
+        }
+    }
+
+    /**
+     * 핸들러 메서드 파라미터마다 한 번만 호출된다. (HandlerMethodArgumentResolverComposite가 결과를 캐시한다.)
+     */
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        if (!binders.containsKey(parameter.getParameterType())) {
+            return false;
+        }
+        ModelAttribute modelAttribute = parameter.getParameterAnnotation(ModelAttribute.class);
+        if (modelAttribute != null && !modelAttribute.binding()) {
+            return false;
+        }
+        Class<?> controllerType = parameter.getContainingClass();
+        if (hasInitBinder(controllerType)) {
+            return false;
+        }
+        for (ControllerAdviceBean advice : initBinderAdvice) {
+            if (advice.isApplicableToBeanType(controllerType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        String name = ModelFactory.getNameForParameter(parameter);
+        FormBinder<Object> binder = (FormBinder<Object>) binders.get(parameter.getParameterType());
+        ModelMap model = mavContainer.getModel();
+
+        Object existing = model.get(name);
+        Object form = binder.getFormType().isInstance(existing) ? existing : binder.createForm();
+        LazyBindingResult bindingResult = new LazyBindingResult(form, name, messageCodesResolver);
+
+        if (!mavContainer.isBindingDisabled(name)) {
+            HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+            binder.bind(form, new FormParameters(request, bindingResult, messageCodesResolver));
+        }
+        validateIfApplicable(form, bindingResult, parameter);
+        if (bindingResult.hasErrors() && isBindExceptionRequired(parameter)) {
+            throw new BindException(bindingResult);
+        }
+
+        // BindingResult가 모델의 마지막 값이어야 다음 파라미터(BindingResult)로 받을 수 있다.
+        model.remove(name);
+        model.remove(BindingResult.MODEL_KEY_PREFIX + name);
+        model.put(name, form);
+        model.put(BindingResult.MODEL_KEY_PREFIX + name, bindingResult);
+        return form;
+    }
+
+    /**
+     * ModelAttributeMethodProcessor.validateIfApplicable()과 같다. (@Validated 그룹, @Valid)
+     */
+    private void validateIfApplicable(Object form, BindingResult bindingResult, MethodParameter parameter) {
+        if (validator == null || !validator.supports(form.getClass())) {
+            return;
+        }
+        for (Annotation annotation : parameter.getParameterAnnotations()) {
+            Validated validated = AnnotationUtils.getAnnotation(annotation, Validated.class);
+            if (validated == null && !annotation.annotationType().getSimpleName().startsWith("Valid")) {
+                continue;
+            }
+            Object hints = validated != null ? validated.value() : AnnotationUtils.getValue(annotation);
+            Object[] validationHints = hints instanceof Object[] ? (Object[]) hints : new Object[]{hints};
+            if (validationHints.length > 0 && validator instanceof SmartValidator) {
+                ((SmartValidator) validator).validate(form, bindingResult, validationHints);
+            } else {
+                validator.validate(form, bindingResult);
+            }
+            return;
+        }
+    }
+
+    private static boolean isBindExceptionRequired(MethodParameter parameter) {
+        int i = parameter.getParameterIndex();
+        Class<?>[] paramTypes = parameter.getExecutable().getParameterTypes();
+        return paramTypes.length <= i + 1 || !Errors.class.isAssignableFrom(paramTypes[i + 1]);
+    }
+
+    private static boolean hasInitBinder(Class<?> type) {
+        return !MethodIntrospector.selectMethods(type, RequestMappingHandlerAdapter.INIT_BINDER_METHODS).isEmpty();
+    }
+}
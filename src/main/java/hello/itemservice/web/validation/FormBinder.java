@@ -0,0 +1,15 @@
+package hello.itemservice.web.validation;
+
+/**
+ * 폼 클래스 하나를 위한 바인더 (FormArgumentResolver)
+ * - BeanWrapper로 프로퍼티를 찾지 않고, 요청 값을 바로 setter로 넣는다.
+ * - 폼에 필드를 추가하면 바인더에도 추가해야 한다. (FormArgumentResolverTest가 기본 바인더와 결과를 비교한다.)
+ */
+public interface FormBinder<T> {
+
+    Class<T> getFormType();
+
+    T createForm();
+
+    void bind(T form, FormParameters parameters);
+}
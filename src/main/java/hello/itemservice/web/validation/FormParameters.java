@@ -0,0 +1,92 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.util.NumberUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * FormBinder가 읽는 요청 값 (요청 파라미터, 없으면 URI 변수)
+ * - 값 변환은 WebDataBinder(기본 ConversionService)와 같다.
+ *   문자열: 그대로 (값이 여러 개면 쉼표로 잇는다.) / 숫자: 앞뒤 공백 제거, 빈 문자열은 null, 값이 여러 개면 첫 번째 값
+ * - 숫자로 바꿀 수 없으면 WebDataBinder와 같은 typeMismatch FieldError를 남기고 null을 돌려준다.
+ *   (코드: typeMismatch.item.price, typeMismatch.price, typeMismatch.java.lang.Integer, typeMismatch)
+ */
+public final class FormParameters {
+
+    private static final String TYPE_MISMATCH = "typeMismatch";
+
+    private final HttpServletRequest request;
+    private final Map<String, String> uriVariables;
+    private final BindingResult bindingResult;
+    private final MessageCodesResolver messageCodesResolver;
+
+    @SuppressWarnings("unchecked")
+    public FormParameters(HttpServletRequest request, BindingResult bindingResult,
+                          MessageCodesResolver messageCodesResolver) {
+        this.request = request;
+        Map<String, String> uriVariables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        this.uriVariables = uriVariables != null ? uriVariables : Collections.emptyMap();
+        this.bindingResult = bindingResult;
+        this.messageCodesResolver = messageCodesResolver;
+    }
+
+    /**
+     * 값이 없으면 필드를 바꾸지 않는다. (WebDataBinder와 같다.)
+     */
+    public boolean contains(String name) {
+        return request.getParameterValues(name) != null || uriVariables.containsKey(name);
+    }
+
+    public String getString(String name) {
+        String[] values = request.getParameterValues(name);
+        if (values == null) {
+            return uriVariables.get(name);
+        }
+        return values.length == 1 ? values[0] : String.join(",", values);
+    }
+
+    public Integer getInteger(String name) {
+        return getNumber(name, Integer.class);
+    }
+
+    public Long getLong(String name) {
+        return getNumber(name, Long.class);
+    }
+
+    private <T extends Number> T getNumber(String name, Class<T> type) {
+        String[] values = request.getParameterValues(name);
+        String text = values == null ? uriVariables.get(name) : values.length == 0 ? null : values[0];
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        try {
+            return NumberUtils.parseNumber(text, type);
+        } catch (IllegalArgumentException e) {
+            Object rejectedValue = values != null && values.length > 1 ? String.join(",", values) : text;
+            typeMismatch(name, type, rejectedValue, e);
+            return null;
+        }
+    }
+
+    /**
+     * DefaultBindingErrorProcessor.processPropertyAccessException()과 같은 FieldError를 만든다.
+     */
+    private void typeMismatch(String field, Class<?> type, Object rejectedValue, IllegalArgumentException cause) {
+        String objectName = bindingResult.getObjectName();
+        String[] codes = messageCodesResolver.resolveMessageCodes(TYPE_MISMATCH, objectName, field, type);
+        Object[] arguments = {new DefaultMessageSourceResolvable(
+                new String[]{objectName + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        String defaultMessage = "Failed to convert property value of type 'java.lang.String' to required type '"
+                + type.getName() + "' for property '" + field + "'; nested exception is " + cause;
+        bindingResult.addError(new FieldError(objectName, field, rejectedValue, true, codes, arguments, defaultMessage));
+    }
+}
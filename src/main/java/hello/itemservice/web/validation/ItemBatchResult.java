@@ -0,0 +1,25 @@
+package hello.itemservice.web.validation;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 등록 결과
+ * - savedIds: 저장된 상품 id (요청 순서, 검증에 실패한 요소는 빠진다.)
+ * - errors: 요청 배열의 index -> 오류 목록
+ */
+@Getter
+public class ItemBatchResult {
+
+    private final int requested;
+    private final List<Long> savedIds;
+    private final Map<Integer, List<ApiError>> errors;
+
+    public ItemBatchResult(int requested, List<Long> savedIds, Map<Integer, List<ApiError>> errors) {
+        this.requested = requested;
+        this.savedIds = savedIds;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,49 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 상품 목록/상세 화면의 조건부 GET (If-None-Match, If-Modified-Since)
+ * - 목록: 저장소 전체의 변경 번호, 상세: 상품의 version 으로 strong ETag를 만든다.
+ * - 화면의 메시지가 로케일마다 다르므로 로케일도 ETag에 넣는다. (Vary: Accept-Language)
+ * - Cache-Control: no-cache 로 브라우저가 매번 다시 확인하게 한다. 바뀌지 않았으면 304 (화면을 그리지 않는다.)
+ * - Last-Modified는 초 단위라서 1초 안에 바뀐 것은 구분하지 못한다. If-None-Match가 있으면 ETag만 비교한다.
+ */
+final class ItemETags {
+
+    private ItemETags() {
+    }
+
+    /**
+     * @return 304로 응답했으면 true (핸들러는 null을 반환한다.)
+     */
+    static boolean checkNotModified(ItemRepository itemRepository, ServletWebRequest request) {
+        // 변경 번호를 먼저 읽는다. (이후 조회하는 목록은 이 번호와 같거나 더 새로운 상태다.)
+        long count = itemRepository.getModificationCount();
+        long lastModified = itemRepository.getLastModified();
+        return checkNotModified(request, "items-" + Long.toHexString(itemRepository.getEpoch()) + "-" + count,
+                lastModified);
+    }
+
+    /**
+     * @return 304로 응답했으면 true. 상품이 없으면 확인하지 않는다.
+     */
+    static boolean checkNotModified(ItemRepository itemRepository, Item item, ServletWebRequest request) {
+        if (item == null) {
+            return false;
+        }
+        return checkNotModified(request, "item-" + Long.toHexString(itemRepository.getEpoch()) + "-"
+                + item.getId() + "-" + item.getVersion(), -1);
+    }
+
+    private static boolean checkNotModified(ServletWebRequest request, String tag, long lastModified) {
+        String etag = "\"" + tag + "-" + LocaleContextHolder.getLocale().toLanguageTag() + "\"";
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        request.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE);
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,291 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import lombok.Getter;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.SmartValidator;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * NDJSON(한 줄에 ItemSaveForm 하나) 일괄 등록
+ * - 한 줄씩 읽어서 BATCH_SIZE 줄마다 검증/저장하고, 줄 별 결과를 바로 NDJSON으로 내보낸다.
+ * - 한 번에 메모리에 올리는 것은 한 묶음(BATCH_SIZE 줄)뿐이라 파일 크기와 상관없이 메모리 사용량이 일정하다.
+ * - 한 줄은 최대 MAX_LINE_LENGTH 바이트까지 허용한다. 넘으면 그 줄은 오류로 처리하고 다음 줄로 넘어간다.
+ * - 검증기와 메시지 코드는 /add, /batch 와 같은 것(WebConfig)을 쓴다. (생성된 검증기, 검증 지표, 같은 오류 코드)
+ */
+@Component
+public class ItemStreamImporter {
+
+    static final int BATCH_SIZE = 256;
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final String OBJECT_NAME = "itemSaveForm";
+
+    private final ItemRepository itemRepository;
+    private final SmartValidator validator;
+    private final ObjectReader formReader;
+    private final ObjectWriter resultWriter;
+    private final ApiErrorResolver apiErrorResolver;
+    private final MessageCodesResolver messageCodesResolver;
+
+    public ItemStreamImporter(ItemRepository itemRepository, SmartValidator itemValidator,
+                              MessageCodesResolver messageCodesResolver, ObjectMapper objectMapper,
+                              ApiErrorResolver apiErrorResolver) {
+        this.itemRepository = itemRepository;
+        this.validator = itemValidator;
+        this.messageCodesResolver = messageCodesResolver;
+        this.formReader = objectMapper.readerFor(ItemSaveForm.class);
+        this.resultWriter = objectMapper.writerFor(LineResult.class);
+        this.apiErrorResolver = apiErrorResolver;
+    }
+
+    /**
+     * @return 처리한 줄 수
+     */
+    public long importItems(InputStream in, OutputStream out) throws IOException {
+        LineReader lines = new LineReader(in);
+        List<LineResult> batch = new ArrayList<>(BATCH_SIZE);
+        List<ItemSaveForm> forms = new ArrayList<>(BATCH_SIZE);
+        long lineNumber = 0;
+
+        while (lines.next()) {
+            lineNumber++;
+            if (lines.isBlank()) {
+                continue;
+            }
+            batch.add(parse(lineNumber, lines, forms));
+            if (batch.size() == BATCH_SIZE) {
+                flush(batch, forms, out);
+            }
+        }
+        flush(batch, forms, out);
+        return lineNumber;
+    }
+
+    private LineResult parse(long lineNumber, LineReader lines, List<ItemSaveForm> forms) {
+        if (lines.isTooLong()) {
+            return LineResult.failed(lineNumber, ApiError.global("tooLong",
+                    "한 줄은 최대 " + MAX_LINE_LENGTH + " 바이트까지 허용합니다."));
+        }
+        try {
+            ItemSaveForm form = formReader.readValue(lines.buffer(), 0, lines.length());
+            forms.add(form);
+            return LineResult.pending(lineNumber, forms.size() - 1);
+        } catch (InvalidFormatException e) {
+            return LineResult.failed(lineNumber, typeMismatch(e));
+        } catch (JsonProcessingException e) {
+            return LineResult.failed(lineNumber, ApiError.global("malformed",
+                    "JSON 형식 오류: " + e.getOriginalMessage()));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 필드 타입에 맞지 않는 값("price":"abc")은 폼/API와 같은 typeMismatch 필드 오류로 돌려준다.
+     * (코드: typeMismatch.itemSaveForm.price, typeMismatch.price, typeMismatch.java.lang.Integer, typeMismatch)
+     */
+    private ApiError typeMismatch(InvalidFormatException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        String field = path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+        if (field == null) {
+            return ApiError.global("malformed", "JSON 형식 오류: " + e.getOriginalMessage());
+        }
+        String[] codes = messageCodesResolver.resolveMessageCodes("typeMismatch", OBJECT_NAME, field, e.getTargetType());
+        Object[] arguments = {new DefaultMessageSourceResolvable(
+                new String[]{OBJECT_NAME + Errors.NESTED_PATH_SEPARATOR + field, field}, field)};
+        FieldError error = new FieldError(OBJECT_NAME, field, e.getValue(), true, codes, arguments, e.getOriginalMessage());
+        return apiErrorResolver.resolve(List.of(error)).get(0);
+    }
+
+    /**
+     * 한 묶음을 검증하고, 통과한 상품을 한 번에 저장한 뒤 결과를 내보낸다.
+     */
+    private void flush(List<LineResult> batch, List<ItemSaveForm> forms, OutputStream out) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Item> items = new ArrayList<>(forms.size());
+        List<LineResult> saved = new ArrayList<>(forms.size());
+        for (LineResult result : batch) {
+            if (result.formIndex < 0) {
+                continue;
+            }
+            ItemSaveForm form = forms.get(result.formIndex);
+            Errors errors = validate(form);
+            if (errors.hasErrors()) {
+                result.errors = apiErrorResolver.resolve(errors.getAllErrors());
+            } else {
+                items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+                saved.add(result);
+            }
+        }
+
+        itemRepository.saveAll(items);
+        for (int i = 0; i < saved.size(); i++) {
+            saved.get(i).id = items.get(i).getId();
+        }
+
+        for (LineResult result : batch) {
+            resultWriter.writeValue(new NonClosingOutputStream(out), result);
+            out.write('\n');
+        }
+        out.flush();
+        batch.clear();
+        forms.clear();
+    }
+
+    private Errors validate(ItemSaveForm form) {
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(form, OBJECT_NAME);
+        errors.setMessageCodesResolver(messageCodesResolver);
+        if (form == null) {
+            errors.reject("required");
+            return errors;
+        }
+        // 특정 필드가 아닌 복합 룰(@TotalPriceMin)도 같은 검증 한 번에 처리한다.
+        validator.validate(form, errors);
+        return errors;
+    }
+
+    /**
+     * 한 줄 결과: 성공하면 id, 실패하면 errors
+     */
+    @Getter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    static class LineResult {
+
+        private final long line;
+        private Long id;
+        private List<ApiError> errors;
+        @JsonIgnore
+        private final int formIndex;
+
+        private LineResult(long line, int formIndex) {
+            this.line = line;
+            this.formIndex = formIndex;
+        }
+
+        static LineResult pending(long line, int formIndex) {
+            return new LineResult(line, formIndex);
+        }
+
+        static LineResult failed(long line, ApiError error) {
+            LineResult result = new LineResult(line, -1);
+            result.errors = List.of(error);
+            return result;
+        }
+    }
+
+    /**
+     * 재사용하는 버퍼에 한 줄씩 읽는다. (줄 길이만큼만 메모리를 쓴다.)
+     */
+    private static class LineReader {
+
+        private final InputStream in;
+        private final byte[] chunk = new byte[8192];
+        private int chunkPosition;
+        private int chunkLimit;
+        private byte[] line = new byte[1024];
+        private int length;
+        private boolean tooLong;
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        boolean next() throws IOException {
+            length = 0;
+            tooLong = false;
+            boolean any = false;
+            while (true) {
+                if (chunkPosition == chunkLimit) {
+                    chunkLimit = in.read(chunk);
+                    chunkPosition = 0;
+                    if (chunkLimit <= 0) {
+                        chunkLimit = 0;
+                        return any;
+                    }
+                }
+                any = true;
+                byte b = chunk[chunkPosition++];
+                if (b == '\n') {
+                    return true;
+                }
+                if (tooLong) {
+                    continue;
+                }
+                if (length == MAX_LINE_LENGTH) {
+                    tooLong = true;
+                    continue;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, Math.min(line.length << 1, MAX_LINE_LENGTH));
+                }
+                line[length++] = b;
+            }
+        }
+
+        boolean isBlank() {
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(line[i])) {
+                    return false;
+                }
+            }
+            return !tooLong;
+        }
+
+        boolean isTooLong() {
+            return tooLong;
+        }
+
+        byte[] buffer() {
+            return line;
+        }
+
+        int length() {
+            return length;
+        }
+    }
+
+    /**
+     * ObjectWriter가 스트림을 닫지 않도록 감싼다.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
+import hello.itemservice.validation.TotalPriceMinValidator;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
@@ -35,15 +36,7 @@ public class ItemValidator implements Validator {
                     new Object[]{9999}, null);
         }
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                errors.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (@TotalPriceMin과 같은 계산, long으로 곱해서 넘치지 않는다.)
+        TotalPriceMinValidator.validate(item, 10000, errors);
     }
 }
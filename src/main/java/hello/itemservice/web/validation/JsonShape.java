@@ -0,0 +1,73 @@
+package hello.itemservice.web.validation;
+
+/**
+ * JSON 본문의 모양만 빠르게 확인한다. (값은 해석하지 않는다.)
+ * - 공백을 뺀 첫 글자가 기대한 괄호({ 또는 [)이어야 한다.
+ * - 괄호 짝이 맞아야 하고, 최상위 값 뒤에는 공백만 올 수 있다. (문자열 안의 괄호는 세지 않는다.)
+ * - 중첩 깊이가 maxDepth를 넘으면 거절한다.
+ *
+ * 참고) 통과했다고 올바른 JSON인 것은 아니다. 나머지는 Jackson이 확인한다.
+ */
+public final class JsonShape {
+
+    private JsonShape() {
+    }
+
+    public static boolean isWellFormed(byte[] json, boolean array, int maxDepth) {
+        int i = skipWhitespace(json, skipBom(json));
+        if (i == json.length || json[i] != (array ? '[' : '{')) {
+            return false;
+        }
+
+        byte[] closers = new byte[maxDepth];
+        int depth = 0;
+        boolean inString = false;
+        for (; i < json.length; i++) {
+            byte b = json[i];
+            if (inString) {
+                if (b == '\\') {
+                    i++;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (b) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    if (depth == maxDepth) {
+                        return false;
+                    }
+                    closers[depth++] = (byte) (b == '{' ? '}' : ']');
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0 || closers[--depth] != b) {
+                        return false;
+                    }
+                    if (depth == 0) {
+                        return skipWhitespace(json, i + 1) == json.length;
+                    }
+                    break;
+                default:
+            }
+        }
+        return false; // 닫히지 않은 괄호
+    }
+
+    private static int skipBom(byte[] json) {
+        boolean bom = json.length >= 3 && json[0] == (byte) 0xEF && json[1] == (byte) 0xBB && json[2] == (byte) 0xBF;
+        return bom ? 3 : 0;
+    }
+
+    private static int skipWhitespace(byte[] json, int from) {
+        int i = from;
+        while (i < json.length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,275 @@
+package hello.itemservice.web.validation;
+
+import org.springframework.beans.PropertyEditorRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+import java.beans.PropertyEditor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오류가 생길 때 BeanPropertyBindingResult를 만드는 BindingResult
+ * - 오류가 없는 동안에는 오류 조회(hasErrors, getFieldError 등)에 빈 결과를 돌려준다. (목록, 맵, BeanWrapper를 만들지 않는다.)
+ * - 오류를 추가하거나 필드 값/타입/편집기를 찾으면(화면을 다시 그릴 때) 그때 BeanPropertyBindingResult를 만들고 그대로 위임한다.
+ */
+public class LazyBindingResult implements BindingResult {
+
+    private static final String[] NO_SUPPRESSED_FIELDS = new String[0];
+
+    private final Object target;
+    private final String objectName;
+    private final MessageCodesResolver messageCodesResolver;
+    private BeanPropertyBindingResult delegate;
+
+    public LazyBindingResult(Object target, String objectName, MessageCodesResolver messageCodesResolver) {
+        this.target = target;
+        this.objectName = objectName;
+        this.messageCodesResolver = messageCodesResolver;
+    }
+
+    /**
+     * 오류를 담는 BeanPropertyBindingResult를 만들었는지 (테스트/벤치마크용)
+     */
+    public boolean isAllocated() {
+        return delegate != null;
+    }
+
+    private BeanPropertyBindingResult delegate() {
+        if (delegate == null) {
+            delegate = new BeanPropertyBindingResult(target, objectName);
+            delegate.setMessageCodesResolver(messageCodesResolver);
+        }
+        return delegate;
+    }
+
+    @Override
+    public String getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public Object getTarget() {
+        return target;
+    }
+
+    @Override
+    public Map<String, Object> getModel() {
+        Map<String, Object> model = new LinkedHashMap<>(4);
+        model.put(objectName, target);
+        model.put(MODEL_KEY_PREFIX + objectName, this); // 위임 대상이 아니라 자신을 넣는다.
+        return model;
+    }
+
+    // 오류 추가: 이때 만든다.
+
+    @Override
+    public void reject(String errorCode) {
+        delegate().reject(errorCode);
+    }
+
+    @Override
+    public void reject(String errorCode, String defaultMessage) {
+        delegate().reject(errorCode, defaultMessage);
+    }
+
+    @Override
+    public void reject(String errorCode, @Nullable Object[] errorArgs, @Nullable String defaultMessage) {
+        delegate().reject(errorCode, errorArgs, defaultMessage);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode) {
+        delegate().rejectValue(field, errorCode);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode, String defaultMessage) {
+        delegate().rejectValue(field, errorCode, defaultMessage);
+    }
+
+    @Override
+    public void rejectValue(@Nullable String field, String errorCode, @Nullable Object[] errorArgs,
+                            @Nullable String defaultMessage) {
+        delegate().rejectValue(field, errorCode, errorArgs, defaultMessage);
+    }
+
+    @Override
+    public void addAllErrors(Errors errors) {
+        delegate().addAllErrors(errors);
+    }
+
+    @Override
+    public void addError(ObjectError error) {
+        delegate().addError(error);
+    }
+
+    // 오류 조회: 오류가 없으면 만들지 않는다.
+
+    @Override
+    public boolean hasErrors() {
+        return delegate != null && delegate.hasErrors();
+    }
+
+    @Override
+    public int getErrorCount() {
+        return delegate == null ? 0 : delegate.getErrorCount();
+    }
+
+    @Override
+    public List<ObjectError> getAllErrors() {
+        return delegate == null ? Collections.emptyList() : delegate.getAllErrors();
+    }
+
+    @Override
+    public boolean hasGlobalErrors() {
+        return delegate != null && delegate.hasGlobalErrors();
+    }
+
+    @Override
+    public int getGlobalErrorCount() {
+        return delegate == null ? 0 : delegate.getGlobalErrorCount();
+    }
+
+    @Override
+    public List<ObjectError> getGlobalErrors() {
+        return delegate == null ? Collections.emptyList() : delegate.getGlobalErrors();
+    }
+
+    @Override
+    @Nullable
+    public ObjectError getGlobalError() {
+        return delegate == null ? null : delegate.getGlobalError();
+    }
+
+    @Override
+    public boolean hasFieldErrors() {
+        return delegate != null && delegate.hasFieldErrors();
+    }
+
+    @Override
+    public int getFieldErrorCount() {
+        return delegate == null ? 0 : delegate.getFieldErrorCount();
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors() {
+        return delegate == null ? Collections.emptyList() : delegate.getFieldErrors();
+    }
+
+    @Override
+    @Nullable
+    public FieldError getFieldError() {
+        return delegate == null ? null : delegate.getFieldError();
+    }
+
+    @Override
+    public boolean hasFieldErrors(String field) {
+        return delegate != null && delegate.hasFieldErrors(field);
+    }
+
+    @Override
+    public int getFieldErrorCount(String field) {
+        return delegate == null ? 0 : delegate.getFieldErrorCount(field);
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors(String field) {
+        return delegate == null ? Collections.emptyList() : delegate.getFieldErrors(field);
+    }
+
+    @Override
+    @Nullable
+    public FieldError getFieldError(String field) {
+        return delegate == null ? null : delegate.getFieldError(field);
+    }
+
+    @Override
+    public String[] getSuppressedFields() {
+        return delegate == null ? NO_SUPPRESSED_FIELDS : delegate.getSuppressedFields();
+    }
+
+    @Override
+    public String getNestedPath() {
+        return delegate == null ? "" : delegate.getNestedPath();
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode) {
+        return messageCodesResolver.resolveMessageCodes(errorCode, objectName);
+    }
+
+    // 그 밖의 기능(필드 값/타입, 편집기, 중첩 경로): 위임한다.
+
+    @Override
+    public void setNestedPath(String nestedPath) {
+        delegate().setNestedPath(nestedPath);
+    }
+
+    @Override
+    public void pushNestedPath(String subPath) {
+        delegate().pushNestedPath(subPath);
+    }
+
+    @Override
+    public void popNestedPath() throws IllegalStateException {
+        delegate().popNestedPath();
+    }
+
+    @Override
+    @Nullable
+    public Object getFieldValue(String field) {
+        return delegate().getFieldValue(field);
+    }
+
+    @Override
+    @Nullable
+    public Class<?> getFieldType(@Nullable String field) {
+        return delegate().getFieldType(field);
+    }
+
+    @Override
+    @Nullable
+    public Object getRawFieldValue(String field) {
+        return delegate().getRawFieldValue(field);
+    }
+
+    @Override
+    @Nullable
+    public PropertyEditor findEditor(@Nullable String field, @Nullable Class<?> valueType) {
+        return delegate().findEditor(field, valueType);
+    }
+
+    @Override
+    @Nullable
+    public PropertyEditorRegistry getPropertyEditorRegistry() {
+        return delegate().getPropertyEditorRegistry();
+    }
+
+    @Override
+    public String[] resolveMessageCodes(String errorCode, String field) {
+        return delegate().resolveMessageCodes(errorCode, field);
+    }
+
+    @Override
+    public void recordFieldValue(String field, Class<?> type, @Nullable Object value) {
+        delegate().recordFieldValue(field, type, value);
+    }
+
+    @Override
+    public void recordSuppressedField(String field) {
+        delegate().recordSuppressedField(field);
+    }
+
+    @Override
+    public String toString() {
+        return delegate == null ? "LazyBindingResult: 0 errors" : delegate.toString();
+    }
+}
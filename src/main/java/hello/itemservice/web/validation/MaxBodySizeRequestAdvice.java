@@ -0,0 +1,110 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.validation.MaxBodySize;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * @MaxBodySize가 붙은 API 메서드의 요청 본문 확인
+ * - 바인딩 전: 본문을 최대 크기까지만 읽고 JSON 모양을 확인한다. (Jackson으로 객체를 만들기 전에 거절한다.)
+ */
+@Slf4j
+@ControllerAdvice(annotations = RestController.class)
+public class MaxBodySizeRequestAdvice extends RequestBodyAdviceAdapter {
+
+    private final Environment environment;
+
+    public MaxBodySizeRequestAdvice(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasMethodAnnotation(MaxBodySize.class);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(HttpInputMessage inputMessage, MethodParameter parameter, Type targetType,
+                                           Class<? extends HttpMessageConverter<?>> converterType) throws IOException {
+        MaxBodySize limit = parameter.getMethodAnnotation(MaxBodySize.class);
+        int maxBodySize = maxBodySize(limit);
+        if (inputMessage.getHeaders().getContentLength() > maxBodySize) {
+            throw tooLarge(maxBodySize);
+        }
+
+        // Content-Length가 없거나(chunked) 틀린 경우에도 maxBodySize + 1 까지만 읽는다.
+        byte[] body = inputMessage.getBody().readNBytes(maxBodySize + 1);
+        if (body.length > maxBodySize) {
+            throw tooLarge(maxBodySize);
+        }
+
+        Class<?> type = ResolvableType.forType(targetType).resolve(Object.class);
+        boolean json = AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+        if (json && !BeanUtils.isSimpleValueType(type)
+                && !JsonShape.isWellFormed(body, isArray(type), limit.maxDepth())) {
+            log.info("잘못된 JSON 요청 거절 size={}", body.length);
+            throw new HttpMessageNotReadableException("JSON 형식이 올바르지 않습니다.", inputMessage);
+        }
+        return new BufferedInputMessage(inputMessage.getHeaders(), body);
+    }
+
+    private int maxBodySize(MaxBodySize limit) {
+        if (limit.property().isEmpty()) {
+            return limit.value();
+        }
+        return environment.getProperty(limit.property(), Integer.class, limit.value());
+    }
+
+    private static boolean isArray(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type);
+    }
+
+    private static ResponseStatusException tooLarge(int maxBodySize) {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "요청 본문은 최대 " + maxBodySize + " byte 까지 허용합니다.");
+    }
+
+    /**
+     * 이미 읽은 본문을 다시 읽을 수 있게 돌려준다.
+     */
+    private static final class BufferedInputMessage implements HttpInputMessage {
+
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        BufferedInputMessage(HttpHeaders headers, byte[] body) {
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package hello.itemservice.web.validation;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 목록 화면(th:each)에 넘기는, 한 번만 읽을 수 있는 행 목록
+ * - 전체 목록을 만들지 않고 source를 읽는 만큼 한 행씩 그린다.
+ * - 첫 행을 읽기 전에 지금까지 그린 부분(머리글, 표 제목)을 먼저 보내고, 이후 chunkSize 행마다 보낸다.
+ *   (Thymeleaf는 응답 Writer에 바로 쓴다. spring.thymeleaf.servlet.produce-partial-output-while-processing=true, 기본값)
+ * - 보내기 시작한 뒤에는 상태 코드를 바꿀 수 없다. 그리는 도중 실패하면 응답이 중간에 끊긴다.
+ */
+public class StreamingRows<T> implements Iterable<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final Iterator<T> source;
+    private final HttpServletResponse response;
+    private final int chunkSize;
+    private boolean iterated;
+
+    public StreamingRows(Stream<T> source, HttpServletResponse response) {
+        this(source.iterator(), response, DEFAULT_CHUNK_SIZE);
+    }
+
+    public StreamingRows(Iterator<T> source, HttpServletResponse response, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다. chunkSize=" + chunkSize);
+        }
+        this.source = source;
+        this.response = response;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("StreamingRows는 한 번만 읽을 수 있습니다.");
+        }
+        iterated = true;
+        return new Iterator<>() {
+
+            private int sinceFlush = -1; // 첫 flush 전
+
+            @Override
+            public boolean hasNext() {
+                if (sinceFlush < 0 || sinceFlush >= chunkSize) {
+                    flush();
+                    sinceFlush = 0;
+                }
+                return source.hasNext();
+            }
+
+            @Override
+            public T next() {
+                sinceFlush++;
+                return source.next();
+            }
+        };
+    }
+
+    private void flush() {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("목록 응답을 보내지 못했습니다. (클라이언트 연결 끊김 등)", e);
+        }
+    }
+}
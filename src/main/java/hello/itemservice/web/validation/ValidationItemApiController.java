@@ -1,30 +1,120 @@
 package hello.itemservice.web.validation;
 
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.validation.BatchValidator;
+import hello.itemservice.validation.FailFast;
+import hello.itemservice.validation.MaxBodySize;
 import hello.itemservice.web.validation.form.ItemSaveForm;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Slf4j
 @RestController
 @RequestMapping("/validation/api/items")
 public class ValidationItemApiController {
 
+    private final ItemRepository itemRepository;
+    private final BatchValidator batchValidator;
+    private final int batchMaxSize;
+    private final ItemStreamImporter itemStreamImporter;
+    private final ApiErrorResolver apiErrorResolver;
+
+    public ValidationItemApiController(ItemRepository itemRepository,
+                                       BatchValidator batchValidator,
+                                       @Value("${validation.api.batch.max-size:1000}") int batchMaxSize,
+                                       ItemStreamImporter itemStreamImporter,
+                                       ApiErrorResolver apiErrorResolver) {
+        this.itemRepository = itemRepository;
+        this.batchValidator = batchValidator;
+        this.batchMaxSize = batchMaxSize;
+        this.itemStreamImporter = itemStreamImporter;
+        this.apiErrorResolver = apiErrorResolver;
+    }
+
+    /**
+     * 단건 등록 (fail-fast)
+     * - 크기가 크거나 JSON 모양이 아닌 요청은 바인딩 전에 거절하고, 검증 오류는 첫 번째 하나만 돌려준다.
+     */
+    @FailFast
+    @MaxBodySize(4 * 1024)
     @PostMapping("/add")
     public Object addItem(@RequestBody @Validated ItemSaveForm form,
                           BindingResult bindingResult) {
         log.info("API 컨트롤러 호출");
 
         if (bindingResult.hasErrors()) {
-            log.info("검증 오류 발생 errors = {}", bindingResult);
-            return bindingResult.getAllErrors();                            // bindingResult가 가진 모든 오류(ObjectError, FieldError)를 반환한다.
+            log.debug("검증 오류 발생 errors = {}", bindingResult);
+            return apiErrorResolver.resolve(bindingResult.getAllErrors());  // 오류마다 필드, 코드, 메시지, 거부된 값만 반환한다.
         }
 
         log.info("성공 로직 실행");
         return form;                                                        // 성공하면 그냥 form을 반환하도록 했다.
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 등록
+     * - 본문 크기는 바인딩 전에 확인한다. (@MaxBodySize: 큰 배열을 객체로 다 만든 뒤에 거절하지 않는다.)
+     * - 각 요소를 병렬로 검증한다. (BatchValidator: Bean Validation + 복합 룰)
+     * - 검증을 통과한 요소만 한 번에 저장하고, 실패한 요소는 index 별 오류로 돌려준다.
+     */
+    @MaxBodySize(value = 256 * 1024, property = "validation.api.batch.max-body-size")
+    @PostMapping("/batch")
+    public ItemBatchResult addItems(@RequestBody List<ItemSaveForm> forms) {
+        if (forms.size() > batchMaxSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "한 번에 등록할 수 있는 상품은 최대 " + batchMaxSize + "개 입니다.");
+        }
+
+        List<Errors> results = batchValidator.validate(forms, "itemSaveForm");
+
+        List<Item> items = new ArrayList<>();
+        Map<Integer, List<ApiError>> errors = new TreeMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i).hasErrors()) {
+                errors.put(i, apiErrorResolver.resolve(results.get(i).getAllErrors()));
+                continue;
+            }
+            ItemSaveForm form = forms.get(i);
+            items.add(new Item(form.getItemName(), form.getPrice(), form.getQuantity()));
+        }
+
+        List<Long> savedIds = new ArrayList<>(items.size());
+        for (Item item : itemRepository.saveAll(items)) {
+            savedIds.add(item.getId());
+        }
+        log.info("일괄 등록 requested={}, saved={}, failed={}", forms.size(), savedIds.size(), errors.size());
+        return new ItemBatchResult(forms.size(), savedIds, errors);
+    }
+
+    /**
+     * NDJSON 스트리밍 등록
+     * - 요청 본문을 다 받기 전에 읽은 만큼 검증/저장하고, 줄 별 결과를 응답으로 바로 흘려보낸다.
+     * - 본문 크기 제한이 없다. (메모리에는 한 묶음만 올라간다.)
+     */
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importItems(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        long lines = itemStreamImporter.importItems(request.getInputStream(), response.getOutputStream());
+        log.info("스트리밍 등록 lines={}", lines);
+    }
+}
@@ -2,12 +2,14 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
@@ -23,15 +25,36 @@ public class ValidationItemControllerV1 {
     private final ItemRepository itemRepository;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@ModelAttribute("itemSearch") ItemSearchCond itemSearch,
+                        @RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        ServletWebRequest request,
+                        Model model) {
+        if (ItemETags.checkNotModified(itemRepository, request)) {
+            return null; // 상품이 바뀌지 않았으면 304 (조회하지 않고, 화면도 그리지 않는다.)
+        }
+        if (stream) {
+            // 페이징 없이 검색 결과 전체를 읽는 만큼 그려서 보낸다. (목록을 메모리에 만들지 않는다.)
+            model.addAttribute("items", new StreamingRows<>(itemRepository.stream(itemSearch), request.getResponse()));
+            return "validation/v1/items";
+        }
+        int pageSize = Math.max(1, Math.min(size, ItemRepository.MAX_PAGE_SIZE));
+        List<Item> items = itemRepository.findPage(itemSearch, after, pageSize);
         model.addAttribute("items", items);
+        model.addAttribute("size", pageSize);
+        if (items.size() == pageSize) {
+            model.addAttribute("nextAfter", items.get(items.size() - 1).getId()); // 다음 페이지는 마지막 id 이후부터 조회한다.
+        }
         return "validation/v1/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, ServletWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (ItemETags.checkNotModified(itemRepository, item, request)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v1/item";
     }
@@ -73,7 +96,7 @@ public class ValidationItemControllerV1 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동한다. (뷰 템플릿으로 보내버린다.)
         if (!errors.isEmpty()) {
-            log.info("errors = {}", errors);
+            log.debug("errors = {}", errors);
             model.addAttribute("errors", errors);
             return "validation/v1/addForm";
         }
@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -13,6 +14,7 @@ import org.springframework.validation.ObjectError;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.HashMap;
@@ -34,15 +36,36 @@ public class ValidationItemControllerV2 {
     }
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@ModelAttribute("itemSearch") ItemSearchCond itemSearch,
+                        @RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        ServletWebRequest request,
+                        Model model) {
+        if (ItemETags.checkNotModified(itemRepository, request)) {
+            return null; // 상품이 바뀌지 않았으면 304 (조회하지 않고, 화면도 그리지 않는다.)
+        }
+        if (stream) {
+            // 페이징 없이 검색 결과 전체를 읽는 만큼 그려서 보낸다. (목록을 메모리에 만들지 않는다.)
+            model.addAttribute("items", new StreamingRows<>(itemRepository.stream(itemSearch), request.getResponse()));
+            return "validation/v2/items";
+        }
+        int pageSize = Math.max(1, Math.min(size, ItemRepository.MAX_PAGE_SIZE));
+        List<Item> items = itemRepository.findPage(itemSearch, after, pageSize);
         model.addAttribute("items", items);
+        model.addAttribute("size", pageSize);
+        if (items.size() == pageSize) {
+            model.addAttribute("nextAfter", items.get(items.size() - 1).getId()); // 다음 페이지는 마지막 id 이후부터 조회한다.
+        }
         return "validation/v2/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, ServletWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (ItemETags.checkNotModified(itemRepository, item, request)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v2/item";
     }
@@ -96,7 +119,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동한다. (뷰 템플릿으로 보내버린다.)
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             // model.addAttribute("errors", errors);
             // bindingResult는 자동으로 뷰에 넘어간다.
             return "validation/v2/addForm";
@@ -155,7 +178,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -208,7 +231,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -309,7 +332,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -331,7 +354,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v2/addForm";
         }
 
@@ -355,7 +378,7 @@ public class ValidationItemControllerV2 {
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v2/addForm";
         }
 
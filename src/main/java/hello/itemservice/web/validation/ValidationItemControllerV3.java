@@ -2,8 +2,10 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.validation.TotalPriceMinValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -12,6 +14,7 @@ import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -25,15 +28,36 @@ public class ValidationItemControllerV3 {
     private final ItemRepository itemRepository;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@ModelAttribute("itemSearch") ItemSearchCond itemSearch,
+                        @RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        ServletWebRequest request,
+                        Model model) {
+        if (ItemETags.checkNotModified(itemRepository, request)) {
+            return null; // 상품이 바뀌지 않았으면 304 (조회하지 않고, 화면도 그리지 않는다.)
+        }
+        if (stream) {
+            // 페이징 없이 검색 결과 전체를 읽는 만큼 그려서 보낸다. (목록을 메모리에 만들지 않는다.)
+            model.addAttribute("items", new StreamingRows<>(itemRepository.stream(itemSearch), request.getResponse()));
+            return "validation/v3/items";
+        }
+        int pageSize = Math.max(1, Math.min(size, ItemRepository.MAX_PAGE_SIZE));
+        List<Item> items = itemRepository.findPage(itemSearch, after, pageSize);
         model.addAttribute("items", items);
+        model.addAttribute("size", pageSize);
+        if (items.size() == pageSize) {
+            model.addAttribute("nextAfter", items.get(items.size() - 1).getId()); // 다음 페이지는 마지막 id 이후부터 조회한다.
+        }
         return "validation/v3/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, ServletWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (ItemETags.checkNotModified(itemRepository, item, request)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v3/item";
     }
@@ -48,20 +72,12 @@ public class ValidationItemControllerV3 {
     public String addItem(@Validated @ModelAttribute Item item, BindingResult bindingResult,
                           RedirectAttributes redirectAttributes) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (Default 그룹에는 @TotalPriceMin이 없으므로 같은 검사를 직접 호출한다.)
+        TotalPriceMinValidator.validate(item, 10000, bindingResult);
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v3/addForm";
         }
 
@@ -76,20 +92,11 @@ public class ValidationItemControllerV3 {
     public String addItemV2(@Validated(SaveCheck.class) @ModelAttribute Item item, BindingResult bindingResult,
                             RedirectAttributes redirectAttributes) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증은 @TotalPriceMin이 필드 검증과 함께 처리한다.
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v3/addForm";
         }
 
@@ -111,19 +118,11 @@ public class ValidationItemControllerV3 {
     public String edit(@PathVariable Long itemId,
                        @Validated @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증 (Default 그룹에는 @TotalPriceMin이 없으므로 같은 검사를 직접 호출한다.)
+        TotalPriceMinValidator.validate(item, 10000, bindingResult);
 
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v3/editForm";
         }
 
@@ -135,19 +134,10 @@ public class ValidationItemControllerV3 {
     public String editV2(@PathVariable Long itemId,
                          @Validated(UpdateCheck.class) @ModelAttribute Item item, BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (item.getPrice() != null && item.getQuantity() != null) {
-            int resultPrice = item.getPrice() * item.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증은 @TotalPriceMin이 필드 검증과 함께 처리한다.
 
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v3/editForm";
         }
 
@@ -2,6 +2,7 @@ package hello.itemservice.web.validation;
 
 import hello.itemservice.domain.item.Item;
 import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.domain.item.ItemSearchCond;
 import hello.itemservice.domain.item.SaveCheck;
 import hello.itemservice.domain.item.UpdateCheck;
 import hello.itemservice.web.validation.form.ItemSaveForm;
@@ -13,6 +14,7 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.List;
@@ -26,15 +28,36 @@ public class ValidationItemControllerV4 {
     private final ItemRepository itemRepository;
 
     @GetMapping
-    public String items(Model model) {
-        List<Item> items = itemRepository.findAll();
+    public String items(@ModelAttribute("itemSearch") ItemSearchCond itemSearch,
+                        @RequestParam(required = false) Long after,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean stream,
+                        ServletWebRequest request,
+                        Model model) {
+        if (ItemETags.checkNotModified(itemRepository, request)) {
+            return null; // 상품이 바뀌지 않았으면 304 (조회하지 않고, 화면도 그리지 않는다.)
+        }
+        if (stream) {
+            // 페이징 없이 검색 결과 전체를 읽는 만큼 그려서 보낸다. (목록을 메모리에 만들지 않는다.)
+            model.addAttribute("items", new StreamingRows<>(itemRepository.stream(itemSearch), request.getResponse()));
+            return "validation/v4/items";
+        }
+        int pageSize = Math.max(1, Math.min(size, ItemRepository.MAX_PAGE_SIZE));
+        List<Item> items = itemRepository.findPage(itemSearch, after, pageSize);
         model.addAttribute("items", items);
+        model.addAttribute("size", pageSize);
+        if (items.size() == pageSize) {
+            model.addAttribute("nextAfter", items.get(items.size() - 1).getId()); // 다음 페이지는 마지막 id 이후부터 조회한다.
+        }
         return "validation/v4/items";
     }
 
     @GetMapping("/{itemId}")
-    public String item(@PathVariable long itemId, Model model) {
+    public String item(@PathVariable long itemId, ServletWebRequest request, Model model) {
         Item item = itemRepository.findById(itemId);
+        if (ItemETags.checkNotModified(itemRepository, item, request)) {
+            return null;
+        }
         model.addAttribute("item", item);
         return "validation/v4/item";
     }
@@ -50,20 +73,11 @@ public class ValidationItemControllerV4 {
                           BindingResult bindingResult,
                           RedirectAttributes redirectAttributes) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
-        }
+        // 특정 필드가 아닌 복합 룰 검증은 @TotalPriceMin이 필드 검증과 함께 처리한다.
 
         // 검증에 실패하면 다시 입력 폼으로 이동
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v4/addForm";
         }
 
@@ -87,19 +101,15 @@ public class ValidationItemControllerV4 {
                        @Validated @ModelAttribute("item") ItemUpdateForm form,
                        BindingResult bindingResult) {
 
-        // 특정 필드가 아닌 복합 룰 검증
-        if (form.getPrice() != null && form.getQuantity() != null) {
-            int resultPrice = form.getPrice() * form.getQuantity();
-            if (resultPrice < 10000) {
-                bindingResult.reject(
-                        "totalPriceMin",
-                        new Object[]{10000, resultPrice},
-                        null);
-            }
+        // 특정 필드가 아닌 복합 룰 검증은 @TotalPriceMin이 필드 검증과 함께 처리한다.
+
+        // 버전이 없으면 저장소가 버전을 확인하지 않고 덮어쓰므로(V1~V3 용) 여기서 막는다.
+        if (form.getVersion() == null) {
+            bindingResult.reject("versionRequired");
         }
 
         if (bindingResult.hasErrors()) {
-            log.info("errors = {}", bindingResult);
+            log.debug("errors = {}", bindingResult);
             return "validation/v4/editForm";
         }
 
@@ -108,8 +118,14 @@ public class ValidationItemControllerV4 {
         item.setItemName(form.getItemName());
         item.setPrice(form.getPrice());
         item.setQuantity(form.getQuantity());
+        item.setVersion(form.getVersion());
 
-        itemRepository.update(itemId, item);
+        // 다른 사용자가 먼저 수정했다면 입력한 값을 그대로 보여주고 다시 확인하도록 한다.
+        if (!itemRepository.update(itemId, item)) {
+            bindingResult.reject("versionConflict");
+            log.debug("errors = {}", bindingResult);
+            return "validation/v4/editForm";
+        }
         return "redirect:/validation/v4/items/{itemId}";
     }
 
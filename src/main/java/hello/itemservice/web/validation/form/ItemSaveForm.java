@@ -1,5 +1,8 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.validation.GenerateValidator;
+import hello.itemservice.validation.PricedItem;
+import hello.itemservice.validation.TotalPriceMin;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
@@ -8,7 +11,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class ItemSaveForm {
+@GenerateValidator
+@TotalPriceMin
+public class ItemSaveForm implements PricedItem {
 
     @NotBlank
     private String itemName;
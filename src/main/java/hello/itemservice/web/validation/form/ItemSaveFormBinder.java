@@ -0,0 +1,30 @@
+package hello.itemservice.web.validation.form;
+
+import hello.itemservice.web.validation.FormBinder;
+import hello.itemservice.web.validation.FormParameters;
+
+public class ItemSaveFormBinder implements FormBinder<ItemSaveForm> {
+
+    @Override
+    public Class<ItemSaveForm> getFormType() {
+        return ItemSaveForm.class;
+    }
+
+    @Override
+    public ItemSaveForm createForm() {
+        return new ItemSaveForm();
+    }
+
+    @Override
+    public void bind(ItemSaveForm form, FormParameters parameters) {
+        if (parameters.contains("itemName")) {
+            form.setItemName(parameters.getString("itemName"));
+        }
+        if (parameters.contains("price")) {
+            form.setPrice(parameters.getInteger("price"));
+        }
+        if (parameters.contains("quantity")) {
+            form.setQuantity(parameters.getInteger("quantity"));
+        }
+    }
+}
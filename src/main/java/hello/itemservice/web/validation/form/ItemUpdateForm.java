@@ -1,5 +1,8 @@
 package hello.itemservice.web.validation.form;
 
+import hello.itemservice.validation.GenerateValidator;
+import hello.itemservice.validation.PricedItem;
+import hello.itemservice.validation.TotalPriceMin;
 import lombok.Data;
 import org.hibernate.validator.constraints.Range;
 
@@ -7,7 +10,9 @@ import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 @Data
-public class ItemUpdateForm {
+@GenerateValidator
+@TotalPriceMin
+public class ItemUpdateForm implements PricedItem {
 
     @NotNull
     private Long id;
@@ -21,6 +26,9 @@ public class ItemUpdateForm {
 
     // 수정에서는 수량은 자유롭게 변경할 수 있다.
     private Integer quantity;
+
+    // 수정 폼을 열 때의 상품 버전. 그 사이에 다른 사용자가 수정했으면 저장하지 않는다.
+    private Long version;
 }
 
 
@@ -0,0 +1,36 @@
+package hello.itemservice.web.validation.form;
+
+import hello.itemservice.web.validation.FormBinder;
+import hello.itemservice.web.validation.FormParameters;
+
+public class ItemUpdateFormBinder implements FormBinder<ItemUpdateForm> {
+
+    @Override
+    public Class<ItemUpdateForm> getFormType() {
+        return ItemUpdateForm.class;
+    }
+
+    @Override
+    public ItemUpdateForm createForm() {
+        return new ItemUpdateForm();
+    }
+
+    @Override
+    public void bind(ItemUpdateForm form, FormParameters parameters) {
+        if (parameters.contains("id")) {
+            form.setId(parameters.getLong("id"));
+        }
+        if (parameters.contains("itemName")) {
+            form.setItemName(parameters.getString("itemName"));
+        }
+        if (parameters.contains("price")) {
+            form.setPrice(parameters.getInteger("price"));
+        }
+        if (parameters.contains("quantity")) {
+            form.setQuantity(parameters.getInteger("quantity"));
+        }
+        if (parameters.contains("version")) {
+            form.setVersion(parameters.getLong("version"));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package hello.itemservice;
+
+import hello.itemservice.web.validation.LazyBindingResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.validation.BindingResult;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품 등록 화면(V4)의 ItemSaveForm은 폼 전용 바인더(FormArgumentResolver)로 바인딩한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormBinderConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void itemSaveForm() throws Exception {
+        MvcResult result = mockMvc.perform(post("/validation/v4/items/add")
+                        .param("itemName", "itemA")
+                        .param("price", "abc")
+                        .param("quantity", "10"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("validation/v4/addForm"))
+                .andExpect(model().attributeHasFieldErrorCode("item", "price", "typeMismatch"))
+                .andExpect(content().string(containsString("숫자를 입력해주세요.")))
+                .andReturn();
+
+        assertThat(result.getModelAndView().getModel().get(BindingResult.MODEL_KEY_PREFIX + "item"))
+                .isInstanceOf(LazyBindingResult.class);
+    }
+}
@@ -0,0 +1,126 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ColumnarItemStoreTest {
+
+    ItemRepository itemRepository = new ItemRepository(new ColumnarItemStore());
+
+    @AfterEach
+    void afterEach() {
+        itemRepository.clearStore();
+    }
+
+    @Test
+    void save() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+
+        //when
+        Item savedItem = itemRepository.save(item);
+
+        //then
+        Item findItem = itemRepository.findById(item.getId());
+        assertThat(findItem).isEqualTo(savedItem);
+    }
+
+    @Test
+    void updateItem() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        //when
+        itemRepository.update(itemId, new Item("item2", 20000, null));
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getPrice()).isEqualTo(20000);
+        assertThat(findItem.getQuantity()).isNull();
+    }
+
+    @Test
+    void findAllAfterGrow() {
+        //given
+        for (int i = 0; i < 10_000; i++) {
+            itemRepository.save(new Item("item" + (i % 100), i, i));
+        }
+
+        //when
+        List<Item> result = itemRepository.findAll();
+
+        //then
+        assertThat(result).hasSize(10_000);
+        Item last = result.get(result.size() - 1);
+        assertThat(itemRepository.findById(last.getId())).isEqualTo(last);
+    }
+
+    @Test
+    void findPageInIdOrder() {
+        //given
+        ItemStore store = new ColumnarItemStore();
+        for (long id : new long[]{5, 1, 4, 2, 3}) {
+            Item item = new Item("item" + id, 10000, 10);
+            item.setId(id);
+            store.put(item);
+        }
+
+        //when
+        List<Item> page = store.findPage(1L, 3);
+
+        //then
+        assertThat(page).extracting(Item::getId).containsExactly(2L, 3L, 4L);
+        assertThat(store.stream()).extracting(Item::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    /**
+     * System.gc() 전후 힙 사용량으로 비교하므로 느리고 GC에 따라 흔들린다. (-Dfootprint=true 일 때만 실행)
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "footprint", matches = "true")
+    void footprint() {
+        compareFootprint(1_000_000);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "footprint.large", matches = "true")
+    void footprintLarge() {
+        compareFootprint(10_000_000);
+    }
+
+    private void compareFootprint(int count) {
+        long mapBytes = footprint(MapItemStore::new, count);
+        long columnarBytes = footprint(() -> new ColumnarItemStore(count), count);
+
+        assertThat(columnarBytes).isLessThan(mapBytes);
+    }
+
+    private long footprint(Supplier<ItemStore> storeFactory, int count) {
+        long before = usedMemory();
+        ItemStore store = storeFactory.get();
+        for (int i = 1; i <= count; i++) {
+            Item item = new Item("item" + (i % 10_000), 1000 + i % 1000, i % 9999);
+            item.setId((long) i);
+            store.put(item);
+        }
+        long after = usedMemory();
+        assertThat(store.size()).isEqualTo(count);
+        return after - before;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,215 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DurableItemStoreTest {
+
+    private static final int SEGMENT_SIZE = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoverFromLog() throws IOException {
+        //given
+        try (DurableItemStore store = open()) {
+            store.put(item(1, "itemA", 10000, 10));
+            store.put(item(2, "itemB", 20000, null));
+            store.put(item(1, "itemA2", 11000, 11));
+        }
+
+        //when
+        try (DurableItemStore store = open()) {
+            //then
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.get(1)).isEqualTo(item(1, "itemA2", 11000, 11));
+            assertThat(store.get(2)).isEqualTo(item(2, "itemB", 20000, null));
+        }
+    }
+
+    @Test
+    void recoverFromSnapshotAndLogTail() throws IOException {
+        //given
+        try (DurableItemStore store = open()) {
+            for (int i = 1; i <= 3000; i++) {
+                store.put(item(i, "item" + i, i, i));
+            }
+            store.snapshot();
+            store.put(item(1, "after-snapshot", 1, 1));
+            store.put(item(3001, "item3001", 3001, 3001));
+        }
+
+        //when
+        try (DurableItemStore store = open()) {
+            //then
+            assertThat(store.size()).isEqualTo(3001);
+            assertThat(store.get(1).getItemName()).isEqualTo("after-snapshot");
+            assertThat(store.get(3000).getItemName()).isEqualTo("item3000");
+        }
+        assertThat(directory.resolve("items-0.log")).doesNotExist();
+    }
+
+    /**
+     * 로그가 받아 준 상품은 스냅샷에도 그대로 남는다.
+     * - 64KB가 넘는 이름 (DataOutputStream.writeUTF 한도를 넘는다.)
+     * - Integer.MIN_VALUE 가격/수량은 null과 구분된다.
+     */
+    @Test
+    void snapshotKeepsEveryLoggedValue() throws IOException {
+        //given
+        String longName = "가".repeat(40_000); // UTF-8 120,000 byte
+        try (DurableItemStore store = open()) {
+            store.put(item(1, longName, Integer.MIN_VALUE, Integer.MIN_VALUE));
+            store.put(item(2, null, null, null));
+            store.snapshot();
+            store.put(item(3, "after-snapshot", Integer.MIN_VALUE, null));
+        }
+
+        //when
+        try (DurableItemStore store = open()) {
+            //then
+            assertThat(store.get(1)).isEqualTo(item(1, longName, Integer.MIN_VALUE, Integer.MIN_VALUE));
+            assertThat(store.get(2)).isEqualTo(item(2, null, null, null));
+            assertThat(store.get(3)).isEqualTo(item(3, "after-snapshot", Integer.MIN_VALUE, null));
+        }
+        assertThat(directory.resolve("items-0.log")).doesNotExist(); // 스냅샷이 성공해서 이전 로그를 지웠다.
+    }
+
+    @Test
+    void recoverClear() throws IOException {
+        try (DurableItemStore store = open()) {
+            store.put(item(1, "itemA", 10000, 10));
+            store.clear();
+            store.put(item(2, "itemB", 20000, 20));
+        }
+
+        try (DurableItemStore store = open()) {
+            assertThat(store.findAll()).containsExactly(item(2, "itemB", 20000, 20));
+        }
+    }
+
+    @Test
+    void ignoreTornRecord() throws IOException {
+        //given
+        try (DurableItemStore store = open()) {
+            store.put(item(1, "itemA", 10000, 10));
+            store.put(item(2, "itemB", 20000, 20));
+        }
+        // 쓰다가 죽은 레코드: 길이와 CRC만 있고 본문이 잘렸다.
+        Files.write(directory.resolve("items-0.log"), new byte[]{0, 0, 0, 40, 1, 2, 3, 4, 1, 0, 0},
+                StandardOpenOption.APPEND);
+
+        //when
+        try (DurableItemStore store = open()) {
+            store.put(item(3, "itemC", 30000, 30));
+        }
+
+        //then
+        try (DurableItemStore store = open()) {
+            assertThat(store.findAll()).extracting(Item::getId).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    /**
+     * 스냅숏 + 그 뒤의 로그로 복구한다. (복구 시간은 DurableRecoveryBenchmark에서 측정한다.)
+     */
+    @Test
+    void recoverFromSnapshotAndLog() throws IOException {
+        //given
+        int count = 100_000;
+        try (DurableItemStore store = new DurableItemStore(new MapItemStore(), directory)) {
+            for (int i = 1; i <= count; i++) {
+                store.put(item(i, "item" + (i % 1000), 1000 + i % 1000, i % 9999));
+            }
+            store.snapshot();
+            for (int i = 1; i <= 10_000; i++) {
+                store.put(item(i, "updated", 2000, 1));
+            }
+        }
+
+        //when
+        try (DurableItemStore store = new DurableItemStore(new MapItemStore(), directory)) {
+            ItemRepository itemRepository = new ItemRepository(store);
+
+            //then
+            assertThat(store.size()).isEqualTo(count);
+            assertThat(store.get(10_000).getItemName()).isEqualTo("updated");
+            assertThat(store.get(10_001).getItemName()).isEqualTo("item1");
+            assertThat(itemRepository.findByNamePrefix("updated")).hasSize(10_000);
+        }
+    }
+
+    /**
+     * 다른 JVM에서 계속 저장하는 도중에 프로세스를 강제 종료하고, 남은 파일로 복구한다.
+     */
+    @Test
+    void recoverAfterKill() throws Exception {
+        //given
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                Writer.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(new File(directory.toFile(), "writer.out"))
+                .start();
+        waitForLog();
+        Thread.sleep(300);
+
+        //when
+        process.destroyForcibly().waitFor();
+
+        //then
+        try (DurableItemStore store = open()) {
+            List<Item> items = store.findAll();
+            assertThat(items).isNotEmpty();
+            for (int i = 0; i < items.size(); i++) {
+                long id = i + 1;
+                Item item = items.get(i);
+                assertThat(item.getId()).isEqualTo(id); // 중간에 빠진 상품이 없다.
+                assertThat(item).isEqualTo(Writer.expected(id));
+            }
+        }
+    }
+
+    private void waitForLog() throws InterruptedException {
+        Path log = directory.resolve("items-0.log");
+        for (int i = 0; i < 100 && !Files.exists(log); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(log).exists();
+    }
+
+    private DurableItemStore open() {
+        return new DurableItemStore(new MapItemStore(), directory, SEGMENT_SIZE, 0, 0);
+    }
+
+    private static Item item(long id, String itemName, Integer price, Integer quantity) {
+        Item item = new Item(itemName, price, quantity);
+        item.setId(id);
+        return item;
+    }
+
+    static class Writer {
+
+        public static void main(String[] args) {
+            DurableItemStore store = new DurableItemStore(new MapItemStore(), Paths.get(args[0]), SEGMENT_SIZE, 1, 50_000);
+            for (long id = 1; ; id++) {
+                store.put(expected(id));
+            }
+        }
+
+        static Item expected(long id) {
+            return item(id, "item-" + id, (int) (id % 1_000_000), (int) (id % 9999));
+        }
+    }
+}
@@ -3,7 +3,15 @@ package hello.itemservice.domain.item;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -65,4 +73,257 @@ class ItemRepositoryTest {
         assertThat(findItem.getPrice()).isEqualTo(updateParam.getPrice());
         assertThat(findItem.getQuantity()).isEqualTo(updateParam.getQuantity());
     }
+
+    @Test
+    void saveAll() {
+        //given
+        List<Item> items = List.of(new Item("item1", 10000, 10), new Item("item2", 20000, 20));
+
+        //when
+        itemRepository.saveAll(items);
+
+        //then
+        assertThat(items).extracting(Item::getId).doesNotContainNull();
+        assertThat(itemRepository.findAll()).containsExactlyElementsOf(items);
+        assertThat(itemRepository.findByNamePrefix("item")).hasSize(2);
+    }
+
+    @Test
+    void findPage() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+        List<Item> all = itemRepository.findAll();
+
+        //when
+        List<Item> first = itemRepository.findPage(null, 2);
+        List<Item> second = itemRepository.findPage(first.get(1).getId(), 2);
+        List<Item> last = itemRepository.findPage(second.get(1).getId(), 2);
+
+        //then
+        assertThat(first).containsExactly(all.get(0), all.get(1));
+        assertThat(second).containsExactly(all.get(2), all.get(3));
+        assertThat(last).containsExactly(all.get(4));
+    }
+
+    @Test
+    void stream() {
+        //given
+        for (int i = 0; i < 3000; i++) {
+            itemRepository.save(new Item("item" + i, 10000, 10));
+        }
+
+        //when
+        List<Long> ids = itemRepository.stream().map(Item::getId).collect(Collectors.toList());
+
+        //then
+        assertThat(ids).hasSize(3000).isSorted();
+    }
+
+    @Test
+    void findByIndex() {
+        //given
+        Item itemA = itemRepository.save(new Item("apple", 1000, 10));
+        Item itemB = itemRepository.save(new Item("apricot", 5000, 20));
+        Item itemC = itemRepository.save(new Item("banana", 9000, 30));
+
+        //when
+        itemRepository.update(itemC.getId(), new Item("avocado", 3000, 30));
+
+        //then
+        assertThat(itemRepository.findByPriceBetween(2000, 6000)).extracting(Item::getId)
+                .containsExactlyInAnyOrder(itemB.getId(), itemC.getId());
+        assertThat(itemRepository.findByPriceBetween(8000, null)).isEmpty();
+        assertThat(itemRepository.findByQuantityBetween(null, 15)).extracting(Item::getId)
+                .containsExactly(itemA.getId());
+        assertThat(itemRepository.findByNamePrefix("ap")).extracting(Item::getId)
+                .containsExactlyInAnyOrder(itemA.getId(), itemB.getId());
+        assertThat(itemRepository.findByNamePrefix("b")).isEmpty();
+    }
+
+    @Test
+    void findPageWithCondition() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            itemRepository.save(new Item("item" + i, 1000 * (i + 1), 10));
+        }
+        ItemSearchCond cond = new ItemSearchCond("item", 3000, 8000);
+
+        //when
+        List<Item> first = itemRepository.findPage(cond, null, 4);
+        List<Item> second = itemRepository.findPage(cond, first.get(3).getId(), 4);
+
+        //then
+        assertThat(first).extracting(Item::getPrice).containsExactly(3000, 4000, 5000, 6000);
+        assertThat(second).extracting(Item::getPrice).containsExactly(7000, 8000);
+    }
+
+    /**
+     * 가격 순서와 id 순서가 달라도(값 별 버킷 병합) 페이지를 이어 붙이면 id 순 전체 검색 결과와 같다.
+     */
+    @Test
+    void findPageWithConditionInIdOrder() {
+        //given
+        for (int i = 0; i < 500; i++) {
+            itemRepository.save(new Item("item" + i, 1000 + (i * 37 % 100) * 100, 1 + i % 7));
+        }
+        Item moved = itemRepository.findPage(null, 2).get(1); // 가격 4700 -> 9900 (범위 밖으로)
+        itemRepository.update(moved.getId(), new Item(moved.getItemName(), 9900, moved.getQuantity()));
+        ItemSearchCond cond = new ItemSearchCond(null, 3000, 9000);
+        cond.setMaxQuantity(5);
+
+        //when
+        List<Item> pages = new ArrayList<>();
+        Long after = null;
+        List<Item> page;
+        do {
+            page = itemRepository.findPage(cond, after, 7);
+            pages.addAll(page);
+            after = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        } while (page.size() == 7);
+
+        //then
+        assertThat(pages).extracting(Item::getId).containsExactlyElementsOf(
+                itemRepository.stream(cond).map(Item::getId).collect(Collectors.toList()));
+        assertThat(pages).hasSizeGreaterThan(7 * 10);
+        assertThat(pages).extracting(Item::getId).doesNotContain(moved.getId()).isSorted();
+    }
+
+    @Test
+    void updateWithStaleVersion() {
+        //given
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Long itemId = savedItem.getId();
+
+        Item first = new Item("item2", 20000, 20);
+        first.setVersion(savedItem.getVersion());
+        Item second = new Item("item3", 30000, 30);
+        second.setVersion(savedItem.getVersion()); // 같은 버전을 보고 수정한 두 번째 사용자
+
+        //when
+        boolean firstUpdated = itemRepository.update(itemId, first);
+        boolean secondUpdated = itemRepository.update(itemId, second);
+
+        //then
+        assertThat(firstUpdated).isTrue();
+        assertThat(secondUpdated).isFalse();
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getItemName()).isEqualTo("item2");
+        assertThat(findItem.getVersion()).isEqualTo(savedItem.getVersion() + 1);
+    }
+
+    @Test
+    void modificationCount() {
+        //given
+        long start = itemRepository.getModificationCount();
+        Item savedItem = itemRepository.save(new Item("item1", 10000, 10));
+        Item stale = new Item("item2", 20000, 20);
+        stale.setVersion(savedItem.getVersion() + 1);
+
+        //when
+        long afterSave = itemRepository.getModificationCount();
+        itemRepository.update(savedItem.getId(), stale); // 버전이 달라 수정하지 않는다.
+        long afterStaleUpdate = itemRepository.getModificationCount();
+        itemRepository.update(savedItem.getId(), new Item("item3", 30000, 30));
+
+        //then
+        assertThat(afterSave).isEqualTo(start + 1);
+        assertThat(afterStaleUpdate).isEqualTo(afterSave);
+        assertThat(itemRepository.getModificationCount()).isEqualTo(afterSave + 1);
+        assertThat(itemRepository.getLastModified()).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    /**
+     * 여러 스레드가 같은 상품의 수량을 "읽고 -> 1 더해서 -> 버전 조건부 수정" 한다. (충돌하면 다시 읽는다.)
+     * 잃어버린 수정이 없다면 최종 수량은 성공한 수정 횟수와 같아야 한다.
+     */
+    @Test
+    void concurrentUpdateHasNoLostUpdates() throws Exception {
+        //given
+        Item savedItem = itemRepository.save(new Item("counter", 10000, 0));
+        Long itemId = savedItem.getId();
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        while (true) {
+                            Item current = itemRepository.findById(itemId);
+                            Item updateParam = new Item(current.getItemName(), current.getPrice(), current.getQuantity() + 1);
+                            updateParam.setVersion(current.getVersion());
+                            if (itemRepository.update(itemId, updateParam)) {
+                                break;
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        //then
+        Item findItem = itemRepository.findById(itemId);
+        assertThat(findItem.getQuantity()).isEqualTo(threads * perThread);
+        assertThat(findItem.getVersion()).isEqualTo(1L + threads * perThread);
+    }
+
+    @Test
+    void concurrentSave() throws Exception {
+        //given
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        int perThread = 2_000;
+
+        //when
+        List<Long> ids = saveConcurrently(threads, perThread);
+
+        //then
+        Set<Long> uniqueIds = new HashSet<>(ids);
+        assertThat(uniqueIds).hasSize(threads * perThread);
+        assertThat(itemRepository.findAll()).hasSize(threads * perThread);
+        for (Long id : ids) {
+            assertThat(itemRepository.findById(id)).isNotNull();
+        }
+    }
+
+    private List<Long> saveConcurrently(int threads, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(itemRepository.save(new Item("item" + i, 10000, 10)).getId());
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            List<Long> ids = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                ids.addAll(future.get());
+            }
+            return ids;
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -0,0 +1,206 @@
+package hello.itemservice.domain.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MapItemStoreTest {
+
+    private static final int ITEMS = 1000;
+
+    MapItemStore store = new MapItemStore();
+
+    /**
+     * 쓰기 스레드는 매 회차마다 1번부터 순서대로 모든 상품을 (이름, 가격, 수량) = 회차 로 바꾼다.
+     * 한 시점의 스냅샷이라면 목록은 앞쪽이 r+1 회차, 뒤쪽이 r 회차인 모양이어야 하고,
+     * 한 상품 안에서 필드 값이 서로 달라서는 안 된다.
+     */
+    @Test
+    void findAllIsPointInTimeSnapshot() throws Exception {
+        //given
+        fill(0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 1; running.get(); round++) {
+                    fill(round);
+                }
+            });
+
+            //when
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    int checked = 0;
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                    while (System.nanoTime() < deadline) {
+                        assertConsistent(store.findAll());
+                        checked++;
+                    }
+                    return checked;
+                }));
+            }
+
+            //then
+            for (Future<Integer> reader : readers) {
+                assertThat(reader.get()).isPositive();
+            }
+            running.set(false);
+            writer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getReturnsCopy() {
+        //given
+        fill(1);
+
+        //when
+        Item item = store.get(1);
+        item.setPrice(999);
+
+        //then
+        assertThat(store.get(1).getPrice()).isEqualTo(1);
+    }
+
+    /**
+     * 큰 putAll이 끝나지 않는 동안 뒤따르는 put은 돌지 않고 잠들어서(WAITING) 기다리고,
+     * putAll이 공개되면 깨어나 순서대로 공개된다.
+     */
+    @Test
+    void publishParksBehindSlowCommit() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Item> batch = new BlockingList(List.of(item(1, 1), item(2, 1)), started, release);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> putAll = executor.submit(() -> store.putAll(batch));
+            started.await();
+            AtomicReference<Thread> putThread = new AtomicReference<>();
+            Future<?> put = executor.submit(() -> {
+                putThread.set(Thread.currentThread());
+                store.put(item(3, 2));
+            });
+
+            //when
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (putThread.get() == null || putThread.get().getState() != Thread.State.WAITING) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(1);
+            }
+            assertThat(store.get(3)).isNull(); // 앞선 커밋보다 먼저 보이지 않는다.
+            release.countDown();
+
+            //then
+            putAll.get(5, TimeUnit.SECONDS);
+            put.get(5, TimeUnit.SECONDS);
+            assertThat(store.findAll()).extracting(Item::getId).containsExactly(1L, 2L, 3L);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * putAll이 도중에 실패해도 커밋 번호는 공개되어 뒤따르는 쓰기가 멈추지 않고, 실패한 묶음은 하나도 보이지 않는다.
+     */
+    @Test
+    void failedPutAllDoesNotBlockLaterWrites() throws Exception {
+        //given
+        store.put(item(1, 1));
+        Item withoutId = new Item("noId", 1, 1);
+        List<Item> batch = List.of(item(1, 2), item(2, 2), withoutId);
+
+        //when
+        assertThatThrownBy(() -> store.putAll(batch)).isInstanceOf(NullPointerException.class);
+
+        //then
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> store.put(item(3, 3))).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(store.get(1).getPrice()).isEqualTo(1); // 이전 버전으로 되돌렸다.
+        assertThat(store.get(2)).isNull();
+        assertThat(store.findAll()).extracting(Item::getId).containsExactly(1L, 3L);
+    }
+
+    private void fill(int round) {
+        for (long id = 1; id <= ITEMS; id++) {
+            Item item = new Item(String.valueOf(round), round, round);
+            item.setId(id);
+            store.put(item);
+        }
+    }
+
+    private static Item item(long id, int round) {
+        Item item = new Item(String.valueOf(round), round, round);
+        item.setId(id);
+        return item;
+    }
+
+    private static void assertConsistent(List<Item> items) {
+        assertThat(items).hasSize(ITEMS);
+        int first = items.get(0).getPrice();
+        int previous = first;
+        for (Item item : items) {
+            int round = item.getPrice();
+            assertThat(item.getQuantity()).isEqualTo(round);
+            assertThat(item.getItemName()).isEqualTo(String.valueOf(round));
+            assertThat(round).isLessThanOrEqualTo(previous).isGreaterThanOrEqualTo(first - 1);
+            previous = round;
+        }
+    }
+
+    /**
+     * 첫 번째 요소를 돌려준 뒤 release 될 때까지 멈추는 목록 (putAll 도중에 멈춰 있는 커밋)
+     */
+    private static final class BlockingList extends AbstractList<Item> {
+
+        private final List<Item> items;
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingList(List<Item> items, CountDownLatch started, CountDownLatch release) {
+            this.items = items;
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public Item get(int index) {
+            if (index == 1) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return items.get(index);
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+    }
+}
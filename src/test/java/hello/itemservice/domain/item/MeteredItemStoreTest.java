@@ -0,0 +1,40 @@
+package hello.itemservice.domain.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MeteredItemStoreTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    MeteredItemStore store = new MeteredItemStore(new MapItemStore(), registry);
+
+    @Test
+    void timeEachOperation() {
+        //given
+        Item item = new Item("itemA", 10000, 10);
+        item.setId(1L);
+
+        //when
+        store.put(item);
+        Item found = store.get(1L);
+        store.findPage(0, 10);
+        store.findPage(1, 10);
+
+        //then 저장소 동작은 그대로다.
+        assertThat(found.getItemName()).isEqualTo("itemA");
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.stream()).extracting(Item::getId).containsExactly(1L);
+
+        assertThat(count("put")).isEqualTo(1);
+        assertThat(count("get")).isEqualTo(1);
+        assertThat(count("findPage")).isEqualTo(2);
+        assertThat(count("size")).isEqualTo(1);
+    }
+
+    private long count(String operation) {
+        return registry.get(MeteredItemStore.METRIC_NAME).tag("store", "MapItemStore").tag("operation", operation)
+                .timer().count();
+    }
+}
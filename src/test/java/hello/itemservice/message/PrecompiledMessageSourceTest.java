@@ -0,0 +1,119 @@
+package hello.itemservice.message;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.MessageSource;
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.MessageCodesResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 미리 펼친 테이블로 찾은 메시지가 스프링 부트 기본 메시지 소스(ResourceBundleMessageSource)와 같은지 비교한다.
+ */
+class PrecompiledMessageSourceTest {
+
+    private static final String[] BASENAMES = {"messages", "errors"};
+    private static final Locale[] LOCALES = {Locale.KOREA, Locale.KOREAN, Locale.ENGLISH, Locale.US, Locale.FRANCE, Locale.ROOT};
+    private static final String[] ERROR_CODES = {"required", "range", "max", "min", "typeMismatch",
+            "NotBlank", "NotNull", "Range", "Max", "totalPriceMin", "versionConflict", "no_code"};
+    private static final String[] FIELDS = {"itemName", "price", "quantity"};
+    private static final Class<?>[] FIELD_TYPES = {String.class, Integer.class, null};
+
+    MessageCodesResolver codesResolver = new DefaultMessageCodesResolver();
+
+    @Test
+    void sameMessagesAsResourceBundleMessageSource() {
+        for (boolean fallbackToSystemLocale : new boolean[]{true, false}) {
+            MessageSource expected = resourceBundleMessageSource(fallbackToSystemLocale);
+            MessageSource actual = new PrecompiledMessageSource(BASENAMES, StandardCharsets.UTF_8, fallbackToSystemLocale);
+
+            for (Locale locale : LOCALES) {
+                // 두 번째는 기억해 둔 코드 목록으로 찾는다.
+                for (int i = 0; i < 2; i++) {
+                    assertSameMessages(expected, actual, locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    void messageCode() {
+        PrecompiledMessageSource ms = new PrecompiledMessageSource(BASENAMES, StandardCharsets.UTF_8, false);
+
+        assertThat(ms.getMessage("hello", null, Locale.KOREA)).isEqualTo("안녕");
+        assertThat(ms.getMessage("hello.name", new Object[]{"Spring"}, Locale.ENGLISH)).isEqualTo("hello Spring");
+        // messages_en 에 없는 코드는 errors 에서 찾는다.
+        assertThat(ms.getMessage("required", null, Locale.ENGLISH)).isEqualTo("필수 값 입니다.");
+        assertThat(ms.getMessage("no_code", null, "기본 메시지", Locale.KOREA)).isEqualTo("기본 메시지");
+        assertThatThrownBy(() -> ms.getMessage("no_code", null, Locale.KOREA))
+                .isInstanceOf(NoSuchMessageException.class);
+    }
+
+    @Test
+    void fieldError() {
+        PrecompiledMessageSource ms = new PrecompiledMessageSource(BASENAMES, StandardCharsets.UTF_8, false);
+        String[] codes = codesResolver.resolveMessageCodes("range", "item", "price", Integer.class);
+
+        //Level1 (range.item.price)
+        assertThat(ms.getMessage(new DefaultMessageSourceResolvable(codes, new Object[]{1000, 1000000}), Locale.KOREA))
+                .isEqualTo("가격은 1,000 ~ 1,000,000 까지 허용합니다.");
+
+        // 기억해 둔 뒤에 호출한 쪽에서 배열을 바꿔도 결과가 섞이지 않는다.
+        codes[0] = "required.item.itemName";
+        assertThat(ms.getMessage(new DefaultMessageSourceResolvable(codes, new Object[]{1000, 1000000}), Locale.KOREA))
+                .isEqualTo("상품 이름은 필수입니다.");
+    }
+
+    private void assertSameMessages(MessageSource expected, MessageSource actual, Locale locale) {
+        for (String errorCode : ERROR_CODES) {
+            Object[] args = {10000, 5000};
+            assertSameMessage(expected, actual, locale,
+                    new DefaultMessageSourceResolvable(codesResolver.resolveMessageCodes(errorCode, "item"), args));
+
+            for (String field : FIELDS) {
+                for (Class<?> fieldType : FIELD_TYPES) {
+                    String[] codes = codesResolver.resolveMessageCodes(errorCode, "item", field, fieldType);
+                    // Bean Validation 오류처럼 첫 번째 인자로 필드 이름(resolvable)이 들어간다.
+                    MessageSourceResolvable fieldName = new DefaultMessageSourceResolvable(
+                            new String[]{"item." + field, field}, field);
+                    Object[] fieldArgs = {fieldName, 9999, 1000};
+
+                    assertSameMessage(expected, actual, locale, new DefaultMessageSourceResolvable(codes, fieldArgs));
+                    assertSameMessage(expected, actual, locale, new DefaultMessageSourceResolvable(codes, null));
+                    assertSameMessage(expected, actual, locale,
+                            new DefaultMessageSourceResolvable(codes, fieldArgs, "기본 {1}"));
+                }
+            }
+        }
+    }
+
+    private static void assertSameMessage(MessageSource expected, MessageSource actual, Locale locale,
+                                          MessageSourceResolvable resolvable) {
+        assertThat(getMessage(actual, resolvable, locale))
+                .as("%s %s", locale, resolvable)
+                .isEqualTo(getMessage(expected, resolvable, locale));
+    }
+
+    private static String getMessage(MessageSource ms, MessageSourceResolvable resolvable, Locale locale) {
+        try {
+            return ms.getMessage(resolvable, locale);
+        } catch (NoSuchMessageException e) {
+            return e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+    }
+
+    private static ResourceBundleMessageSource resourceBundleMessageSource(boolean fallbackToSystemLocale) {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames(BASENAMES);
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(fallbackToSystemLocale);
+        return messageSource;
+    }
+}
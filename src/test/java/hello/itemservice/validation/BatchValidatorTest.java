@@ -0,0 +1,106 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchValidatorTest {
+
+    LocalValidatorFactoryBean beanValidator;
+    CompiledValidatorAdapter validator;
+    ForkJoinPool pool;
+    BatchValidator batchValidator;
+
+    @BeforeEach
+    void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        validator = new CompiledValidatorAdapter(beanValidator);
+        pool = new ForkJoinPool(4);
+        batchValidator = new BatchValidator(validator, new CachingMessageCodesResolver(), pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+        beanValidator.destroy();
+    }
+
+    @Test
+    void sameErrorsInInputOrder() {
+        //given 여러 작업으로 나뉘도록 충분히 많이 만든다.
+        List<ItemSaveForm> forms = new ArrayList<>();
+        for (int i = 0; i < BatchValidator.MIN_CHUNK_SIZE * 10; i++) {
+            ItemSaveForm form = new ItemSaveForm();
+            form.setItemName(i % 3 == 0 ? " " : "item" + i);
+            form.setPrice(i % 5 == 0 ? null : 1000 + i);
+            form.setQuantity(i % 7);
+            forms.add(form);
+        }
+
+        //when
+        List<Errors> results = batchValidator.validate(forms, "itemSaveForm");
+
+        //then 하나씩 검증한 결과와 같다.
+        assertThat(results).hasSize(forms.size());
+        for (int i = 0; i < forms.size(); i++) {
+            BindingResult expected = new BeanPropertyBindingResult(forms.get(i), "itemSaveForm");
+            validator.validate(forms.get(i), expected);
+            assertThat(describe(results.get(i))).as("index %d", i).isEqualTo(describe(expected));
+        }
+    }
+
+    @Test
+    void groups() {
+        //given Item의 복합 룰(@TotalPriceMin)은 SaveCheck, UpdateCheck 그룹에만 있다.
+        List<Item> items = List.of(new Item("itemA", 1000, 1), new Item("itemB", 1000, 10));
+
+        //when
+        List<Errors> defaultGroup = batchValidator.validate(items, "item");
+        List<Errors> saveCheck = batchValidator.validate(items, "item", SaveCheck.class);
+        List<Errors> updateCheck = batchValidator.validate(items, "item", UpdateCheck.class);
+
+        //then
+        assertThat(defaultGroup.get(0).hasErrors()).isFalse();
+        assertThat(saveCheck.get(0).getGlobalError().getCode()).isEqualTo("totalPriceMin");
+        assertThat(updateCheck.get(0).getGlobalError().getCode()).isEqualTo("totalPriceMin");
+        assertThat(saveCheck.get(1).hasErrors()).isFalse();
+    }
+
+    @Test
+    void nullElement() {
+        List<ItemSaveForm> forms = Arrays.asList(null, new ItemSaveForm());
+
+        List<Errors> results = batchValidator.validate(forms, "itemSaveForm");
+
+        assertThat(results.get(0).getGlobalError().getCode()).isEqualTo("required");
+        assertThat(results.get(1).getFieldErrorCount()).isEqualTo(3);
+    }
+
+    @Test
+    void empty() {
+        assertThat(batchValidator.validate(List.of(), "item")).isEmpty();
+    }
+
+    private static List<String> describe(Errors errors) {
+        List<String> result = new ArrayList<>();
+        errors.getAllErrors().forEach(error -> result.add(Arrays.toString(error.getCodes())
+                + "|" + Arrays.deepToString(error.getArguments()) + "|" + error.getDefaultMessage()));
+        return result;
+    }
+}
@@ -0,0 +1,329 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.domain.item.UpdateCheck;
+import hello.itemservice.web.validation.ItemValidator;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import org.hibernate.validator.constraints.Range;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 생성된 검증기가 Bean Validation(SpringValidatorAdapter, @TotalPriceMin은 BeanValidatorAdapter)과 같은 오류를 만드는지 비교한다.
+ */
+class CompiledValidatorAdapterTest {
+
+    private static final String[] NAMES = {null, "", " ", "itemA"};
+    private static final Integer[] PRICES = {null, 999, 1000, 1000000, 1000001};
+    private static final Integer[] QUANTITIES = {null, 0, 9999, 10000};
+
+    LocalValidatorFactoryBean beanValidator;
+    BeanValidatorAdapter beanValidatorAdapter;
+    CompiledValidatorAdapter compiledValidator;
+
+    @BeforeEach
+    void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        beanValidatorAdapter = new BeanValidatorAdapter(beanValidator);
+        compiledValidator = new CompiledValidatorAdapter(beanValidator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        beanValidator.destroy();
+    }
+
+    @Test
+    void generatedValidatorsAreRegistered() {
+        assertThat(compiledValidator.hasGeneratedValidator(ItemSaveForm.class)).isTrue();
+        assertThat(compiledValidator.hasGeneratedValidator(ItemUpdateForm.class)).isTrue();
+        assertThat(compiledValidator.hasGeneratedValidator(GroupedForm.class)).isTrue();
+        assertThat(compiledValidator.hasGeneratedValidator(Item.class)).isTrue();
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation_saveForm() {
+        for (String name : NAMES) {
+            for (Integer price : PRICES) {
+                for (Integer quantity : QUANTITIES) {
+                    ItemSaveForm form = new ItemSaveForm();
+                    form.setItemName(name);
+                    form.setPrice(price);
+                    form.setQuantity(quantity);
+                    assertSameErrors(form, "itemSaveForm");
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation_updateForm() {
+        for (String name : NAMES) {
+            for (Integer price : PRICES) {
+                ItemUpdateForm form = new ItemUpdateForm();
+                form.setId(price == null ? null : 1L);
+                form.setItemName(name);
+                form.setPrice(price);
+                assertSameErrors(form, "item");
+            }
+        }
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation_groups() {
+        for (String name : NAMES) {
+            for (Integer quantity : QUANTITIES) {
+                GroupedForm form = new GroupedForm(quantity == null ? null : 1L, name, 500, quantity);
+                assertSameErrors(form, "item");
+                assertSameErrors(form, "item", SaveCheck.class);
+                assertSameErrors(form, "item", UpdateCheck.class);
+                assertSameErrors(form, "item", SaveCheck.class, UpdateCheck.class);
+            }
+        }
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation_totalPriceMin() {
+        for (Integer price : PRICES) {
+            for (Integer quantity : QUANTITIES) {
+                Item item = new Item("itemA", price, quantity);
+                assertSameErrors(item, "item");
+                assertSameErrors(item, "item", SaveCheck.class);
+                assertSameErrors(item, "item", UpdateCheck.class);
+            }
+        }
+    }
+
+    @Test
+    void totalPriceMin() {
+        //given
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(9);
+
+        //when
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "item");
+        compiledValidator.validate(form, bindingResult);
+
+        //then 필드 제약과 같은 검증 한 번에 ObjectError로 남는다.
+        assertThat(bindingResult.getFieldErrorCount()).isZero();
+        ObjectError error = bindingResult.getGlobalError();
+        assertThat(error.getCode()).isEqualTo("totalPriceMin");
+        assertThat(error.getCodes()).containsExactly("totalPriceMin.item", "totalPriceMin");
+        assertThat(error.getArguments()).containsExactly(10000L, 9000L);
+    }
+
+    @Test
+    void totalPriceMin_noOverflow() {
+        //given int로 곱하면 넘쳐서 음수가 되는 값 (1,000,000 * 2,148 > Integer.MAX_VALUE)
+        Item item = new Item("itemA", 1000000, 2148);
+        assertThat(item.getPrice() * item.getQuantity()).isNegative();
+
+        //when
+        BindingResult compiled = new BeanPropertyBindingResult(item, "item");
+        compiledValidator.validate(item, compiled, SaveCheck.class);
+        BindingResult manual = new BeanPropertyBindingResult(item, "item");
+        new ItemValidator().validate(item, manual);
+
+        //then
+        assertThat(compiled.hasGlobalErrors()).isFalse();
+        assertThat(manual.hasGlobalErrors()).isFalse();
+    }
+
+    @Test
+    void skipFieldWithBindingFailure() {
+        //given
+        ItemSaveForm expectedForm = new ItemSaveForm();
+        ItemSaveForm actualForm = new ItemSaveForm();
+        MutablePropertyValues values = new MutablePropertyValues();
+        values.add("itemName", "itemA");
+        values.add("price", "abc");
+        values.add("quantity", "10");
+
+        //when
+        BindingResult expected = bind(expectedForm, values);
+        beanValidatorAdapter.validate(expectedForm, expected);
+        BindingResult actual = bind(actualForm, values);
+        compiledValidator.validate(actualForm, actual);
+
+        //then
+        assertThat(actual.getFieldErrors("price")).hasSize(1);
+        assertThat(actual.getFieldError("price").getCode()).isEqualTo("typeMismatch");
+        assertThat(describe(actual)).isEqualTo(describe(expected));
+    }
+
+    @Test
+    void failFast_generatedValidator() {
+        //given
+        CompiledValidatorAdapter failFastValidator = CompiledValidatorAdapter.failFast(beanValidator);
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(null);
+        form.setQuantity(10000);
+
+        //when
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        failFastValidator.validate(form, bindingResult);
+
+        //then 싼 제약(@NotNull)에서 멈춘다.
+        assertThat(bindingResult.getErrorCount()).isEqualTo(1);
+        assertThat(bindingResult.getFieldError().getField()).isEqualTo("price");
+        assertThat(bindingResult.getFieldError().getCode()).isEqualTo("NotNull");
+    }
+
+    @Test
+    void failFast_beanValidation() {
+        //given
+        CompiledValidatorAdapter failFastValidator = CompiledValidatorAdapter.failFast(beanValidator);
+        PlainForm form = new PlainForm(" ", null);
+        assertThat(failFastValidator.hasGeneratedValidator(PlainForm.class)).isFalse();
+
+        //when
+        BindingResult all = new BeanPropertyBindingResult(form, "item");
+        compiledValidator.validate(form, all);
+        BindingResult failFast = new BeanPropertyBindingResult(form, "item");
+        failFastValidator.validate(form, failFast);
+
+        //then
+        assertThat(all.getErrorCount()).isEqualTo(2);
+        assertThat(failFast.getErrorCount()).isEqualTo(1);
+    }
+
+    private void assertSameErrors(Object target, String objectName, Object... groups) {
+        BindingResult expected = new BeanPropertyBindingResult(target, objectName);
+        beanValidatorAdapter.validate(target, expected, groups);
+        BindingResult actual = new BeanPropertyBindingResult(target, objectName);
+        compiledValidator.validate(target, actual, groups);
+
+        assertThat(describe(actual))
+                .as("%s groups=%s", target, Arrays.toString(groups))
+                .isEqualTo(describe(expected));
+    }
+
+    private static BindingResult bind(Object target, MutablePropertyValues values) {
+        DataBinder binder = new DataBinder(target, "itemSaveForm");
+        binder.bind(values);
+        return binder.getBindingResult();
+    }
+
+    /**
+     * FieldError는 클래스가 다르면 equals()가 false이므로, 비교할 값만 뽑아서 비교한다. (오류 순서는 무시한다.)
+     * ObjectError는 @TotalPriceMin 하나뿐이므로 추가된 순서대로 뒤에 붙인다.
+     */
+    private static List<String> describe(BindingResult bindingResult) {
+        List<FieldError> errors = new ArrayList<>(bindingResult.getFieldErrors());
+        errors.sort(Comparator.comparing(FieldError::getField).thenComparing(FieldError::getCode));
+        List<String> result = new ArrayList<>();
+        for (FieldError error : errors) {
+            result.add(error.getObjectName() + "|" + error.getField()
+                    + "|" + Arrays.toString(error.getCodes())
+                    + "|" + Arrays.deepToString(error.getArguments())
+                    + "|" + error.getDefaultMessage()
+                    + "|" + error.getRejectedValue()
+                    + "|" + error.isBindingFailure());
+        }
+        for (ObjectError error : bindingResult.getGlobalErrors()) {
+            result.add(error.getObjectName()
+                    + "|" + Arrays.toString(error.getCodes())
+                    + "|" + Arrays.deepToString(error.getArguments())
+                    + "|" + error.getDefaultMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 생성된 검증기가 없는 폼 (Hibernate Validator로 검증한다.)
+     */
+    public static class PlainForm {
+
+        @NotBlank
+        private final String itemName;
+
+        @NotNull
+        private final Integer price;
+
+        public PlainForm(String itemName, Integer price) {
+            this.itemName = itemName;
+            this.price = price;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+    }
+
+    /**
+     * Item에 주석으로 남아 있는 groups 설정과 같은 폼
+     */
+    @GenerateValidator
+    public static class GroupedForm {
+
+        @NotNull(groups = UpdateCheck.class)
+        private final Long id;
+
+        @NotBlank(groups = {SaveCheck.class, UpdateCheck.class})
+        private final String itemName;
+
+        @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+        @Range(min = 1000, max = 1000000, groups = {SaveCheck.class, UpdateCheck.class})
+        private final Integer price;
+
+        @NotNull(groups = {SaveCheck.class, UpdateCheck.class})
+        @Max(value = 9999, groups = SaveCheck.class)
+        private final Integer quantity;
+
+        public GroupedForm(Long id, String itemName, Integer price, Integer quantity) {
+            this.id = id;
+            this.itemName = itemName;
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public String toString() {
+            return "GroupedForm(id=" + id + ", itemName=" + itemName + ", price=" + price + ", quantity=" + quantity + ")";
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package hello.itemservice.validation;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.MessageCodesResolver;
 import org.springframework.validation.DefaultMessageCodesResolver;
 import org.springframework.validation.ObjectError;
 
+import java.lang.management.ManagementFactory;
+
 public class MessageCodesResolverTest {
 
     MessageCodesResolver codesResolver = new DefaultMessageCodesResolver();
@@ -35,4 +38,90 @@ public class MessageCodesResolverTest {
                 "required.java.lang.String",
                 "required");
     }
+
+    @Test
+    void cachingMessageCodesResolver_sameCodes() {
+        CachingMessageCodesResolver cachingResolver = new CachingMessageCodesResolver();
+        String[] errorCodes = {"required", "range", "max", "typeMismatch"};
+        String[] fields = {"itemName", "price", "quantity", "id"};
+        Class<?>[] fieldTypes = {String.class, Integer.class, Long.class, null};
+
+        // 처음(저장)과 두 번째(캐시 적중) 모두 기본 구현과 같은 코드를 돌려준다.
+        for (int i = 0; i < 2; i++) {
+            for (String errorCode : errorCodes) {
+                Assertions.assertThat(cachingResolver.resolveMessageCodes(errorCode, "item"))
+                        .containsExactly(codesResolver.resolveMessageCodes(errorCode, "item"));
+                for (String field : fields) {
+                    for (Class<?> fieldType : fieldTypes) {
+                        Assertions.assertThat(cachingResolver.resolveMessageCodes(errorCode, "item", field, fieldType))
+                                .containsExactly(codesResolver.resolveMessageCodes(errorCode, "item", field, fieldType));
+                    }
+                }
+            }
+        }
+        Assertions.assertThat(cachingResolver.size()).isEqualTo(errorCodes.length * (1 + fields.length * fieldTypes.length));
+    }
+
+    @Test
+    void cachingMessageCodesResolver_hit() {
+        CachingMessageCodesResolver cachingResolver = new CachingMessageCodesResolver();
+
+        String[] first = cachingResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        String[] second = cachingResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        Assertions.assertThat(second).isSameAs(first);
+
+        // fieldType만 다르면 다른 코드
+        String[] untyped = cachingResolver.resolveMessageCodes("required", "item", "itemName", null);
+        Assertions.assertThat(untyped).isNotSameAs(first).containsExactly(
+                "required.item.itemName",
+                "required.itemName",
+                "required");
+    }
+
+    @Test
+    void cachingMessageCodesResolver_bounded() {
+        CachingMessageCodesResolver cachingResolver = new CachingMessageCodesResolver(new DefaultMessageCodesResolver(), 2);
+
+        cachingResolver.resolveMessageCodes("required", "item");
+        cachingResolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        String[] overflow = cachingResolver.resolveMessageCodes("required", "item", "price", Integer.class);
+
+        // 가득 차면 저장하지 않고 매번 새로 만든다.
+        Assertions.assertThat(cachingResolver.size()).isEqualTo(2);
+        Assertions.assertThat(cachingResolver.resolveMessageCodes("required", "item", "price", Integer.class))
+                .isNotSameAs(overflow)
+                .containsExactly(overflow);
+    }
+
+    @Test
+    void cachingMessageCodesResolver_noAllocationOnHit() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        CachingMessageCodesResolver cachingResolver = new CachingMessageCodesResolver();
+        int count = 10_000;
+        // 저장 + JIT 워밍업
+        for (int i = 0; i < count; i++) {
+            resolveAll(cachingResolver);
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            resolveAll(cachingResolver);
+        }
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // 기본 구현은 호출마다 배열과 문자열을 만든다. (수 MB) 측정 자체의 작은 할당만 허용한다.
+        Assertions.assertThat(allocated).isLessThan(1024);
+    }
+
+    private static void resolveAll(MessageCodesResolver resolver) {
+        resolver.resolveMessageCodes("required", "item");
+        resolver.resolveMessageCodes("required", "item", "itemName", String.class);
+        resolver.resolveMessageCodes("range", "item", "price", Integer.class);
+        resolver.resolveMessageCodes("max", "item", "quantity", null);
+    }
 }
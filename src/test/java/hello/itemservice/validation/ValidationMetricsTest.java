@@ -0,0 +1,123 @@
+package hello.itemservice.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.SaveCheck;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ValidationMetricsTest {
+
+    LocalValidatorFactoryBean beanValidator;
+    SimpleMeterRegistry registry;
+    MeteredValidator validator;
+    ErrorCountingMessageCodesResolver messageCodesResolver;
+
+    @BeforeEach
+    void setUp() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        registry = new SimpleMeterRegistry();
+        validator = new MeteredValidator(new CompiledValidatorAdapter(beanValidator), registry);
+        messageCodesResolver = new ErrorCountingMessageCodesResolver(new CachingMessageCodesResolver(), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        beanValidator.destroy();
+    }
+
+    @Test
+    void countErrorsByCode() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(10);
+        form.setQuantity(1);
+
+        validate(form, "item");
+
+        assertThat(errorCount("NotBlank")).isEqualTo(1);
+        assertThat(errorCount("Range")).isEqualTo(1);
+        assertThat(errorCount("totalPriceMin")).isEqualTo(1);
+        assertThat(registry.find(ErrorCountingMessageCodesResolver.METRIC_NAME).tag("code", "Max").counter()).isNull();
+    }
+
+    @Test
+    void countRejectAndTypeMismatch() {
+        BindingResult bindingResult = new BeanPropertyBindingResult(new Item(), "item");
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+
+        bindingResult.rejectValue("price", "typeMismatch");
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 100}, null);
+
+        assertThat(errorCount("typeMismatch")).isEqualTo(1);
+        assertThat(errorCount("totalPriceMin")).isEqualTo(1);
+    }
+
+    @Test
+    void limitDistinctCodes() {
+        ErrorCountingMessageCodesResolver resolver =
+                new ErrorCountingMessageCodesResolver(new CachingMessageCodesResolver(), registry, 2);
+
+        resolver.resolveMessageCodes("a", "item");
+        resolver.resolveMessageCodes("b", "item");
+        resolver.resolveMessageCodes("c", "item");
+        resolver.resolveMessageCodes("d", "item", "price", Integer.class);
+        resolver.resolveMessageCodes("a", "item");
+
+        assertThat(errorCount("a")).isEqualTo(2);
+        assertThat(errorCount("b")).isEqualTo(1);
+        assertThat(errorCount("other")).isEqualTo(2);
+        assertThat(registry.find(ErrorCountingMessageCodesResolver.METRIC_NAME).tag("code", "c").counter()).isNull();
+    }
+
+    @Test
+    void timeByTypeAndGroup() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName("itemA");
+        form.setPrice(1000);
+        form.setQuantity(10);
+        Item item = new Item("itemA", 1000, 10);
+
+        validate(form, "item");
+        validate(form, "item");
+        BindingResult bindingResult = new BeanPropertyBindingResult(item, "item");
+        validator.validate(item, bindingResult, SaveCheck.class);
+
+        assertThat(registry.get(MeteredValidator.METRIC_NAME)
+                .tag("type", "ItemSaveForm").tag("group", "Default").tag("mode", "all")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get(MeteredValidator.METRIC_NAME)
+                .tag("type", "Item").tag("group", "SaveCheck")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failFastMode() {
+        MeteredValidator failFast = new MeteredValidator(CompiledValidatorAdapter.failFast(beanValidator), registry);
+        ItemSaveForm form = new ItemSaveForm();
+
+        failFast.validate(form, new BeanPropertyBindingResult(form, "item"));
+
+        assertThat(registry.get(MeteredValidator.METRIC_NAME)
+                .tag("type", "ItemSaveForm").tag("mode", "fail-fast")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private void validate(Object target, String objectName) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, objectName);
+        bindingResult.setMessageCodesResolver(messageCodesResolver);
+        validator.validate(target, bindingResult);
+    }
+
+    private double errorCount(String code) {
+        return registry.get(ErrorCountingMessageCodesResolver.METRIC_NAME).tag("code", code).counter().count();
+    }
+}
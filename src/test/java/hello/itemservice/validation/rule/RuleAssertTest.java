@@ -0,0 +1,140 @@
+package hello.itemservice.validation.rule;
+
+import hello.itemservice.validation.BeanValidatorAdapter;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.GenerateValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * @RuleAssert: 생성된 검증기와 Bean Validation(BeanValidatorAdapter)이 같은 ObjectError를 만드는지,
+ * 규칙 묶음을 바꾸면 다음 검증부터 새 식으로 검사하는지 확인한다.
+ */
+class RuleAssertTest {
+
+    LocalValidatorFactoryBean beanValidator;
+    BeanValidatorAdapter beanValidatorAdapter;
+    CompiledValidatorAdapter compiledValidator;
+
+    @BeforeEach
+    void setUp() {
+        RuleRegistry.global().setRules(RuleSet.of(Map.of("testMaxTotal", "price * quantity <= 1000000")));
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        beanValidatorAdapter = new BeanValidatorAdapter(beanValidator);
+        compiledValidator = new CompiledValidatorAdapter(beanValidator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        beanValidator.destroy();
+        RuleRegistry.global().setRules(RuleSet.EMPTY);
+    }
+
+    @Test
+    void generatedValidatorIsRegistered() {
+        assertThat(compiledValidator.hasGeneratedValidator(RuleForm.class)).isTrue();
+    }
+
+    @Test
+    void sameErrorsAsBeanValidation() {
+        Integer[] prices = {null, 1, 1000, 100000};
+        Integer[] quantities = {null, 1, 10, 100};
+        for (Integer price : prices) {
+            for (Integer quantity : quantities) {
+                RuleForm form = new RuleForm(price, quantity);
+                assertThat(errors(compiledValidator, form)).as(form.toString())
+                        .isEqualTo(errors(beanValidatorAdapter, form));
+            }
+        }
+    }
+
+    @Test
+    void ruleErrors() {
+        //가격 * 수량 = 10 (최소 미달)
+        List<String> errors = errors(compiledValidator, new RuleForm(1, 10));
+        assertThat(errors).containsExactly("totalPriceMin [price * quantity >= 10000]");
+
+        //가격 * 수량 = 10,000,000 (규칙 파일의 최대 초과)
+        errors = errors(compiledValidator, new RuleForm(100000, 100));
+        assertThat(errors).containsExactly("totalPriceMax [price * quantity <= 1000000]");
+    }
+
+    @Test
+    void namedRuleFollowsReload() {
+        RuleForm form = new RuleForm(100000, 100);
+        assertThat(errors(compiledValidator, form)).hasSize(1);
+        assertThat(errors(beanValidatorAdapter, form)).hasSize(1);
+
+        RuleRegistry.global().setRules(RuleSet.of(Map.of("testMaxTotal", "price * quantity <= 10000000")));
+
+        assertThat(errors(compiledValidator, form)).isEmpty();
+        assertThat(errors(beanValidatorAdapter, form)).isEmpty();
+    }
+
+    @Test
+    void missingNamedRule() {
+        RuleRegistry.global().setRules(RuleSet.EMPTY);
+
+        assertThatThrownBy(() -> errors(compiledValidator, new RuleForm(1000, 10)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("testMaxTotal");
+    }
+
+    private static List<String> errors(SmartValidator validator, RuleForm form) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "ruleForm");
+        validator.validate(form, bindingResult);
+        return bindingResult.getGlobalErrors().stream()
+                .map(RuleAssertTest::describe)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static String describe(ObjectError error) {
+        return error.getCode() + " " + Arrays.toString(error.getArguments());
+    }
+
+    @GenerateValidator
+    @RuleAssert(value = "price * quantity >= 10000", code = "totalPriceMin")
+    @RuleAssert(name = "testMaxTotal", code = "totalPriceMax")
+    public static class RuleForm {
+
+        @NotNull
+        private final Integer price;
+
+        @NotNull
+        private final Integer quantity;
+
+        public RuleForm(Integer price, Integer quantity) {
+            this.price = price;
+            this.quantity = quantity;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public String toString() {
+            return "RuleForm(price=" + price + ", quantity=" + quantity + ")";
+        }
+    }
+}
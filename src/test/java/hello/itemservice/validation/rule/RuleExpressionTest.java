@@ -0,0 +1,102 @@
+package hello.itemservice.validation.rule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RuleExpressionTest {
+
+    @Test
+    void totalPrice() {
+        CompiledRule rule = RuleExpression.parse("price * quantity >= 10000").compile(Target.class);
+
+        assertThat(rule.test(new Target(1000, 10, false))).isTrue();
+        assertThat(rule.test(new Target(1000, 9, false))).isFalse();
+        assertThat(rule.getExpression().getProperties()).containsExactly("price", "quantity");
+    }
+
+    @Test
+    void nullPropertySkipsRule() {
+        CompiledRule rule = RuleExpression.parse("price * quantity >= 10000").compile(Target.class);
+
+        assertThat(rule.test(new Target(null, 1, false))).isTrue();
+    }
+
+    @Test
+    void longArithmeticDoesNotOverflowInt() {
+        CompiledRule rule = RuleExpression.parse("price * quantity > 0").compile(Target.class);
+
+        assertThat(rule.test(new Target(Integer.MAX_VALUE, 2, false))).isTrue();
+    }
+
+    @Test
+    void precedence() {
+        assertThat(test("1 + 2 * 3 == 7")).isTrue();
+        assertThat(test("(1 + 2) * 3 == 9")).isTrue();
+        assertThat(test("-price + 10 == 9")).isTrue();
+        assertThat(test("price > 5 || quantity > 1 && !special")).isTrue(); // quantity > 1 && !special 먼저
+        assertThat(test("(price > 5 || quantity > 1) && special")).isFalse();
+        assertThat(test("special == false && price != 2")).isTrue();
+        assertThat(test("10_000 >= 9999")).isTrue();
+    }
+
+    @Test
+    void syntaxErrors() {
+        assertThatThrownBy(() -> RuleExpression.parse("price >")).isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> RuleExpression.parse("(price > 1")).isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> RuleExpression.parse("price = 1")).isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> RuleExpression.parse(" ")).isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> RuleExpression.parse("99999999999999999999 > 1")).isInstanceOf(RuleSyntaxException.class);
+    }
+
+    @Test
+    void typeErrors() {
+        assertThatThrownBy(() -> compile("price + 1"))
+                .isInstanceOf(RuleSyntaxException.class).hasMessageContaining("boolean");
+        assertThatThrownBy(() -> compile("unknown > 1"))
+                .isInstanceOf(RuleSyntaxException.class).hasMessageContaining("unknown");
+        assertThatThrownBy(() -> compile("price && special"))
+                .isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> compile("special == 1"))
+                .isInstanceOf(RuleSyntaxException.class);
+        assertThatThrownBy(() -> compile("name == 1"))
+                .isInstanceOf(RuleSyntaxException.class).hasMessageContaining("name");
+    }
+
+    private static boolean test(String source) {
+        return compile(source).test(new Target(1, 2, false));
+    }
+
+    private static CompiledRule compile(String source) {
+        return RuleExpression.parse(source).compile(Target.class);
+    }
+
+    public static class Target {
+
+        private final Integer price;
+        private final int quantity;
+        private final boolean special;
+
+        public Target(Integer price, int quantity, boolean special) {
+            this.price = price;
+            this.quantity = quantity;
+            this.special = special;
+        }
+
+        public Integer getPrice() {
+            return price;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public boolean isSpecial() {
+            return special;
+        }
+
+        public String getName() {
+            return "target";
+        }
+    }
+}
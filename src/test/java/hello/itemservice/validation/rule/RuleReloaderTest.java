@@ -0,0 +1,87 @@
+package hello.itemservice.validation.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RuleReloaderTest {
+
+    @TempDir
+    Path directory;
+
+    RuleRegistry registry = new RuleRegistry();
+
+    @Test
+    void loadAndReload() throws IOException {
+        //given
+        Path file = directory.resolve("rules.properties");
+        write(file, "minTotal=price * quantity >= 10000\n", 1);
+
+        try (RuleReloader reloader = new RuleReloader(registry, new FileSystemResource(file), 0)) {
+            RuleHandle handle = registry.handle("", "minTotal");
+            assertThat(handle.getSource()).isEqualTo("price * quantity >= 10000");
+
+            //바뀌지 않았으면 그대로
+            assertThat(reloader.reload()).isFalse();
+
+            //when
+            write(file, "# 최소 금액 변경\nminTotal=price * quantity >= 20000\n", 2);
+
+            //then
+            assertThat(reloader.reload()).isTrue();
+            assertThat(handle.getSource()).isEqualTo("price * quantity >= 20000");
+        }
+    }
+
+    @Test
+    void invalidReloadKeepsPreviousRules() throws IOException {
+        Path file = directory.resolve("rules.properties");
+        write(file, "minTotal=price * quantity >= 10000\nmaxTotal=price * quantity <= 1000000\n", 1);
+
+        try (RuleReloader reloader = new RuleReloader(registry, new FileSystemResource(file), 0)) {
+            RuleSet before = registry.getRules();
+
+            //식 하나가 잘못되면 전부 바꾸지 않는다.
+            write(file, "minTotal=price * quantity >= 20000\nmaxTotal=price * quantity <=\n", 2);
+
+            assertThatThrownBy(reloader::reload)
+                    .isInstanceOf(RuleSyntaxException.class)
+                    .hasMessageContaining("maxTotal");
+            assertThat(registry.getRules()).isSameAs(before);
+            assertThat(registry.getRules().get("minTotal").getSource()).isEqualTo("price * quantity >= 10000");
+        }
+    }
+
+    @Test
+    void missingFileIsEmpty() {
+        try (RuleReloader reloader = new RuleReloader(registry, new FileSystemResource(directory.resolve("none.properties")), 0)) {
+            assertThat(registry.getRules().size()).isZero();
+            assertThat(reloader.reload()).isFalse();
+        }
+    }
+
+    @Test
+    void invalidFileFailsOnStart() throws IOException {
+        Path file = directory.resolve("rules.properties");
+        write(file, "minTotal=price *\n", 1);
+
+        assertThatThrownBy(() -> new RuleReloader(registry, new FileSystemResource(file), 0))
+                .isInstanceOf(RuleSyntaxException.class);
+    }
+
+    /**
+     * 파일 시스템의 수정 시각 단위가 거칠 수 있으므로 수정 시각을 직접 정한다.
+     */
+    private static void write(Path file, String content, long seconds) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(seconds * 1000));
+    }
+}
@@ -0,0 +1,146 @@
+package hello.itemservice.web.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyCacheTest {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    AtomicLong clock = new AtomicLong();
+    IdempotencyCache<String> cache = new IdempotencyCache<>(3, Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void storedResult() throws Exception {
+        //given
+        IdempotencyCache.Claim<String> first = cache.claim("a");
+        assertThat(first.isOwner()).isTrue();
+        first.complete("saved");
+
+        //when
+        IdempotencyCache.Claim<String> retry = cache.claim("a");
+
+        //then
+        assertThat(retry.isOwner()).isFalse();
+        assertThat(retry.await(TIMEOUT)).isEqualTo("saved");
+        assertThatThrownBy(() -> retry.complete("other")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void expireAfterTtl() {
+        cache.claim("a").complete("saved");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertThat(cache.claim("a").isOwner()).isFalse();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(cache.claim("a").isOwner()).isTrue();
+    }
+
+    @Test
+    void bounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.claim("key" + i).complete("v" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.claim("key0").isOwner()).isTrue(); // 오래된 키부터 지운다.
+        assertThat(cache.claim("key9").isOwner()).isFalse();
+    }
+
+    /**
+     * 처리 중인 항목은 한도를 넘어도 지우지 않는다. (지우면 재시도가 다시 처리를 맡는다.)
+     */
+    @Test
+    void inFlightIsNotEvicted() throws Exception {
+        //given
+        IdempotencyCache.Claim<String> inFlight = cache.claim("a");
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            cache.claim("key" + i).complete("v" + i);
+        }
+
+        //then
+        assertThat(cache.size()).isEqualTo(3);
+        IdempotencyCache.Claim<String> retry = cache.claim("a");
+        assertThat(retry.isOwner()).isFalse();
+        inFlight.complete("saved");
+        assertThat(retry.await(TIMEOUT)).isEqualTo("saved");
+        assertThat(cache.claim("key9").isOwner()).isFalse();
+    }
+
+    @Test
+    void abandon() throws Exception {
+        //given
+        IdempotencyCache.Claim<String> first = cache.claim("a");
+        IdempotencyCache.Claim<String> waiting = cache.claim("a");
+
+        //when 처리를 맡은 요청이 결과를 남기지 않았다.
+        first.abandon();
+
+        //then 기다리던 요청은 null을 받고, 다시 claim 하면 처리를 맡는다.
+        assertThat(waiting.await(TIMEOUT)).isNull();
+        assertThat(cache.claim("a").isOwner()).isTrue();
+    }
+
+    @Test
+    void awaitTimeout() throws Exception {
+        //given 처리를 맡은 요청이 아직 끝나지 않았다.
+        IdempotencyCache.Claim<String> first = cache.claim("a");
+        IdempotencyCache.Claim<String> waiting = cache.claim("a");
+
+        //when
+        assertThatThrownBy(() -> waiting.await(Duration.ofMillis(10))).isInstanceOf(TimeoutException.class);
+
+        //then 기다리다 포기해도 항목은 남고, 처음 요청이 끝나면 결과를 받는다.
+        first.complete("saved");
+        assertThat(cache.claim("a").await(TIMEOUT)).isEqualTo("saved");
+    }
+
+    @Test
+    void concurrentDuplicatesAreCollapsed() throws Exception {
+        IdempotencyCache<String> cache = new IdempotencyCache<>(100, Duration.ofMinutes(1));
+        int threads = 16;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    IdempotencyCache.Claim<String> claim = cache.claim("same-key");
+                    if (!claim.isOwner()) {
+                        return claim.await(TIMEOUT);
+                    }
+                    Thread.sleep(50); // 처리 중에 나머지 요청이 도착한다.
+                    String result = "item" + executions.incrementAndGet();
+                    claim.complete(result);
+                    return result;
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("item1");
+            }
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
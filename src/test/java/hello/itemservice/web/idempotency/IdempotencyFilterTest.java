@@ -0,0 +1,227 @@
+package hello.itemservice.web.idempotency;
+
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Idempotency-Key 재시도 (/validation/v4/items/add, /validation/api/items/add)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void retryDoesNotSaveAgain() throws Exception {
+        //given
+        String key = UUID.randomUUID().toString();
+        MockHttpSession session = new MockHttpSession();
+        int before = itemRepository.findAll().size();
+
+        //when
+        MvcResult first = mockMvc.perform(post("/validation/v4/items/add")
+                        .session(session)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemA")
+                        .param("price", "10000")
+                        .param("quantity", "10"))
+                .andExpect(status().is3xxRedirection())
+                .andReturn();
+        MvcResult retry = mockMvc.perform(post("/validation/v4/items/add")
+                        .session(session)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemA")
+                        .param("price", "10000")
+                        .param("quantity", "10"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        //then
+        assertThat(retry.getResponse().getRedirectedUrl()).isEqualTo(first.getResponse().getRedirectedUrl());
+        assertThat(itemRepository.findAll()).hasSize(before + 1);
+    }
+
+    @Test
+    void retryReturnsValidationErrors() throws Exception {
+        String key = UUID.randomUUID().toString();
+        MockHttpSession session = new MockHttpSession();
+        String body = "{\"itemName\":\" \", \"price\":1000, \"quantity\":10}";
+
+        String first = mockMvc.perform(post("/validation/api/items/add")
+                        .session(session)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].field").value("itemName"))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/validation/api/items/add")
+                        .session(session)
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(content().json(first));
+    }
+
+    /**
+     * 세션도 로그인도 없으면 주소로만 구분되므로(같은 NAT/프록시 뒤의 다른 클라이언트일 수 있다)
+     * 다시 처리하지도, 처음 응답을 돌려주지도 않는다.
+     */
+    @Test
+    void addressOnlyRetryIsNotReplayed() throws Exception {
+        //given
+        String key = UUID.randomUUID().toString();
+        int before = itemRepository.findAll().size();
+        mockMvc.perform(post("/validation/v4/items/add")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemA")
+                        .param("price", "10000")
+                        .param("quantity", "10"))
+                .andExpect(status().is3xxRedirection());
+
+        //when
+        MvcResult retry = mockMvc.perform(post("/validation/v4/items/add")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemA")
+                        .param("price", "10000")
+                        .param("quantity", "10"))
+                .andExpect(status().isConflict())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn();
+
+        //then
+        assertThat(retry.getResponse().getRedirectedUrl()).isNull();
+        assertThat(itemRepository.findAll()).hasSize(before + 1);
+    }
+
+    @Test
+    void sameKeyFromOtherSessionIsNotShared() throws Exception {
+        //given
+        String key = UUID.randomUUID().toString();
+        int before = itemRepository.findAll().size();
+
+        //when 다른 사용자(세션)가 같은 키를 보낸다.
+        mockMvc.perform(post("/validation/v4/items/add")
+                        .session(new MockHttpSession())
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemA")
+                        .param("price", "10000")
+                        .param("quantity", "10"))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/validation/v4/items/add")
+                        .session(new MockHttpSession())
+                        .header(IdempotencyFilter.HEADER, key)
+                        .param("itemName", "itemB")
+                        .param("price", "20000")
+                        .param("quantity", "20"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        //then
+        assertThat(itemRepository.findAll()).hasSize(before + 2);
+    }
+
+    /**
+     * 처음 요청이 waitTimeout 안에 끝나지 않으면 기다리던 요청은 409를 받고, 처리되지 않는다.
+     */
+    @Test
+    void conflictWhileFirstRequestIsSlow() throws Exception {
+        //given
+        IdempotencyFilter filter = new IdempotencyFilter(
+                new IdempotencyCache<>(10, Duration.ofMinutes(1)), 1024, Duration.ofMillis(50));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        FilterChain slowChain = (request, response) -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ((HttpServletResponse) response).setStatus(HttpServletResponse.SC_CREATED);
+        };
+        MockHttpSession session = new MockHttpSession();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> first = executor.submit(() -> {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                filter.doFilter(keyedRequest("slow", session), response, slowChain);
+                return response;
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            //when
+            MockHttpServletResponse waiting = new MockHttpServletResponse();
+            filter.doFilter(keyedRequest("slow", session), waiting, slowChain);
+
+            //then
+            assertThat(waiting.getStatus()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(HttpServletResponse.SC_CREATED);
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void withoutKey() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"hello\", \"price\":1000, \"quantity\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void invalidKey() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .header(IdempotencyFilter.HEADER, "a".repeat(IdempotencyFilter.MAX_KEY_LENGTH + 1))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"hello\", \"price\":1000, \"quantity\":10}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static MockHttpServletRequest keyedRequest(String key, MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/validation/api/items/add");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setSession(session);
+        return request;
+    }
+}
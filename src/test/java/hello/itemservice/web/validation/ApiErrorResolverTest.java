@@ -0,0 +1,103 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.message.PrecompiledMessageSource;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApiErrorResolverTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ApiErrorResolver apiErrorResolver = new ApiErrorResolver(
+            new PrecompiledMessageSource(new String[]{"messages", "errors"}, StandardCharsets.UTF_8, false));
+    LocalValidatorFactoryBean validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        LocaleContextHolder.setLocale(Locale.KOREA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+        validator.destroy();
+    }
+
+    @Test
+    void resolve() throws Exception {
+        //given
+        BindingResult bindingResult = invalidForm();
+
+        //when
+        List<ApiError> errors = apiErrorResolver.resolve(bindingResult.getAllErrors());
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(errors));
+
+        //then
+        assertThat(json.size()).isEqualTo(4);
+        JsonNode price = find(json, "price");
+        assertThat(price.get("code").asText()).isEqualTo("Range");
+        assertThat(price.get("message").asText()).isEqualTo("price, 1,000 ~ 1,000,000 허용");
+        assertThat(price.get("rejectedValue").asInt()).isEqualTo(0);
+        assertThat(price.size()).isEqualTo(4); // field, code, message, rejectedValue
+
+        JsonNode global = find(json, null);
+        assertThat(global.get("code").asText()).isEqualTo("totalPriceMin");
+        assertThat(global.get("message").asText()).isEqualTo("전체 가격은 10,000원 이상이어야 합니다. 현재 값 = 0");
+        assertThat(global.has("field")).isFalse();
+        assertThat(global.has("rejectedValue")).isFalse();
+    }
+
+    @Test
+    void smallerThanObjectErrors() throws Exception {
+        //given
+        BindingResult bindingResult = invalidForm();
+
+        //when
+        byte[] raw = objectMapper.writeValueAsBytes(bindingResult.getAllErrors());
+        byte[] compact = objectMapper.writeValueAsBytes(apiErrorResolver.resolve(bindingResult.getAllErrors()));
+
+        //then codes, arguments, objectName 등이 빠진다.
+        assertThat(compact.length * 3).isLessThan(raw.length);
+        JsonNode json = objectMapper.readTree(compact);
+        for (JsonNode error : json) {
+            assertThat(error.has("codes")).isFalse();
+            assertThat(error.has("arguments")).isFalse();
+            assertThat(error.has("objectName")).isFalse();
+        }
+    }
+
+    private BindingResult invalidForm() {
+        ItemSaveForm form = new ItemSaveForm();
+        form.setItemName(" ");
+        form.setPrice(0);
+        form.setQuantity(10000);
+        BindingResult bindingResult = new BeanPropertyBindingResult(form, "itemSaveForm");
+        validator.validate(form, bindingResult);
+        bindingResult.reject("totalPriceMin", new Object[]{10000, 0}, null);
+        return bindingResult;
+    }
+
+    private static JsonNode find(JsonNode errors, String field) {
+        for (JsonNode error : errors) {
+            if (field == null ? !error.has("field") : field.equals(error.path("field").asText())) {
+                return error;
+            }
+        }
+        throw new AssertionError("오류가 없습니다. field=" + field);
+    }
+}
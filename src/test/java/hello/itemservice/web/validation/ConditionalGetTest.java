@@ -0,0 +1,88 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품 목록/상세의 조건부 GET (ETag, If-None-Match)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalGetTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void itemNotModified() throws Exception {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v4/items/" + item.getId();
+
+        String etag = etag(url);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // 다른 상품이 바뀌어도 이 상품의 ETag는 그대로다.
+        itemRepository.save(new Item("itemB", 20000, 20));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 상품을 수정하면 version이 올라가 다시 그린다.
+        itemRepository.update(item.getId(), new Item("itemC", 30000, 30));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void listNotModified() throws Exception {
+        String url = "/validation/v4/items";
+
+        String etag = etag(url);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        itemRepository.save(new Item("itemA", 10000, 10));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void etagDependsOnLocale() throws Exception {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        String url = "/validation/v4/items/" + item.getId();
+
+        String ko = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "ko"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String en = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "en"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(ko).isNotEqualTo(en);
+        mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_LANGUAGE, "en").header(HttpHeaders.IF_NONE_MATCH, ko))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        return etag;
+    }
+}
@@ -0,0 +1,81 @@
+package hello.itemservice.web.validation;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * @FailFast API (/validation/api/items/add)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class FailFastApiTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void success() throws Exception {
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\"hello\", \"price\":1000, \"quantity\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemName").value("hello"));
+    }
+
+    @Test
+    void onlyFirstError() throws Exception {
+        // itemName, price, quantity 모두 오류지만 싼 제약(@NotNull) 하나만 돌려준다.
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"itemName\":\" \", \"quantity\":10000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].field").value("price"))
+                .andExpect(jsonPath("$[0].code").value("NotNull"));
+    }
+
+    @Test
+    void tooLargeBody() throws Exception {
+        String body = "{\"itemName\":\"" + "a".repeat(8 * 1024) + "\", \"price\":1000, \"quantity\":10}";
+        mockMvc.perform(post("/validation/api/items/add")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+    }
+
+    @Test
+    void malformedBody() throws Exception {
+        for (String body : new String[]{"[1, 2, 3]", "{\"itemName\":\"a\"", "{\"itemName\":\"a\"}}", "hello"}) {
+            mockMvc.perform(post("/validation/api/items/add")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void jsonShape() {
+        assertThat(JsonShape.isWellFormed(bytes(" {\"a\":\"}{][\", \"b\":[{}]}\n"), false, 8)).isTrue();
+        assertThat(JsonShape.isWellFormed(bytes("[{\"a\":\"\\\"]\"}]"), true, 8)).isTrue();
+
+        assertThat(JsonShape.isWellFormed(bytes("[]"), false, 8)).isFalse();
+        assertThat(JsonShape.isWellFormed(bytes("{\"a\":[}"), false, 8)).isFalse();
+        assertThat(JsonShape.isWellFormed(bytes("{} {}"), false, 8)).isFalse();
+        assertThat(JsonShape.isWellFormed(bytes("{\"a\":\"}"), false, 8)).isFalse();
+        assertThat(JsonShape.isWellFormed(bytes("{\"a\":{\"b\":{}}}"), false, 2)).isFalse();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,228 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.web.validation.form.ItemSaveForm;
+import hello.itemservice.web.validation.form.ItemSaveFormBinder;
+import hello.itemservice.web.validation.form.ItemUpdateForm;
+import hello.itemservice.web.validation.form.ItemUpdateFormBinder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.InitBinder;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.support.ConfigurableWebBindingInitializer;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletModelAttributeMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.ServletRequestDataBinderFactory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * FormArgumentResolver와 기본 @ModelAttribute 처리(WebDataBinder)의 결과가 같은지 비교한다.
+ */
+class FormArgumentResolverTest {
+
+    LocalValidatorFactoryBean validatorFactory = newValidatorFactory();
+    CompiledValidatorAdapter validator = new CompiledValidatorAdapter(validatorFactory);
+    MessageCodesResolver messageCodesResolver = new CachingMessageCodesResolver();
+
+    FormArgumentResolver resolver = new FormArgumentResolver(
+            List.of(new ItemSaveFormBinder(), new ItemUpdateFormBinder()),
+            validator, messageCodesResolver, Collections.emptyList());
+    ServletModelAttributeMethodProcessor processor = new ServletModelAttributeMethodProcessor(false);
+    ServletRequestDataBinderFactory binderFactory = newBinderFactory();
+
+    @AfterEach
+    void afterEach() {
+        validatorFactory.destroy();
+    }
+
+    @Test
+    void validForm() throws Exception {
+        MockHttpServletRequest request = request("itemName", "itemA", "price", "10000", "quantity", "10");
+
+        Result fast = resolveFast(parameter("save"), request);
+        Result standard = resolveStandard(parameter("save"), request);
+
+        assertThat(fast.form).isEqualTo(standard.form);
+        assertThat(fast.bindingResult.hasErrors()).isFalse();
+        assertThat(((LazyBindingResult) fast.bindingResult).isAllocated()).isFalse();
+    }
+
+    @Test
+    void typeMismatch() throws Exception {
+        MockHttpServletRequest request = request("itemName", "", "price", "abc", "quantity", " ");
+
+        Result fast = resolveFast(parameter("save"), request);
+        Result standard = resolveStandard(parameter("save"), request);
+
+        assertThat(fast.form).isEqualTo(standard.form);
+        assertThat(errors(fast.bindingResult)).isEqualTo(errors(standard.bindingResult));
+        assertThat(fast.bindingResult.getFieldError("price").getCodes())
+                .containsExactly("typeMismatch.item.price", "typeMismatch.price", "typeMismatch.java.lang.Integer", "typeMismatch");
+        assertThat(fast.bindingResult.getFieldValue("price")).isEqualTo("abc"); // 다시 그릴 때 입력한 값을 보여준다.
+    }
+
+    @Test
+    void updateForm() throws Exception {
+        MockHttpServletRequest request = request("id", "1", "itemName", "itemA", "price", "1000",
+                "quantity", "", "version", "x");
+        request.addParameter("itemName", "itemB"); // 값이 여러 개
+
+        Result fast = resolveFast(parameter("update"), request);
+        Result standard = resolveStandard(parameter("update"), request);
+
+        assertThat(fast.form).isEqualTo(standard.form);
+        assertThat(errors(fast.bindingResult)).isEqualTo(errors(standard.bindingResult));
+        assertThat(fast.bindingResult.getFieldError("version").getCode()).isEqualTo("typeMismatch");
+    }
+
+    /**
+     * 폼에 필드를 추가하고 바인더에 빠뜨리면 실패한다.
+     */
+    @Test
+    void bindsEveryProperty() throws Exception {
+        for (String method : new String[]{"save", "update"}) {
+            MethodParameter parameter = parameter(method);
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(
+                    parameter.getParameterType().getDeclaredConstructor().newInstance());
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+            for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+                if (wrapper.isWritableProperty(property.getName())) {
+                    request.addParameter(property.getName(), "1234");
+                }
+            }
+
+            assertThat(resolveFast(parameter, request).form).isEqualTo(resolveStandard(parameter, request).form);
+        }
+    }
+
+    @Test
+    void bindExceptionWithoutBindingResult() throws Exception {
+        MockHttpServletRequest request = request("itemName", "itemA", "price", "abc", "quantity", "10");
+
+        assertThatThrownBy(() -> resolveFast(parameter("saveWithoutBindingResult"), request))
+                .isInstanceOf(BindException.class);
+    }
+
+    @Test
+    void initBinderUsesDefaultBinder() throws Exception {
+        assertThat(resolver.supportsParameter(parameter("save"))).isTrue();
+        assertThat(resolver.supportsParameter(new MethodParameter(
+                InitBinderHandlers.class.getMethod("save", ItemSaveForm.class, BindingResult.class), 0))).isFalse();
+    }
+
+    private Result resolveFast(MethodParameter parameter, MockHttpServletRequest request) throws Exception {
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        Object form = resolver.resolveArgument(parameter, mavContainer,
+                new ServletWebRequest(request, new MockHttpServletResponse()), binderFactory);
+        return new Result(form, (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "item"));
+    }
+
+    private Result resolveStandard(MethodParameter parameter, MockHttpServletRequest request) throws Exception {
+        ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+        Object form = processor.resolveArgument(parameter, mavContainer,
+                new ServletWebRequest(request, new MockHttpServletResponse()), binderFactory);
+        return new Result(form, (BindingResult) mavContainer.getModel().get(BindingResult.MODEL_KEY_PREFIX + "item"));
+    }
+
+    /**
+     * 기본 메시지는 예외 메시지가 달라 비교하지 않는다. (오류 화면은 메시지 코드로 찾는다.)
+     */
+    private static List<String> errors(BindingResult bindingResult) {
+        List<String> result = new ArrayList<>();
+        for (ObjectError error : bindingResult.getAllErrors()) {
+            String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+            Object rejectedValue = error instanceof FieldError ? ((FieldError) error).getRejectedValue() : null;
+            boolean bindingFailure = error instanceof FieldError && ((FieldError) error).isBindingFailure();
+            result.add(field + " " + Arrays.toString(error.getCodes()) + " " + Arrays.toString(error.getArguments())
+                    + " " + rejectedValue + " " + bindingFailure);
+        }
+        return result;
+    }
+
+    private static MockHttpServletRequest request(String... parameters) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        for (int i = 0; i < parameters.length; i += 2) {
+            request.addParameter(parameters[i], parameters[i + 1]);
+        }
+        return request;
+    }
+
+    private static MethodParameter parameter(String method) {
+        for (java.lang.reflect.Method candidate : Handlers.class.getMethods()) {
+            if (candidate.getName().equals(method)) {
+                return new MethodParameter(candidate, 0);
+            }
+        }
+        throw new IllegalArgumentException(method);
+    }
+
+    private ServletRequestDataBinderFactory newBinderFactory() {
+        ConfigurableWebBindingInitializer initializer = new ConfigurableWebBindingInitializer();
+        initializer.setConversionService(new DefaultFormattingConversionService());
+        initializer.setValidator(validator);
+        initializer.setMessageCodesResolver(messageCodesResolver);
+        return new ServletRequestDataBinderFactory(null, initializer);
+    }
+
+    private static LocalValidatorFactoryBean newValidatorFactory() {
+        LocalValidatorFactoryBean validatorFactory = new LocalValidatorFactoryBean();
+        validatorFactory.afterPropertiesSet();
+        return validatorFactory;
+    }
+
+    private static final class Result {
+
+        final Object form;
+        final BindingResult bindingResult;
+
+        Result(Object form, BindingResult bindingResult) {
+            this.form = form;
+            this.bindingResult = bindingResult;
+        }
+    }
+
+    static class Handlers {
+
+        public void save(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult) {
+        }
+
+        public void update(@Validated @ModelAttribute("item") ItemUpdateForm form, BindingResult bindingResult) {
+        }
+
+        public void saveWithoutBindingResult(@Validated @ModelAttribute("item") ItemSaveForm form) {
+        }
+    }
+
+    static class InitBinderHandlers {
+
+        @InitBinder
+        public void init(WebDataBinder binder) {
+        }
+
+        public void save(@Validated @ModelAttribute("item") ItemSaveForm form, BindingResult bindingResult) {
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 일괄 등록 API (/validation/api/items/batch)
+ */
+@SpringBootTest(properties = {
+        "validation.api.batch.max-size=3",
+        "validation.api.batch.max-body-size=1024"
+})
+@AutoConfigureMockMvc
+class ItemBatchApiTest {
+
+    private static final String VALID = "{\"itemName\":\"itemA\", \"price\":10000, \"quantity\":10}";
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void savesValidItemsAndReportsErrorsByIndex() throws Exception {
+        String body = "[" + VALID + ", {\"itemName\":\"itemB\", \"quantity\":10}, "
+                + "{\"itemName\":\"itemC\", \"price\":20000, \"quantity\":20}]";
+
+        String response = mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.savedIds.length()").value(2))
+                .andExpect(jsonPath("$.errors.length()").value(1))
+                .andExpect(jsonPath("$.errors['1'][*].field", hasItem("price")))
+                .andExpect(jsonPath("$.errors['1'][*].code", hasItem("NotNull")))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode savedIds = objectMapper.readTree(response).get("savedIds");
+        assertThat(itemRepository.findById(savedIds.get(0).asLong()).getItemName()).isEqualTo("itemA");
+        assertThat(itemRepository.findById(savedIds.get(1).asLong()).getItemName()).isEqualTo("itemC");
+    }
+
+    /**
+     * 일괄 등록은 본문 크기만 제한하고(@MaxBodySize), 검증은 첫 번째 오류에서 멈추지 않는다. (@FailFast 아님)
+     */
+    @Test
+    void reportsEveryErrorOfAnElement() throws Exception {
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"itemName\":\" \", \"price\":10, \"quantity\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.savedIds.length()").value(0))
+                .andExpect(jsonPath("$.errors['0'][*].field", hasItem("itemName")))
+                .andExpect(jsonPath("$.errors['0'][*].field", hasItem("price")))
+                .andExpect(jsonPath("$.errors['0'][*].code", hasItem("totalPriceMin")));
+    }
+
+    @Test
+    void tooManyItems() throws Exception {
+        String body = "[" + String.join(",", VALID, VALID, VALID, VALID) + "]";
+        long before = itemRepository.getModificationCount();
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+        assertThat(itemRepository.getModificationCount()).isEqualTo(before);
+    }
+
+    /**
+     * 본문 크기는 바인딩(Jackson) 전에 확인한다.
+     */
+    @Test
+    void tooLargeBody() throws Exception {
+        String body = "[{\"itemName\":\"" + "a".repeat(2048) + "\", \"price\":10000, \"quantity\":10}]";
+        long before = itemRepository.getModificationCount();
+
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge());
+        assertThat(itemRepository.getModificationCount()).isEqualTo(before);
+    }
+
+    @Test
+    void malformedBody() throws Exception {
+        mockMvc.perform(post("/validation/api/items/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + VALID))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,78 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품 수정(V4)의 버전 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ItemEditVersionTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ItemRepository itemRepository;
+
+    @Test
+    void edit() throws Exception {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+
+        mockMvc.perform(edit(item).param("version", String.valueOf(item.getVersion())))
+                .andExpect(status().is3xxRedirection());
+
+        Item updated = itemRepository.findById(item.getId());
+        assertThat(updated.getItemName()).isEqualTo("itemB");
+        assertThat(updated.getVersion()).isEqualTo(item.getVersion() + 1);
+    }
+
+    @Test
+    void staleVersion() throws Exception {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+        itemRepository.update(item.getId(), new Item("other", 20000, 20)); // 다른 사용자가 먼저 수정
+
+        mockMvc.perform(edit(item).param("version", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("validation/v4/editForm"))
+                .andExpect(model().attributeHasErrors("item"));
+
+        assertThat(itemRepository.findById(item.getId()).getItemName()).isEqualTo("other");
+    }
+
+    /**
+     * hidden 필드(version)를 빼고 보내도 버전 확인을 건너뛰고 덮어쓰지 않는다.
+     */
+    @Test
+    void missingVersion() throws Exception {
+        Item item = itemRepository.save(new Item("itemA", 10000, 10));
+
+        mockMvc.perform(edit(item))
+                .andExpect(status().isOk())
+                .andExpect(view().name("validation/v4/editForm"))
+                .andExpect(model().attributeHasErrors("item"));
+
+        Item unchanged = itemRepository.findById(item.getId());
+        assertThat(unchanged.getItemName()).isEqualTo("itemA");
+        assertThat(unchanged.getVersion()).isEqualTo(item.getVersion());
+    }
+
+    private static MockHttpServletRequestBuilder edit(Item item) {
+        return post("/validation/v4/items/{itemId}/edit", item.getId())
+                .param("id", String.valueOf(item.getId()))
+                .param("itemName", "itemB")
+                .param("price", "20000")
+                .param("quantity", "20");
+    }
+}
@@ -0,0 +1,282 @@
+package hello.itemservice.web.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemRepository;
+import hello.itemservice.message.PrecompiledMessageSource;
+import hello.itemservice.validation.CachingMessageCodesResolver;
+import hello.itemservice.validation.CompiledValidatorAdapter;
+import hello.itemservice.validation.ErrorCountingMessageCodesResolver;
+import hello.itemservice.validation.MeteredValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemStreamImporterTest {
+
+    LocalValidatorFactoryBean validatorFactory;
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = new LocalValidatorFactoryBean();
+        validatorFactory.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void close() {
+        validatorFactory.destroy();
+    }
+
+    @Test
+    void importItems() throws Exception {
+        //given
+        ItemRepository itemRepository = new ItemRepository();
+        ItemStreamImporter importer = importer(itemRepository, validatorFactory, registry, objectMapper);
+        String input = "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}\n"
+                + "\n"
+                + "{\"itemName\":\"\",\"price\":10,\"quantity\":1}\n"
+                + "{\"itemName\":\"itemB\",\"price\":\"abc\",\"quantity\":1}\n"
+                + "{\"itemName\":\"itemB\"\n"
+                + "{\"itemName\":\"itemC\",\"price\":20000,\"quantity\":20}"; // 마지막 줄은 개행 없이 끝난다.
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long lines = importer.importItems(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+
+        //then
+        assertThat(lines).isEqualTo(6);
+        String[] results = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(results).hasSize(5);
+
+        JsonNode first = objectMapper.readTree(results[0]);
+        assertThat(first.get("line").asLong()).isEqualTo(1);
+        assertThat(itemRepository.findById(first.get("id").asLong()).getItemName()).isEqualTo("itemA");
+
+        JsonNode invalid = objectMapper.readTree(results[1]);
+        assertThat(invalid.get("line").asLong()).isEqualTo(3);
+        assertThat(invalid.has("id")).isFalse();
+        assertThat(invalid.get("errors").size()).isGreaterThanOrEqualTo(3); // itemName, price, totalPriceMin
+
+        // 폼/API와 같은 typeMismatch 필드 오류 (errors.properties의 메시지)
+        JsonNode typeMismatch = objectMapper.readTree(results[2]);
+        assertThat(typeMismatch.get("line").asLong()).isEqualTo(4);
+        JsonNode priceError = typeMismatch.get("errors").get(0);
+        assertThat(priceError.get("field").asText()).isEqualTo("price");
+        assertThat(priceError.get("code").asText()).isEqualTo("typeMismatch");
+        assertThat(priceError.get("message").asText()).isEqualTo("숫자를 입력해주세요.");
+        assertThat(priceError.get("rejectedValue").asText()).isEqualTo("abc");
+
+        JsonNode malformed = objectMapper.readTree(results[3]);
+        assertThat(malformed.get("line").asLong()).isEqualTo(5);
+        assertThat(malformed.get("errors").get(0).get("code").asText()).isEqualTo("malformed");
+
+        JsonNode last = objectMapper.readTree(results[4]);
+        assertThat(last.get("line").asLong()).isEqualTo(6);
+        assertThat(last.has("id")).isTrue();
+
+        // /add, /batch 와 같은 검증기와 메시지 코드를 쓴다. (검증 시간, 오류 코드 별 오류 수 지표)
+        assertThat(registry.find("validation").timer().count()).isEqualTo(3);
+        assertThat(errorCount("NotBlank")).isEqualTo(1);
+        assertThat(errorCount("typeMismatch")).isEqualTo(1);
+    }
+
+    private double errorCount(String code) {
+        Counter counter = registry.find(ErrorCountingMessageCodesResolver.METRIC_NAME).tag("code", code).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    /**
+     * WebConfig와 같은 검증기(생성된 검증기 + 지표)와 메시지 코드로 만든다.
+     */
+    static ItemStreamImporter importer(ItemRepository itemRepository, LocalValidatorFactoryBean validatorFactory,
+                                       MeterRegistry registry, ObjectMapper objectMapper) {
+        return new ItemStreamImporter(itemRepository,
+                new MeteredValidator(new CompiledValidatorAdapter(validatorFactory), registry),
+                new ErrorCountingMessageCodesResolver(new CachingMessageCodesResolver(), registry),
+                objectMapper,
+                new ApiErrorResolver(new PrecompiledMessageSource(
+                        new String[]{"messages", "errors"}, StandardCharsets.UTF_8, false)));
+    }
+
+    @Test
+    void tooLongLineIsSkipped() throws Exception {
+        //given
+        ItemStreamImporter importer = importer(new CountingItemRepository(), validatorFactory, registry, objectMapper);
+        String longName = "a".repeat(ItemStreamImporter.MAX_LINE_LENGTH);
+        String input = "{\"itemName\":\"" + longName + "\",\"price\":10000,\"quantity\":10}\n"
+                + "{\"itemName\":\"itemA\",\"price\":10000,\"quantity\":10}\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        importer.importItems(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), out);
+
+        //then
+        String[] results = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(objectMapper.readTree(results[0]).get("errors").get(0).get("code").asText()).isEqualTo("tooLong");
+        assertThat(objectMapper.readTree(results[1]).get("id").isNumber()).isTrue();
+    }
+
+    /**
+     * 힙(HEAP)보다 몇 배 큰 입력을 힙을 제한한 다른 JVM에서 흘려보내며 처리한다.
+     * 입력 크기에 비례해서 메모리를 쓰면 OutOfMemoryError로 실패한다.
+     * 기본은 128MB, -Dimport.bytes=4294967296 처럼 지정하면 수 GB 입력으로 확인할 수 있다.
+     */
+    @Test
+    void largeInputUsesBoundedMemory() throws Exception {
+        //given
+        long bytes = Long.getLong("import.bytes", 128L << 20);
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(java, "-Xmx" + Importer.HEAP, "-cp", System.getProperty("java.class.path"),
+                Importer.class.getName(), String.valueOf(bytes))
+                .redirectErrorStream(true)
+                .start();
+
+        //when
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+        //then
+        assertThat(process.waitFor(5, TimeUnit.MINUTES)).isTrue();
+        assertThat(process.exitValue()).as(output).isZero();
+    }
+
+    /**
+     * 힙을 제한한 JVM에서 생성한 입력을 가져온다. (결과 줄 수, 저장 수가 맞지 않으면 종료 코드 2)
+     */
+    static class Importer {
+
+        static final String HEAP = "32m";
+
+        public static void main(String[] args) throws Exception {
+            long bytes = Long.parseLong(args[0]);
+            LocalValidatorFactoryBean validatorFactory = new LocalValidatorFactoryBean();
+            validatorFactory.afterPropertiesSet();
+            try {
+                CountingItemRepository itemRepository = new CountingItemRepository();
+                ItemStreamImporter importer = importer(itemRepository, validatorFactory,
+                        new SimpleMeterRegistry(), new ObjectMapper());
+                GeneratedInput input = new GeneratedInput(bytes);
+                LineCountingOutputStream out = new LineCountingOutputStream();
+
+                long lines = importer.importItems(input, out);
+
+                if (input.produced < bytes || out.lines != lines
+                        || itemRepository.saved != lines - lines / GeneratedInput.INVALID_EVERY) {
+                    System.exit(2);
+                }
+            } finally {
+                validatorFactory.destroy();
+            }
+        }
+    }
+
+    /**
+     * 저장된 상품을 보관하지 않고 ID만 발급한다. (저장소 크기가 메모리 측정에 섞이지 않도록)
+     */
+    static class CountingItemRepository extends ItemRepository {
+
+        long saved;
+        long sequence;
+
+        @Override
+        public List<Item> saveAll(List<Item> items) {
+            for (Item item : items) {
+                item.setId(++sequence);
+            }
+            saved += items.size();
+            return items;
+        }
+    }
+
+    /**
+     * 지정한 크기만큼 NDJSON을 생성하는 입력. INVALID_EVERY 줄마다 검증에 실패하는 줄을 넣는다.
+     */
+    static class GeneratedInput extends InputStream {
+
+        static final int INVALID_EVERY = 10;
+
+        private final long limit;
+        private long produced;
+        private long line;
+        private byte[] current = new byte[0];
+        private int position;
+
+        GeneratedInput(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            int written = 0;
+            while (written < len) {
+                if (position == current.length) {
+                    if (produced >= limit) {
+                        break;
+                    }
+                    nextLine();
+                }
+                int n = Math.min(len - written, current.length - position);
+                System.arraycopy(current, position, b, off + written, n);
+                position += n;
+                written += n;
+                produced += n;
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        private void nextLine() {
+            line++;
+            int price = line % INVALID_EVERY == 0 ? 10 : 10000 + (int) (line % 1000);
+            current = ("{\"itemName\":\"item" + line + "\",\"price\":" + price + ",\"quantity\":" + (1 + line % 9000) + "}\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            position = 0;
+        }
+    }
+
+    /**
+     * 결과 줄 수만 센다.
+     */
+    static class LineCountingOutputStream extends OutputStream {
+
+        long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package hello.itemservice.web.validation;
+
+import hello.itemservice.domain.item.Item;
+import hello.itemservice.domain.item.ItemSearchCond;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring5.view.ThymeleafViewResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 목록 화면 스트리밍 (?stream=true): 머리글을 먼저 보내고, 행은 정해진 수만큼씩 보낸다.
+ */
+@SpringBootTest
+class StreamingRowsTest {
+
+    private static final int MB = 1024 * 1024;
+
+    @Autowired
+    WebApplicationContext context;
+
+    @Autowired
+    ThymeleafViewResolver viewResolver;
+
+    @Test
+    void headerFirstThenChunks() throws Exception {
+        //given
+        int rows = StreamingRows.DEFAULT_CHUNK_SIZE * 2 + 10;
+        CountingResponse response = new CountingResponse();
+
+        //when
+        render(items(rows), response);
+
+        //then 첫 행 전, 256행, 512행 뒤에 보낸다.
+        assertThat(response.flushes).hasSize(3);
+        String header = response.head(response.flushes.get(0));
+        assertThat(header).contains("<thead>").doesNotContain("<td>");
+        assertThat(response.head(Integer.MAX_VALUE)).contains("<td>10000</td>");
+        assertThat(response.bytes).isGreaterThan(response.flushes.get(2));
+    }
+
+    @Test
+    void iterateOnlyOnce() {
+        StreamingRows<Item> rows = new StreamingRows<>(items(1), new MockHttpServletResponse());
+        rows.iterator();
+
+        assertThatThrownBy(rows::iterator).isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 100만 행을 그리는 동안 힙 사용량이 행 수에 비례해서 늘지 않아야 한다.
+     * (목록 + 완성된 화면을 버퍼에 만들면 수백 MB가 필요하다.)
+     */
+    @Test
+    void memoryStaysBoundedFor1MRows() throws Exception {
+        //given
+        int rows = 1_000_000;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long baseline = memory.getHeapMemoryUsage().getUsed();
+        long[] maxUsed = {baseline};
+
+        Stream<Item> source = items(rows).peek(item -> {
+            if (item.getId() % 100_000 == 0) {
+                System.gc();
+                maxUsed[0] = Math.max(maxUsed[0], memory.getHeapMemoryUsage().getUsed());
+            }
+        });
+        CountingResponse response = new CountingResponse();
+
+        //when
+        render(source, response);
+
+        //then
+        assertThat(response.flushes.size()).isGreaterThanOrEqualTo(rows / StreamingRows.DEFAULT_CHUNK_SIZE);
+        assertThat(response.bytes).isGreaterThan(100L * rows);
+        assertThat(maxUsed[0] - baseline).as("heap growth").isLessThan(64L * MB);
+    }
+
+    private void render(Stream<Item> items, CountingResponse response) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(context.getServletContext(), "GET", "/validation/v4/items");
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, context);
+
+        Map<String, Object> model = new HashMap<>();
+        model.put("itemSearch", new ItemSearchCond());
+        model.put("items", new StreamingRows<>(items, response));
+
+        View view = viewResolver.resolveViewName("validation/v4/items", Locale.KOREAN);
+        view.render(model, request, response);
+    }
+
+    private static Stream<Item> items(int count) {
+        return Stream.iterate(1L, id -> id + 1).limit(count).map(id -> {
+            Item item = new Item("item" + id, 10000, 10);
+            item.setId(id);
+            return item;
+        });
+    }
+
+    /**
+     * 본문은 앞부분만 남기고 버린다. flushBuffer()를 호출할 때까지 쓴 바이트 수를 기록한다.
+     */
+    static class CountingResponse extends MockHttpServletResponse {
+
+        private static final int HEAD_SIZE = 64 * 1024;
+
+        final List<Long> flushes = new ArrayList<>();
+        final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        long bytes;
+        private PrintWriter writer;
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(new OutputStream() {
+                    @Override
+                    public void write(int b) {
+                        write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) {
+                        if (bytes < HEAD_SIZE) {
+                            head.write(b, off, (int) Math.min(len, HEAD_SIZE - bytes));
+                        }
+                        bytes += len;
+                    }
+                }, StandardCharsets.UTF_8));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() {
+            if (writer != null) {
+                writer.flush();
+            }
+            flushes.add(bytes);
+        }
+
+        String head(long length) {
+            byte[] content = head.toByteArray();
+            return new String(content, 0, (int) Math.min(length, content.length), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package hello.itemservice.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * @GenerateValidator가 붙은 클래스마다 Bean Validation 제약을 그대로 옮긴 검증기(클래스명_Validator)를 생성한다.
+ * - 생성된 검증기는 META-INF/services/hello.itemservice.validation.GeneratedValidator 에 등록된다.
+ * - 필드 값을 모두 읽은 뒤 싼 제약(@NotNull)부터 비싼 제약(@NotBlank) 순서로 검사한다.
+ * - 클래스 레벨 제약은 @TotalPriceMin(PricedItem)과 @RuleAssert만 지원하고, 필드 제약 다음에 같은 검증 안에서 검사한다.
+ * - 지원하지 않는 제약(@Valid, 그 밖의 클래스 레벨 제약, getter 제약, 그 밖의 제약 애노테이션)이 있으면
+ *   경고만 남기고 생성하지 않는다. 그 클래스는 기존처럼 Hibernate Validator로 검증된다.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "hello.itemservice.validation.GenerateValidator";
+    private static final String GENERATED_VALIDATOR = "hello.itemservice.validation.GeneratedValidator";
+    private static final String CONSTRAINT_SITE = "hello.itemservice.validation.ConstraintSite";
+    private static final String CONSTRAINT_REPORTER = "hello.itemservice.validation.ConstraintReporter";
+    private static final String PRICED_ITEM = "hello.itemservice.validation.PricedItem";
+    private static final String TOTAL_PRICE_MIN_VALIDATOR = "hello.itemservice.validation.TotalPriceMinValidator";
+    private static final String RULE_HANDLE = "hello.itemservice.validation.rule.RuleHandle";
+    private static final String RULE_REGISTRY = "hello.itemservice.validation.rule.RuleRegistry";
+
+    private static final String CONSTRAINT = "javax.validation.Constraint";
+    private static final String VALID = "javax.validation.Valid";
+    private static final String GROUP_SEQUENCE = "javax.validation.GroupSequence";
+    private static final String GROUP_SEQUENCE_PROVIDER = "org.hibernate.validator.group.GroupSequenceProvider";
+
+    private static final String NOT_NULL = "javax.validation.constraints.NotNull";
+    private static final String NOT_BLANK = "javax.validation.constraints.NotBlank";
+    private static final String MIN = "javax.validation.constraints.Min";
+    private static final String MAX = "javax.validation.constraints.Max";
+    private static final String RANGE = "org.hibernate.validator.constraints.Range";
+    private static final String TOTAL_PRICE_MIN = "hello.itemservice.validation.TotalPriceMin";
+    private static final String RULE_ASSERT = "hello.itemservice.validation.rule.RuleAssert";
+    private static final String RULE_ASSERT_LIST = "hello.itemservice.validation.rule.RuleAssert.List";
+
+    // SpringValidatorAdapter가 메시지 인자에서 빼는 속성
+    private static final Set<String> INTERNAL_ATTRIBUTES = Set.of("message", "groups", "payload");
+    private static final Set<String> INTEGRAL_TYPES = Set.of(
+            "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte", "int", "long", "short", "byte");
+
+    private Elements elements;
+    private Filer filer;
+    private Messager messager;
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        TypeElement annotation = elements.getTypeElement(GENERATE_VALIDATOR);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "@GenerateValidator는 클래스에만 붙일 수 있습니다.", element);
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                List<Constraint> classConstraints = new ArrayList<>();
+                List<FieldConstraints> fields = collect(type, classConstraints);
+                generate(type, fields, classConstraints);
+            } catch (UnsupportedConstraintException e) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                        e.getMessage() + " - 검증기를 생성하지 않고 Bean Validation으로 검증합니다.", e.element);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "검증기 생성 실패: " + e.getMessage(), element);
+            }
+        }
+        return true;
+    }
+
+    // ===== 제약 수집 =====
+
+    private List<FieldConstraints> collect(TypeElement type, List<Constraint> classConstraints) {
+        List<FieldConstraints> fields = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclass(current)) {
+            collectClassLevel(current, classConstraints);
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+                    if (isConstraint(mirror) || is(mirror, VALID)) {
+                        throw new UnsupportedConstraintException("getter 제약은 지원하지 않습니다.", method);
+                    }
+                }
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                FieldConstraints constraints = collect(field);
+                if (!constraints.constraints.isEmpty()) {
+                    fields.add(constraints);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private void collectClassLevel(TypeElement type, List<Constraint> classConstraints) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (is(mirror, TOTAL_PRICE_MIN)) {
+                if (!isPricedItem(type.asType())) {
+                    throw new UnsupportedConstraintException("@TotalPriceMin은 PricedItem 구현 클래스에만 붙일 수 있습니다.", type);
+                }
+                addClassLevel(new Constraint(TOTAL_PRICE_MIN, mirror), classConstraints);
+                continue;
+            }
+            if (is(mirror, RULE_ASSERT)) {
+                addClassLevel(new Constraint(RULE_ASSERT, mirror), classConstraints);
+                continue;
+            }
+            if (is(mirror, RULE_ASSERT_LIST)) { // @RuleAssert를 여러 번 붙인 경우
+                for (AnnotationValue value : elements.getElementValuesWithDefaults(mirror).values()) {
+                    for (Object element : (List<?>) value.getValue()) {
+                        addClassLevel(new Constraint(RULE_ASSERT, (AnnotationMirror) ((AnnotationValue) element).getValue()),
+                                classConstraints);
+                    }
+                }
+                continue;
+            }
+            if (isConstraint(mirror)) {
+                throw new UnsupportedConstraintException("클래스 레벨 제약은 @TotalPriceMin, @RuleAssert만 지원합니다. " + mirror, type);
+            }
+            if (is(mirror, GROUP_SEQUENCE) || is(mirror, GROUP_SEQUENCE_PROVIDER)) {
+                throw new UnsupportedConstraintException("@GroupSequence는 지원하지 않습니다.", type);
+            }
+        }
+    }
+
+    private static void addClassLevel(Constraint constraint, List<Constraint> classConstraints) {
+        int sameCode = 0;
+        for (Constraint other : classConstraints) {
+            if (other.code.equals(constraint.code)) {
+                sameCode++;
+            }
+        }
+        constraint.constant = constantName(constraint.code) + (sameCode == 0 ? "" : "_" + sameCode);
+        classConstraints.add(constraint);
+    }
+
+    private FieldConstraints collect(VariableElement field) {
+        FieldConstraints result = new FieldConstraints(field);
+        for (AnnotationMirror mirror : constraintsOf(field)) {
+            String annotation = annotationName(mirror);
+            switch (annotation) {
+                case NOT_NULL:
+                    break;
+                case NOT_BLANK:
+                    if (!isCharSequence(field.asType())) {
+                        throw new UnsupportedConstraintException("@NotBlank는 문자열 필드만 지원합니다.", field);
+                    }
+                    break;
+                case MIN:
+                case MAX:
+                case RANGE:
+                    if (!INTEGRAL_TYPES.contains(field.asType().toString())) {
+                        throw new UnsupportedConstraintException("@Min, @Max, @Range는 정수 필드만 지원합니다.", field);
+                    }
+                    break;
+                default:
+                    throw new UnsupportedConstraintException("지원하지 않는 제약입니다. " + mirror, field);
+            }
+            result.add(new Constraint(annotation, mirror));
+        }
+        return result;
+    }
+
+    /**
+     * 필드에 붙은 제약 애노테이션. 같은 제약을 여러 번 붙인 경우(@Max.List)는 풀어서 돌려준다.
+     */
+    private List<AnnotationMirror> constraintsOf(VariableElement field) {
+        List<AnnotationMirror> result = new ArrayList<>();
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (is(mirror, VALID)) {
+                throw new UnsupportedConstraintException("@Valid(중첩 검증)는 지원하지 않습니다.", field);
+            }
+            if (isConstraint(mirror)) {
+                result.add(mirror);
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (!entry.getKey().getSimpleName().contentEquals("value") || !(entry.getValue().getValue() instanceof List)) {
+                    continue;
+                }
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    Object element = ((AnnotationValue) value).getValue();
+                    if (element instanceof AnnotationMirror && isConstraint((AnnotationMirror) element)) {
+                        result.add((AnnotationMirror) element);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private TypeElement superclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    private boolean isPricedItem(TypeMirror type) {
+        TypeElement pricedItem = elements.getTypeElement(PRICED_ITEM);
+        return pricedItem != null && processingEnv.getTypeUtils().isAssignable(type, pricedItem.asType());
+    }
+
+    private boolean isCharSequence(TypeMirror type) {
+        TypeElement charSequence = elements.getTypeElement("java.lang.CharSequence");
+        return processingEnv.getTypeUtils().isAssignable(type, charSequence.asType());
+    }
+
+    private static boolean isConstraint(AnnotationMirror mirror) {
+        for (AnnotationMirror meta : mirror.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (is(meta, CONSTRAINT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean is(AnnotationMirror mirror, String annotation) {
+        return annotationName(mirror).equals(annotation);
+    }
+
+    private static String annotationName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    // ===== 코드 생성 =====
+
+    private void generate(TypeElement type, List<FieldConstraints> fields, List<Constraint> classConstraints) throws IOException {
+        String packageName = ((PackageElement) elements.getPackageOf(type)).getQualifiedName().toString();
+        String targetName = type.getQualifiedName().toString();
+        String validatorName = type.getSimpleName() + "_Validator";
+        String qualifiedName = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n");
+        code.append("public final class ").append(validatorName)
+                .append(" implements ").append(GENERATED_VALIDATOR).append('<').append(targetName).append("> {\n\n");
+
+        for (FieldConstraints field : fields) {
+            for (Constraint constraint : field.constraints) {
+                code.append("    private static final ").append(CONSTRAINT_SITE).append(' ')
+                        .append(constraint.constant).append(" = ")
+                        .append(constraint.siteExpression(field.name)).append(";\n");
+            }
+        }
+        for (Constraint constraint : classConstraints) {
+            code.append("    private static final ").append(CONSTRAINT_SITE).append(' ')
+                    .append(constraint.constant).append(" = ")
+                    .append(constraint.siteExpression(null)).append(";\n");
+            if (constraint.annotation.equals(RULE_ASSERT)) {
+                code.append("    private static final ").append(RULE_HANDLE).append(' ')
+                        .append(constraint.constant).append("_RULE = ").append(RULE_REGISTRY).append(".global().handle(")
+                        .append(elements.getConstantExpression(constraint.ruleValue)).append(", ")
+                        .append(elements.getConstantExpression(constraint.ruleName)).append(");\n");
+            }
+        }
+
+        code.append("\n    @Override\n");
+        code.append("    public Class<").append(targetName).append("> getTargetType() {\n");
+        code.append("        return ").append(targetName).append(".class;\n");
+        code.append("    }\n\n");
+
+        code.append("    @Override\n");
+        code.append("    public void validate(").append(targetName).append(" target, Class<?>[] groups, ")
+                .append("org.springframework.validation.Errors errors, ").append(CONSTRAINT_REPORTER).append(" reporter) {\n");
+        for (FieldConstraints field : fields) {
+            code.append("        ").append(field.type).append(' ').append(field.value()).append(" = target.")
+                    .append(field.getter()).append("();\n");
+        }
+        // 싼 제약부터 검사한다. (fail-fast 모드에서는 첫 위반에서 바로 반환한다.)
+        for (int cost = Constraint.CHEAPEST; cost <= Constraint.MOST_EXPENSIVE; cost++) {
+            for (FieldConstraints field : fields) {
+                for (Constraint constraint : field.constraints) {
+                    if (constraint.cost() != cost) {
+                        continue;
+                    }
+                    code.append("        if (").append(constraint.constant).append(".isActive(groups) && ")
+                            .append(constraint.violation(field.value(), field.primitive)).append(") {\n");
+                    code.append("            if (!reporter.report(errors, ").append(constraint.constant).append(", ")
+                            .append(field.value()).append(")) {\n");
+                    code.append("                return;\n");
+                    code.append("            }\n");
+                    code.append("        }\n");
+                }
+            }
+        }
+        // 클래스 레벨 제약: 필드 제약 다음에 같은 검증 안에서 검사한다.
+        // (거부된 값: @TotalPriceMin은 가격 * 수량, @RuleAssert는 현재 식)
+        boolean hasTotalPriceMin = false;
+        for (Constraint constraint : classConstraints) {
+            hasTotalPriceMin |= constraint.annotation.equals(TOTAL_PRICE_MIN);
+        }
+        if (hasTotalPriceMin) {
+            code.append("        java.lang.Long totalPrice = ").append(TOTAL_PRICE_MIN_VALIDATOR).append(".totalPrice(target);\n");
+        }
+        for (Constraint constraint : classConstraints) {
+            boolean rule = constraint.annotation.equals(RULE_ASSERT);
+            String violation = rule ? "!" + constraint.constant + "_RULE.test(target)" : constraint.violation("totalPrice", false);
+            String rejectedValue = rule ? constraint.constant + "_RULE.getSource()" : "totalPrice";
+            code.append("        if (").append(constraint.constant).append(".isActive(groups) && ")
+                    .append(violation).append(") {\n");
+            code.append("            if (!reporter.report(errors, ").append(constraint.constant).append(", ")
+                    .append(rejectedValue).append(")) {\n");
+            code.append("                return;\n");
+            code.append("            }\n");
+            code.append("        }\n");
+        }
+        code.append("    }\n");
+        code.append("}\n");
+
+        JavaFileObject file = filer.createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(code.toString());
+        }
+        generated.add(qualifiedName);
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + GENERATED_VALIDATOR);
+            try (Writer writer = file.openWriter()) {
+                for (String name : generated) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "검증기 등록 파일 생성 실패: " + e.getMessage());
+        }
+    }
+
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replaceAll("[^A-Za-z0-9_]", "_").toUpperCase();
+    }
+
+    private final class FieldConstraints {
+
+        final String name;
+        final String type;
+        final boolean primitive;
+        final List<Constraint> constraints = new ArrayList<>();
+
+        FieldConstraints(VariableElement field) {
+            this.name = field.getSimpleName().toString();
+            this.type = field.asType().toString();
+            this.primitive = field.asType().getKind().isPrimitive();
+        }
+
+        void add(Constraint constraint) {
+            String constant = constantName(name) + "_" + constantName(constraint.code);
+            int sameCode = 0;
+            for (Constraint other : constraints) {
+                if (other.code.equals(constraint.code)) {
+                    sameCode++;
+                }
+            }
+            constraint.constant = sameCode == 0 ? constant : constant + "_" + sameCode; // 같은 제약이 여러 번 붙은 경우
+            constraints.add(constraint);
+        }
+
+        String value() {
+            return "v_" + name;
+        }
+
+        String getter() {
+            String prefix = type.equals("boolean") ? "is" : "get";
+            return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    private final class Constraint {
+
+        static final int CHEAPEST = 0;
+        static final int MOST_EXPENSIVE = 2;
+
+        final String annotation;
+        final String code;
+        final String message;
+        final Map<String, Object> attributes = new TreeMap<>(); // 이름 순서 (SpringValidatorAdapter와 같다.)
+        final List<String> groups = new ArrayList<>();
+        // @RuleAssert의 식과 규칙 이름 (오류 인자는 애노테이션 속성이 아닌 현재 식이다.)
+        String ruleValue;
+        String ruleName;
+        String constant;
+
+        Constraint(String annotation, AnnotationMirror mirror) {
+            this.annotation = annotation;
+            String code = annotation.equals(TOTAL_PRICE_MIN)
+                    ? "totalPriceMin" // TotalPriceMin.ERROR_CODE
+                    : mirror.getAnnotationType().asElement().getSimpleName().toString();
+            String message = null;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                    : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                String name = entry.getKey().getSimpleName().toString();
+                Object value = entry.getValue().getValue();
+                if (name.equals("message")) {
+                    message = (String) value;
+                } else if (name.equals("groups")) {
+                    for (Object group : (List<?>) value) {
+                        groups.add(((AnnotationValue) group).getValue().toString());
+                    }
+                } else if (annotation.equals(RULE_ASSERT)) {
+                    if (name.equals("value")) {
+                        ruleValue = (String) value;
+                    } else if (name.equals("name")) {
+                        ruleName = (String) value;
+                    } else if (name.equals("code")) {
+                        code = (String) value;
+                    }
+                } else if (!INTERNAL_ATTRIBUTES.contains(name)) {
+                    attributes.put(name, value);
+                }
+            }
+            this.code = code;
+            this.message = message;
+        }
+
+        /**
+         * @param field 필드 이름 (클래스 레벨 제약이면 null)
+         */
+        String siteExpression(String field) {
+            StringBuilder names = new StringBuilder();
+            StringBuilder values = new StringBuilder();
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                    values.append(", ");
+                }
+                names.append(elements.getConstantExpression(attribute.getKey()));
+                values.append(elements.getConstantExpression(attribute.getValue()));
+            }
+            StringBuilder expression = new StringBuilder("new ").append(CONSTRAINT_SITE).append('(')
+                    .append(field == null ? "null" : elements.getConstantExpression(field)).append(", ")
+                    .append(elements.getConstantExpression(code)).append(", ")
+                    .append(elements.getConstantExpression(message)).append(", ")
+                    .append("new String[]{").append(names).append("}, ")
+                    .append("new Object[]{").append(values).append('}');
+            for (String group : groups) {
+                expression.append(", ").append(group).append(".class");
+            }
+            return expression.append(')').toString();
+        }
+
+        /**
+         * 검사 비용 순위: null 비교 -> 숫자 비교 -> 문자열 훑기
+         */
+        int cost() {
+            switch (annotation) {
+                case NOT_NULL:
+                    return CHEAPEST;
+                case NOT_BLANK:
+                    return MOST_EXPENSIVE;
+                default:
+                    return 1;
+            }
+        }
+
+        /**
+         * 위반이면 true가 되는 식 (Hibernate Validator 구현과 같다. null은 @NotNull, @NotBlank만 위반이다.)
+         */
+        String violation(String value, boolean primitive) {
+            String number = primitive ? value : value + ".longValue()";
+            String notNull = primitive ? "" : value + " != null && ";
+            switch (annotation) {
+                case NOT_NULL:
+                    return primitive ? "false" : value + " == null";
+                case NOT_BLANK:
+                    return CONSTRAINT_SITE + ".isBlank(" + value + ")";
+                case MIN:
+                    return notNull + number + " < " + attributes.get("value") + "L";
+                case MAX:
+                    return notNull + number + " > " + attributes.get("value") + "L";
+                case RANGE:
+                    return notNull + "(" + number + " < " + attributes.get("min") + "L || "
+                            + number + " > " + attributes.get("max") + "L)";
+                case TOTAL_PRICE_MIN:
+                    return notNull + number + " < " + attributes.get("value") + "L";
+                default:
+                    throw new IllegalStateException(annotation);
+            }
+        }
+    }
+
+    private static final class UnsupportedConstraintException extends RuntimeException {
+
+        private final transient Element element;
+
+        UnsupportedConstraintException(String message, Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}